@@ -6,19 +6,33 @@ package io.airbyte.analytics;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.segment.analytics.Analytics;
 import com.segment.analytics.messages.AliasMessage;
 import com.segment.analytics.messages.IdentifyMessage;
 import com.segment.analytics.messages.TrackMessage;
 import io.airbyte.config.StandardWorkspace;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.context.ServerRequestContext;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
@@ -57,62 +71,128 @@ public class SegmentTrackingClient implements TrackingClient {
   private static final String AIRBYTE_TRACKED_AT = "tracked_at";
   protected static final String UNKNOWN = "unknown";
 
+  // Identities only change when a workspace is updated, which is followed by a call to identify that
+  // invalidates the cached identity. That call is only made by the server, so other processes keep
+  // using a cached identity, which includes the email and anonymousDataCollection, until it expires:
+  // the TTL is kept short so that a workspace opting out of data collection is honored quickly.
+  private static final Duration IDENTITY_CACHE_TTL = Duration.ofSeconds(15);
+  private static final long IDENTITY_CACHE_MAX_SIZE = 10_000;
+  // Events are dropped rather than blocking the caller if the tracking thread can't keep up.
+  private static final int TRACKING_QUEUE_CAPACITY = 10_000;
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
   // Analytics is threadsafe.
   private final Analytics analytics;
-  private final Function<UUID, TrackingIdentity> identityFetcher;
+  private final LoadingCache<UUID, TrackingIdentity> identityCache;
   private final Deployment deployment;
   private final String airbyteRole;
+  private final Executor trackingExecutor;
 
   @VisibleForTesting
   SegmentTrackingClient(final Function<UUID, TrackingIdentity> identityFetcher,
                         final Deployment deployment,
                         final String airbyteRole,
                         final Analytics analytics) {
-    this.identityFetcher = identityFetcher;
+    this(identityFetcher, deployment, airbyteRole, analytics, MoreExecutors.directExecutor());
+  }
+
+  @VisibleForTesting
+  SegmentTrackingClient(final Function<UUID, TrackingIdentity> identityFetcher,
+                        final Deployment deployment,
+                        final String airbyteRole,
+                        final Analytics analytics,
+                        final Executor trackingExecutor) {
+    this.identityCache = CacheBuilder.newBuilder()
+        .expireAfterWrite(IDENTITY_CACHE_TTL)
+        .maximumSize(IDENTITY_CACHE_MAX_SIZE)
+        .build(CacheLoader.from(identityFetcher::apply));
     this.deployment = deployment;
     this.analytics = analytics;
     this.airbyteRole = airbyteRole;
+    this.trackingExecutor = trackingExecutor;
   }
 
   public SegmentTrackingClient(final Function<UUID, TrackingIdentity> identityFetcher,
                                final Deployment deployment,
                                final String airbyteRole) {
-    this(identityFetcher, deployment, airbyteRole, Analytics.builder(SEGMENT_WRITE_KEY).build());
+    this(identityFetcher, deployment, airbyteRole, Analytics.builder(SEGMENT_WRITE_KEY).build(), createTrackingExecutor());
+    Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "segment-tracking-shutdown"));
+  }
+
+  /**
+   * Single daemon thread with a bounded queue, so that resolving identities and building messages
+   * never happens on request or job threads. The Segment client then batches the messages before
+   * uploading them.
+   */
+  private static Executor createTrackingExecutor() {
+    return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(TRACKING_QUEUE_CAPACITY),
+        new ThreadFactoryBuilder().setNameFormat("segment-tracking-%d").setDaemon(true).build(),
+        (task, executor) -> {
+          LOGGER.warn("Tracking queue is full or shut down, dropping event.");
+          MetricClientFactory.getMetricClient().count(OssMetricsRegistry.TRACKING_EVENTS_DROPPED, 1);
+        });
+  }
+
+  /**
+   * Send the events that are still queued, then flush the Segment client so that they are uploaded
+   * before the process exits.
+   */
+  @VisibleForTesting
+  void shutdown() {
+    if (trackingExecutor instanceof ExecutorService executorService) {
+      executorService.shutdown();
+      try {
+        if (!executorService.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+          LOGGER.warn("Timed out while sending the queued tracking events.");
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    analytics.flush();
   }
 
   @Override
   public void identify(final UUID workspaceId) {
-    final TrackingIdentity trackingIdentity = identityFetcher.apply(workspaceId);
-    final Map<String, Object> identityMetadata = new HashMap<>();
-
-    // deployment
-    identityMetadata.put(AIRBYTE_VERSION_KEY, trackingIdentity.getAirbyteVersion().serialize());
-    identityMetadata.put("deployment_mode", deployment.getDeploymentMode());
-    identityMetadata.put("deployment_env", deployment.getDeploymentEnv());
-    identityMetadata.put("deployment_id", deployment.getDeploymentId());
-
-    // workspace (includes info that in the future we would store in an organization)
-    identityMetadata.put("anonymized", trackingIdentity.isAnonymousDataCollection());
-    identityMetadata.put("subscribed_newsletter", trackingIdentity.isNews());
-    identityMetadata.put("subscribed_security", trackingIdentity.isSecurityUpdates());
-    trackingIdentity.getEmail().ifPresent(email -> identityMetadata.put("email", email));
-
-    // other
-    if (!Strings.isNullOrEmpty(airbyteRole)) {
-      identityMetadata.put(AIRBYTE_ROLE, airbyteRole);
-    }
+    runAsync("identify", workspaceId, () -> {
+      // identify is called when a workspace changes, so it always re-fetches the identity.
+      identityCache.invalidate(workspaceId);
+      final TrackingIdentity trackingIdentity = getTrackingIdentity(workspaceId);
+      final Map<String, Object> identityMetadata = new HashMap<>();
+
+      // deployment
+      identityMetadata.put(AIRBYTE_VERSION_KEY, trackingIdentity.getAirbyteVersion().serialize());
+      identityMetadata.put("deployment_mode", deployment.getDeploymentMode());
+      identityMetadata.put("deployment_env", deployment.getDeploymentEnv());
+      identityMetadata.put("deployment_id", deployment.getDeploymentId());
+
+      // workspace (includes info that in the future we would store in an organization)
+      identityMetadata.put("anonymized", trackingIdentity.isAnonymousDataCollection());
+      identityMetadata.put("subscribed_newsletter", trackingIdentity.isNews());
+      identityMetadata.put("subscribed_security", trackingIdentity.isSecurityUpdates());
+      trackingIdentity.getEmail().ifPresent(email -> identityMetadata.put("email", email));
+
+      // other
+      if (!Strings.isNullOrEmpty(airbyteRole)) {
+        identityMetadata.put(AIRBYTE_ROLE, airbyteRole);
+      }
 
-    final String joinKey = trackingIdentity.getCustomerId().toString();
-    analytics.enqueue(IdentifyMessage.builder()
-        // user id is scoped by workspace. there is no cross-workspace tracking.
-        .userId(joinKey)
-        .traits(identityMetadata));
+      final String joinKey = trackingIdentity.getCustomerId().toString();
+      analytics.enqueue(IdentifyMessage.builder()
+          // user id is scoped by workspace. there is no cross-workspace tracking.
+          .userId(joinKey)
+          .traits(identityMetadata));
+    });
   }
 
   @Override
   public void alias(final UUID workspaceId, final String previousCustomerId) {
-    final var joinKey = identityFetcher.apply(workspaceId).getCustomerId().toString();
-    analytics.enqueue(AliasMessage.builder(previousCustomerId).userId(joinKey));
+    runAsync("alias", workspaceId, () -> {
+      identityCache.invalidate(workspaceId);
+      final var joinKey = getTrackingIdentity(workspaceId).getCustomerId().toString();
+      analytics.enqueue(AliasMessage.builder(previousCustomerId).userId(joinKey));
+    });
   }
 
   @Override
@@ -127,24 +207,43 @@ public class SegmentTrackingClient implements TrackingClient {
       return;
     }
 
+    // the request context and the time of the event must be captured on the calling thread.
     final Map<String, Object> mapCopy = new HashMap<>(metadata);
-    final TrackingIdentity trackingIdentity = identityFetcher.apply(workspaceId);
-
     final Optional<String> airbyteSource = getAirbyteSource();
     mapCopy.put(AIRBYTE_SOURCE, airbyteSource.orElse(UNKNOWN));
-
-    // Always add these traits.
-    mapCopy.put(AIRBYTE_VERSION_KEY, trackingIdentity.getAirbyteVersion().serialize());
-    mapCopy.put(CUSTOMER_ID_KEY, trackingIdentity.getCustomerId());
     mapCopy.put(AIRBYTE_TRACKED_AT, Instant.now().toString());
-    if (!metadata.isEmpty()) {
-      trackingIdentity.getEmail().ifPresent(email -> mapCopy.put("email", email));
-    }
 
-    final var joinKey = trackingIdentity.getCustomerId().toString();
-    analytics.enqueue(TrackMessage.builder(action)
-        .userId(joinKey)
-        .properties(mapCopy));
+    runAsync(action, workspaceId, () -> {
+      final TrackingIdentity trackingIdentity = getTrackingIdentity(workspaceId);
+
+      // Always add these traits.
+      mapCopy.put(AIRBYTE_VERSION_KEY, trackingIdentity.getAirbyteVersion().serialize());
+      mapCopy.put(CUSTOMER_ID_KEY, trackingIdentity.getCustomerId());
+      if (!metadata.isEmpty()) {
+        trackingIdentity.getEmail().ifPresent(email -> mapCopy.put("email", email));
+      }
+
+      final var joinKey = trackingIdentity.getCustomerId().toString();
+      analytics.enqueue(TrackMessage.builder(action)
+          .userId(joinKey)
+          .properties(mapCopy));
+    });
+  }
+
+  private TrackingIdentity getTrackingIdentity(final UUID workspaceId) {
+    return identityCache.getUnchecked(workspaceId);
+  }
+
+  private void runAsync(final String action, final UUID workspaceId, final Runnable task) {
+    trackingExecutor.execute(() -> {
+      try {
+        task.run();
+      } catch (final UncheckedExecutionException e) {
+        LOGGER.warn("Could not fetch the tracking identity of workspace {} to track action {}", workspaceId, action, e.getCause());
+      } catch (final RuntimeException e) {
+        LOGGER.error("Could not track action {} for workspace {}", action, workspaceId, e);
+      }
+    });
   }
 
   private Optional<String> getAirbyteSource() {
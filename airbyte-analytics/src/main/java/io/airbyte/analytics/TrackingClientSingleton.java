@@ -117,8 +117,6 @@ public class TrackingClientSingleton {
     }
   }
 
-  // todo (cgardens) - trackingIdentityFetcher should probably have some sort of caching where it is
-  // only re-fetched on identify or alias.
   /**
    * Creates a tracking client that uses the appropriate strategy from an identity supplier.
    *
@@ -127,8 +125,9 @@ public class TrackingClientSingleton {
    *        instance is running.
    * @param airbyteRole - is it an airbyte employee
    * @param trackingIdentityFetcher - how we get the identity of the user. we have a function that
-   *        takes in workspaceId and returns the tracking identity. it does not have any caching as
-   *        email or other fields on the identity can change over time.
+   *        takes in workspaceId and returns the tracking identity. it does not have any caching
+   *        itself; the segment client caches identities for a bounded time and re-fetches them on
+   *        identify or alias, as email or other fields on the identity can change over time.
    * @return tracking client
    */
   @VisibleForTesting
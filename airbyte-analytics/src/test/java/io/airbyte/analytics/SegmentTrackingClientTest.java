@@ -11,13 +11,16 @@ import static io.airbyte.analytics.SegmentTrackingClient.UNKNOWN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.segment.analytics.Analytics;
 import com.segment.analytics.messages.IdentifyMessage;
 import com.segment.analytics.messages.TrackMessage;
@@ -27,14 +30,20 @@ import io.airbyte.config.Configs.WorkerEnvironment;
 import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.context.ServerRequestContext;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 class SegmentTrackingClientTest {
 
@@ -179,6 +188,76 @@ class SegmentTrackingClientTest {
     assertEquals(analyticSource, actual.properties().get(AIRBYTE_SOURCE));
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void testIdentityIsCachedUntilIdentify() {
+    final Function<UUID, TrackingIdentity> identityFetcher = mock(Function.class);
+    when(identityFetcher.apply(WORKSPACE_ID)).thenReturn(IDENTITY);
+    segmentTrackingClient = new SegmentTrackingClient(identityFetcher, DEPLOYMENT, null, analytics);
+
+    segmentTrackingClient.track(WORKSPACE_ID, JUMP);
+    segmentTrackingClient.track(WORKSPACE_ID, JUMP);
+    verify(identityFetcher, times(1)).apply(WORKSPACE_ID);
+
+    segmentTrackingClient.identify(WORKSPACE_ID);
+    verify(identityFetcher, times(2)).apply(WORKSPACE_ID);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testIdentityFetchFailureIsNotPropagated() {
+    final Function<UUID, TrackingIdentity> identityFetcher = mock(Function.class);
+    when(identityFetcher.apply(WORKSPACE_ID)).thenThrow(new RuntimeException("workspace not found")).thenReturn(IDENTITY);
+    segmentTrackingClient = new SegmentTrackingClient(identityFetcher, DEPLOYMENT, null, analytics);
+
+    segmentTrackingClient.track(WORKSPACE_ID, JUMP);
+    verify(analytics, never()).enqueue(any());
+
+    // failures are not cached
+    segmentTrackingClient.track(WORKSPACE_ID, JUMP);
+    verify(analytics).enqueue(any());
+  }
+
+  @Test
+  void testShutdownSendsQueuedEvents() {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final CountDownLatch release = new CountDownLatch(1);
+    executor.execute(() -> Uninterruptibles.awaitUninterruptibly(release));
+    segmentTrackingClient = new SegmentTrackingClient(MOCK_TRACKING_IDENTITY, DEPLOYMENT, null, analytics, executor);
+
+    segmentTrackingClient.track(WORKSPACE_ID, JUMP);
+    release.countDown();
+    segmentTrackingClient.shutdown();
+
+    final InOrder inOrder = inOrder(analytics);
+    inOrder.verify(analytics).enqueue(any());
+    inOrder.verify(analytics).flush();
+  }
+
+  @Test
+  void testTrackIsAsynchronous() {
+    final String analyticSource = "test";
+    final HttpHeaders httpHeaders = mock(HttpHeaders.class);
+    final HttpRequest<?> httpRequest = mock(HttpRequest.class);
+    when(httpHeaders.get(AIRBYTE_ANALYTIC_SOURCE_HEADER)).thenReturn(analyticSource);
+    when(httpRequest.getHeaders()).thenReturn(httpHeaders);
+
+    final List<Runnable> pendingTasks = new ArrayList<>();
+    segmentTrackingClient = new SegmentTrackingClient(MOCK_TRACKING_IDENTITY, DEPLOYMENT, null, analytics, pendingTasks::add);
+
+    // the request context is only available on the calling thread.
+    ServerRequestContext.with(httpRequest, () -> segmentTrackingClient.track(WORKSPACE_ID, JUMP));
+    verify(analytics, never()).enqueue(any());
+
+    pendingTasks.forEach(Runnable::run);
+
+    final ArgumentCaptor<TrackMessage.Builder> mockBuilder = ArgumentCaptor.forClass(TrackMessage.Builder.class);
+    verify(analytics).enqueue(mockBuilder.capture());
+    final TrackMessage actual = mockBuilder.getValue().build();
+    assertEquals(analyticSource, actual.properties().get(AIRBYTE_SOURCE));
+    assertEquals(IDENTITY.getCustomerId().toString(), actual.userId());
+  }
+
   private static ImmutableMap<String, Object> filterTrackedAtProperty(final Map<String, ?> properties) {
     final String trackedAtKey = "tracked_at";
     assertTrue(properties.containsKey(trackedAtKey));
@@ -199,7 +199,7 @@ open class ConnectionsController(
     includeDeleted: Boolean?,
     limit: Int?,
     offset: Int?,
-
+    cursor: String?,
     userInfo: String?,
   ): Response {
     val userId: UUID = userService.getUserIdFromUserInfoString(userInfo)
@@ -211,6 +211,7 @@ open class ConnectionsController(
         limit!!,
         offset!!,
         includeDeleted!!,
+        cursor,
         getLocalUserInfoIfNull(userInfo),
       )
     }, CONNECTIONS_PATH, GET, userId)!!
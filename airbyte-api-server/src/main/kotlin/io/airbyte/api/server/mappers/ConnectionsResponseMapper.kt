@@ -24,6 +24,8 @@ object ConnectionsResponseMapper {
    * @param includeDeleted did we include deleted workspaces or not?
    * @param limit Number of JobResponses to be outputted
    * @param offset Offset of the pagination
+   * @param paginatedWithCursor whether the page was fetched after a cursor, in which case there is no
+   * previous URL
    * @param apiHost Host url e.g. api.airbyte.com
    * @return JobsResponse List of JobResponse along with a next and previous https requests
    */
@@ -33,16 +35,23 @@ object ConnectionsResponseMapper {
     includeDeleted: Boolean,
     limit: Int,
     offset: Int,
+    paginatedWithCursor: Boolean,
     apiHost: String,
   ): ConnectionsResponse {
-    val uriBuilder = PaginationMapper.getBuilder(apiHost, CONNECTIONS_PATH)
-      .queryParam(WORKSPACE_IDS, PaginationMapper.uuidListToQueryString(workspaceIds))
-      .queryParam(INCLUDE_DELETED, includeDeleted)
+    // the builders are mutable, so the next and previous URLs each get their own
+    val uriBuilder = {
+      PaginationMapper.getBuilder(apiHost, CONNECTIONS_PATH)
+        .queryParam(WORKSPACE_IDS, PaginationMapper.uuidListToQueryString(workspaceIds))
+        .queryParam(INCLUDE_DELETED, includeDeleted)
+    }
     val connectionsResponse = ConnectionsResponse()
-    connectionsResponse.setNext(PaginationMapper.getNextUrl(connectionReadList.connections, limit, offset, uriBuilder))
-    connectionsResponse.setPrevious(PaginationMapper.getPreviousUrl(limit, offset, uriBuilder))
+    // connections are paginated in id order, which for uuids is the order of their string representation
+    val connections = connectionReadList.connections.sortedBy { it.connectionId.toString() }
+    // the next URL always uses a cursor so that following it stays as fast as reading the first page
+    connectionsResponse.setNext(PaginationMapper.getNextCursorUrl(connections, limit, connections.lastOrNull()?.connectionId, uriBuilder()))
+    connectionsResponse.setPrevious(if (paginatedWithCursor) "" else PaginationMapper.getPreviousUrl(limit, offset, uriBuilder()))
     connectionsResponse.setData(
-      connectionReadList.connections.map { connectionRead: ConnectionRead -> ConnectionReadMapper.from(connectionRead, connectionRead.workspaceId) },
+      connections.map { connectionRead: ConnectionRead -> ConnectionReadMapper.from(connectionRead, connectionRead.workspaceId) },
     )
     return connectionsResponse
   }
@@ -4,8 +4,11 @@
 
 package io.airbyte.api.server.mappers
 
+import io.airbyte.api.server.problems.BadRequestProblem
 import io.micronaut.core.util.CollectionUtils
 import io.micronaut.http.uri.UriBuilder
+import java.nio.charset.StandardCharsets
+import java.util.Base64
 import java.util.Optional
 import java.util.UUID
 
@@ -15,6 +18,7 @@ import java.util.UUID
 object PaginationMapper {
   var LIMIT = "limit"
   var OFFSET = "offset"
+  var CURSOR = "cursor"
 
   /**
    * Base URI builder we need to create.
@@ -92,6 +96,49 @@ object PaginationMapper {
     }
   }
 
+  /**
+   * Get the full next URL of a page ordered by id. The next page starts after the last id of this
+   * one, so it doesn't need an offset.
+   *
+   * @param collection list of things we just got from the endpoint.
+   * @param limit current limit
+   * @param lastId id of the last thing we just got
+   * @param uriBuilder the URL builder created from getBuilder
+   * @return a String URL that can be put into the response.
+   */
+  fun getNextCursorUrl(collection: Collection<*>, limit: Int, lastId: UUID?, uriBuilder: UriBuilder): String {
+    return if (lastId != null && getNextOffset(collection, limit, 0).isPresent) {
+      uriBuilder.queryParam(LIMIT, limit)
+        .replaceQueryParam(CURSOR, encodeCursor(lastId)).toString()
+    } else {
+      ""
+    }
+  }
+
+  /**
+   * Cursors are opaque to users so that what they hold can change without breaking them.
+   *
+   * @param id id the next page starts after
+   * @return cursor
+   */
+  fun encodeCursor(id: UUID): String {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().toByteArray(StandardCharsets.UTF_8))
+  }
+
+  /**
+   * Reads a cursor built by encodeCursor.
+   *
+   * @param cursor cursor from a next URL
+   * @return id the page starts after
+   */
+  fun decodeCursor(cursor: String): UUID {
+    return try {
+      UUID.fromString(String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8))
+    } catch (e: IllegalArgumentException) {
+      throw BadRequestProblem("Invalid cursor: $cursor")
+    }
+  }
+
   /**
    * Helper to turn a list of UUIDs into a pagination acceptable string.
    *
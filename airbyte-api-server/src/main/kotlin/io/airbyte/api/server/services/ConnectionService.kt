@@ -9,7 +9,6 @@ import io.airbyte.airbyte_api.model.generated.ConnectionCreateRequest
 import io.airbyte.airbyte_api.model.generated.ConnectionPatchRequest
 import io.airbyte.airbyte_api.model.generated.ConnectionResponse
 import io.airbyte.airbyte_api.model.generated.ConnectionsResponse
-import io.airbyte.airbyte_api.model.generated.SourceResponse
 import io.airbyte.api.client.model.generated.AirbyteCatalog
 import io.airbyte.api.client.model.generated.ConnectionCreate
 import io.airbyte.api.client.model.generated.ConnectionIdRequestBody
@@ -25,6 +24,7 @@ import io.airbyte.api.server.mappers.ConnectionCreateMapper
 import io.airbyte.api.server.mappers.ConnectionReadMapper
 import io.airbyte.api.server.mappers.ConnectionUpdateMapper
 import io.airbyte.api.server.mappers.ConnectionsResponseMapper
+import io.airbyte.api.server.mappers.PaginationMapper
 import io.airbyte.api.server.problems.UnexpectedProblem
 import io.micronaut.context.annotation.Secondary
 import io.micronaut.context.annotation.Value
@@ -71,7 +71,7 @@ interface ConnectionService {
     limit: Int = 20,
     offset: Int = 0,
     includeDeleted: Boolean = false,
-
+    cursor: String? = null,
     userInfo: String?,
   ): ConnectionsResponse
 }
@@ -86,6 +86,9 @@ class ConnectionServiceImpl(
 
   companion object {
     private val log = LoggerFactory.getLogger(ConnectionServiceImpl::class.java)
+
+    // thread-safe once configured, so it is shared by all requests
+    private val objectMapper = ObjectMapper()
   }
 
   @Value("\${airbyte.api.host}")
@@ -116,7 +119,6 @@ class ConnectionServiceImpl(
     ConfigClientErrorHandler.handleCreateConnectionError(response, connectionCreateRequest)
     log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
 
-    val objectMapper = ObjectMapper()
     return try {
       ConnectionReadMapper.from(
         objectMapper.readValue(
@@ -162,12 +164,14 @@ class ConnectionServiceImpl(
     ConfigClientErrorHandler.handleError(response, connectionId.toString())
     log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
 
-    // get workspace id from source id
-    val sourceResponse: SourceResponse = sourceService.getSource(response.body()!!.sourceId, userInfo)
+    val connectionRead = response.body()!!
+    // the connection comes with its workspace id, only servers that predate it need the extra call
+    val workspaceId: UUID = connectionRead.workspaceId
+      ?: sourceService.getSource(connectionRead.sourceId, userInfo).workspaceId
 
     return ConnectionReadMapper.from(
-      response.body()!!,
-      sourceResponse.workspaceId,
+      connectionRead,
+      workspaceId,
     )
   }
 
@@ -202,7 +206,6 @@ class ConnectionServiceImpl(
     ConfigClientErrorHandler.handleError(response, connectionId.toString())
     log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
 
-    val objectMapper = ObjectMapper()
     return try {
       ConnectionReadMapper.from(
         objectMapper.readValue(
@@ -225,15 +228,18 @@ class ConnectionServiceImpl(
     limit: Int,
     offset: Int,
     includeDeleted: Boolean,
+    cursor: String?,
     userInfo: String?,
   ): ConnectionsResponse {
     val pagination: Pagination = Pagination().pageSize(limit).rowOffset(offset)
+    val afterConnectionId: UUID? = cursor?.let { PaginationMapper.decodeCursor(it) }
     val workspaceIdsToQuery = workspaceIds.ifEmpty { userService.getAllWorkspaceIdsForUser(null, userInfo) }
 
     val listConnectionsForWorkspacesRequestBody = ListConnectionsForWorkspacesRequestBody()
       .workspaceIds(workspaceIdsToQuery)
       .includeDeleted(includeDeleted)
       .pagination(pagination)
+      .afterConnectionId(afterConnectionId)
 
     val response = try {
       configApiClient.listConnectionsForWorkspaces(listConnectionsForWorkspacesRequestBody, userInfo)
@@ -249,6 +255,7 @@ class ConnectionServiceImpl(
       includeDeleted,
       limit,
       offset,
+      afterConnectionId != null,
       publicApiHost!!,
     )
   }
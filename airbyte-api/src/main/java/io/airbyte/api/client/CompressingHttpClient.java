@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.api.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.PushPromiseHandler;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+
+/**
+ * {@link HttpClient} that compresses the traffic of the generated API clients, which can't be
+ * configured to do it themselves.
+ * <p>
+ * Request bodies of a known length at or above the threshold are sent with the deflate content
+ * encoding. Responses are requested with the same encoding, which the server applies above its own
+ * threshold, and are inflated before they reach the body handler of the caller. A negative
+ * threshold disables request compression, which is only safe to enable for servers that decode
+ * deflated request bodies.
+ */
+public class CompressingHttpClient extends HttpClient {
+
+  static final String DEFLATE = "deflate";
+  private static final String ACCEPT_ENCODING = "Accept-Encoding";
+  private static final String CONTENT_ENCODING = "Content-Encoding";
+
+  private final HttpClient delegate;
+  private final long requestCompressionThresholdBytes;
+
+  public CompressingHttpClient(final HttpClient delegate, final long requestCompressionThresholdBytes) {
+    this.delegate = delegate;
+    this.requestCompressionThresholdBytes = requestCompressionThresholdBytes;
+  }
+
+  @Override
+  public <T> HttpResponse<T> send(final HttpRequest request, final BodyHandler<T> responseBodyHandler)
+      throws IOException, InterruptedException {
+    final HttpRequest compressed;
+    try {
+      compressed = compress(request).get();
+    } catch (final ExecutionException e) {
+      throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+    }
+    return delegate.send(compressed, inflating(responseBodyHandler));
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(final HttpRequest request, final BodyHandler<T> responseBodyHandler) {
+    return compress(request).thenCompose(compressed -> delegate.sendAsync(compressed, inflating(responseBodyHandler)));
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(final HttpRequest request,
+                                                          final BodyHandler<T> responseBodyHandler,
+                                                          final PushPromiseHandler<T> pushPromiseHandler) {
+    return compress(request).thenCompose(compressed -> delegate.sendAsync(compressed, inflating(responseBodyHandler), pushPromiseHandler));
+  }
+
+  private CompletableFuture<HttpRequest> compress(final HttpRequest request) {
+    final HttpRequest.Builder builder = HttpRequest.newBuilder(request, (name, value) -> true)
+        .setHeader(ACCEPT_ENCODING, DEFLATE);
+    final Optional<BodyPublisher> body = request.bodyPublisher();
+    if (requestCompressionThresholdBytes >= 0 && body.isPresent()
+        && body.get().contentLength() >= requestCompressionThresholdBytes
+        && request.headers().firstValue(CONTENT_ENCODING).isEmpty()) {
+      return deflate(body.get()).thenApply(deflated -> builder.setHeader(CONTENT_ENCODING, DEFLATE)
+          .method(request.method(), HttpRequest.BodyPublishers.ofByteArray(deflated))
+          .build());
+    }
+    return CompletableFuture.completedFuture(builder.build());
+  }
+
+  private static <T> BodyHandler<T> inflating(final BodyHandler<T> handler) {
+    return responseInfo -> {
+      final BodySubscriber<T> subscriber = handler.apply(responseInfo);
+      return responseInfo.headers().firstValue(CONTENT_ENCODING).filter(DEFLATE::equalsIgnoreCase).isPresent()
+          ? new InflatingBodySubscriber<>(subscriber)
+          : subscriber;
+    };
+  }
+
+  /**
+   * Deflates the chunks of the body as they are published, so that only the compressed copy is held.
+   */
+  private static CompletableFuture<byte[]> deflate(final BodyPublisher publisher) {
+    final CompletableFuture<byte[]> done = new CompletableFuture<>();
+    publisher.subscribe(new Flow.Subscriber<>() {
+
+      private final Deflater deflater = new Deflater();
+      private final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      private final byte[] buffer = new byte[8192];
+
+      @Override
+      public void onSubscribe(final Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(final ByteBuffer item) {
+        deflater.setInput(item);
+        while (!deflater.needsInput()) {
+          compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+      }
+
+      @Override
+      public void onError(final Throwable throwable) {
+        deflater.end();
+        done.completeExceptionally(new IOException("Failed to read the request body", throwable));
+      }
+
+      @Override
+      public void onComplete() {
+        deflater.finish();
+        while (!deflater.finished()) {
+          compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        done.complete(compressed.toByteArray());
+      }
+
+    });
+    return done;
+  }
+
+  @Override
+  public Optional<CookieHandler> cookieHandler() {
+    return delegate.cookieHandler();
+  }
+
+  @Override
+  public Optional<Duration> connectTimeout() {
+    return delegate.connectTimeout();
+  }
+
+  @Override
+  public Redirect followRedirects() {
+    return delegate.followRedirects();
+  }
+
+  @Override
+  public Optional<ProxySelector> proxy() {
+    return delegate.proxy();
+  }
+
+  @Override
+  public SSLContext sslContext() {
+    return delegate.sslContext();
+  }
+
+  @Override
+  public SSLParameters sslParameters() {
+    return delegate.sslParameters();
+  }
+
+  @Override
+  public Optional<Authenticator> authenticator() {
+    return delegate.authenticator();
+  }
+
+  @Override
+  public Version version() {
+    return delegate.version();
+  }
+
+  @Override
+  public Optional<Executor> executor() {
+    return delegate.executor();
+  }
+
+  /**
+   * Inflates each chunk of the body as it arrives and hands the result to the subscriber of the
+   * caller, one chunk for each received chunk so that its demand can be forwarded as is. A body that
+   * ends before the end of the deflated stream is reported as an error, not as a truncated body.
+   */
+  private static class InflatingBodySubscriber<T> implements BodySubscriber<T> {
+
+    private final BodySubscriber<T> downstream;
+    private final Inflater inflater = new Inflater();
+    private final byte[] buffer = new byte[8192];
+    private Flow.Subscription subscription;
+    private boolean failed;
+    private boolean receivedInput;
+
+    InflatingBodySubscriber(final BodySubscriber<T> downstream) {
+      this.downstream = downstream;
+    }
+
+    @Override
+    public CompletionStage<T> getBody() {
+      return downstream.getBody();
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      this.subscription = subscription;
+      downstream.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onNext(final List<ByteBuffer> item) {
+      if (failed) {
+        return;
+      }
+      final List<ByteBuffer> inflated = new ArrayList<>();
+      try {
+        for (final ByteBuffer compressed : item) {
+          receivedInput |= compressed.hasRemaining();
+          inflater.setInput(compressed);
+          while (!inflater.needsInput() && !inflater.finished()) {
+            final int length = inflater.inflate(buffer);
+            if (length > 0) {
+              inflated.add(ByteBuffer.wrap(Arrays.copyOf(buffer, length)));
+            } else if (inflater.needsDictionary()) {
+              throw new DataFormatException("Preset dictionaries are not supported");
+            }
+          }
+        }
+      } catch (final DataFormatException e) {
+        failed = true;
+        subscription.cancel();
+        inflater.end();
+        downstream.onError(new IOException("Failed to inflate the response body", e));
+        return;
+      }
+      downstream.onNext(inflated);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      if (!failed) {
+        inflater.end();
+        downstream.onError(throwable);
+      }
+    }
+
+    @Override
+    public void onComplete() {
+      if (failed) {
+        return;
+      }
+      // an empty body, e.g. the answer to a HEAD request, holds no deflated stream at all
+      final boolean truncated = receivedInput && !inflater.finished();
+      inflater.end();
+      if (truncated) {
+        downstream.onError(new IOException("The response body ended before the end of the deflated stream"));
+      } else {
+        downstream.onComplete();
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompressingHttpClientTest {
+
+  private static final String SMALL_BODY = "{}";
+  private static final String LARGE_BODY = "{\"streams\":[" + "{\"name\":\"stream\"},".repeat(1000) + "{}]}";
+
+  private HttpServer server;
+  private String requestEncoding;
+  private HttpClient client;
+
+  @BeforeEach
+  void setup() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    // echoes the request body, compressed when the client accepts it
+    server.createContext("/echo", this::echo);
+    server.createContext("/truncated", this::truncated);
+    server.start();
+    client = new CompressingHttpClient(HttpClient.newHttpClient(), 1024);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void testLargeBodiesAreCompressed() throws IOException, InterruptedException {
+    final HttpResponse<InputStream> response = client.send(post(LARGE_BODY), HttpResponse.BodyHandlers.ofInputStream());
+
+    assertEquals(CompressingHttpClient.DEFLATE, requestEncoding);
+    assertEquals(CompressingHttpClient.DEFLATE, response.headers().firstValue("Content-Encoding").orElseThrow());
+    try (final InputStream body = response.body()) {
+      assertEquals(LARGE_BODY, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void testSmallBodiesAreNotCompressed() throws IOException, InterruptedException {
+    final HttpResponse<String> response = client.send(post(SMALL_BODY), HttpResponse.BodyHandlers.ofString());
+
+    assertNull(requestEncoding);
+    assertEquals(SMALL_BODY, response.body());
+  }
+
+  @Test
+  void testRequestCompressionCanBeDisabled() throws IOException, InterruptedException {
+    client = new CompressingHttpClient(HttpClient.newHttpClient(), -1);
+
+    final HttpResponse<String> response = client.send(post(LARGE_BODY), HttpResponse.BodyHandlers.ofString());
+
+    assertNull(requestEncoding);
+    assertEquals(LARGE_BODY, response.body());
+  }
+
+  @Test
+  void testAsyncRequestsAndResponsesAreCompressed() throws Exception {
+    final HttpResponse<String> response = client.sendAsync(post(LARGE_BODY), HttpResponse.BodyHandlers.ofString()).get();
+
+    assertEquals(CompressingHttpClient.DEFLATE, requestEncoding);
+    assertEquals(LARGE_BODY, response.body());
+  }
+
+  @Test
+  void testTruncatedResponsesFail() {
+    final HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getAddress().getPort() + "/truncated")).build();
+
+    assertThrows(IOException.class, () -> client.send(request, HttpResponse.BodyHandlers.ofString()));
+  }
+
+  private HttpRequest post(final String body) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + server.getAddress().getPort() + "/echo"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private void echo(final HttpExchange exchange) throws IOException {
+    requestEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+    final byte[] body;
+    try (final InputStream in = exchange.getRequestBody()) {
+      body = requestEncoding == null ? in.readAllBytes() : new InflaterInputStream(in).readAllBytes();
+    }
+    final boolean compress = CompressingHttpClient.DEFLATE.equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"))
+        && body.length >= 1024;
+    final byte[] response = compress ? deflate(body) : body;
+    if (compress) {
+      exchange.getResponseHeaders().set("Content-Encoding", CompressingHttpClient.DEFLATE);
+    }
+    exchange.sendResponseHeaders(200, response.length);
+    try (final OutputStream out = exchange.getResponseBody()) {
+      out.write(response);
+    }
+  }
+
+  // answers with a deflated body cut short before the end of the deflated stream
+  private void truncated(final HttpExchange exchange) throws IOException {
+    final byte[] deflated = deflate(LARGE_BODY.getBytes(StandardCharsets.UTF_8));
+    final byte[] response = Arrays.copyOf(deflated, deflated.length / 2);
+    exchange.getResponseHeaders().set("Content-Encoding", CompressingHttpClient.DEFLATE);
+    exchange.sendResponseHeaders(200, response.length);
+    try (final OutputStream out = exchange.getResponseBody()) {
+      out.write(response);
+    }
+  }
+
+  private static byte[] deflate(final byte[] bytes) throws IOException {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (final DeflaterOutputStream out = new DeflaterOutputStream(compressed)) {
+      out.write(bytes);
+    }
+    return compressed.toByteArray();
+  }
+
+}
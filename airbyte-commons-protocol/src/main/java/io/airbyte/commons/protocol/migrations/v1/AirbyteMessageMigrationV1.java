@@ -11,6 +11,9 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.protocol.migrations.AirbyteMessageMigration;
 import io.airbyte.commons.protocol.migrations.util.RecordMigrations;
@@ -19,25 +22,47 @@ import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.Version;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.JsonSchemaReferenceTypes;
 import io.airbyte.validation.json.JsonSchemaValidator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * V1 Migration.
+ * <p>
+ * Records are migrated without round-tripping their data through Jackson: the envelope is copied
+ * field by field, and the data is migrated on its own. The migrated message may share parts of its
+ * data with the original one, which is never modified.
+ * <p>
+ * The catalog of a sync is fixed while the sync runs, so the streams whose records need to be
+ * downgraded are looked up once per catalog, not for every record.
  */
 // Disable V1 Migration, uncomment to re-enable
 // @Singleton
 public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.airbyte.protocol.models.v0.AirbyteMessage, AirbyteMessage> {
 
+  private static final Pattern NUMERIC_LITERAL = Pattern.compile("-?\\d+(\\.\\d+)?");
+
   private final JsonSchemaValidator validator;
 
+  /**
+   * Schemas of the streams that have numeric fields, by stream, for each catalog in use. Weak keys are
+   * compared by identity, so each sync gets the entry of its own catalog, which goes away with it.
+   */
+  private final LoadingCache<ConfiguredAirbyteCatalog, Map<StreamKey, JsonNode>> numericSchemasByCatalog = CacheBuilder.newBuilder()
+      .weakKeys()
+      .build(CacheLoader.from(AirbyteMessageMigrationV1::getNumericSchemas));
+
   public AirbyteMessageMigrationV1() {
     this(new JsonSchemaValidator());
   }
@@ -50,6 +75,10 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
   @Override
   public io.airbyte.protocol.models.v0.AirbyteMessage downgrade(final AirbyteMessage oldMessage,
                                                                 final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog) {
+    if (oldMessage.getType() == Type.RECORD && oldMessage.getRecord() != null) {
+      return downgradeRecordMessage(oldMessage, configuredAirbyteCatalog);
+    }
+
     final io.airbyte.protocol.models.v0.AirbyteMessage newMessage = Jsons.object(
         Jsons.jsonNode(oldMessage),
         io.airbyte.protocol.models.v0.AirbyteMessage.class);
@@ -58,22 +87,34 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
         final JsonNode schema = stream.getJsonSchema();
         SchemaMigrationV1.downgradeSchema(schema);
       }
-    } else if (oldMessage.getType() == Type.RECORD && oldMessage.getRecord() != null) {
-      if (configuredAirbyteCatalog.isPresent()) {
-        final ConfiguredAirbyteCatalog catalog = configuredAirbyteCatalog.get();
-        final io.airbyte.protocol.models.v0.AirbyteRecordMessage record = newMessage.getRecord();
-        final Optional<ConfiguredAirbyteStream> maybeStream = catalog.getStreams().stream()
-            .filter(stream -> Objects.equals(stream.getStream().getName(), record.getStream())
-                && Objects.equals(stream.getStream().getNamespace(), record.getNamespace()))
-            .findFirst();
-        // If this record doesn't belong to any configured stream, then there's no point downgrading it
-        // So only do the downgrade if we can find its stream
-        if (maybeStream.isPresent()) {
-          final JsonNode schema = maybeStream.get().getStream().getJsonSchema();
-          final JsonNode oldData = record.getData();
-          final MigratedNode downgradedNode = downgradeRecord(oldData, schema);
-          record.setData(downgradedNode.node());
-        }
+    }
+    return newMessage;
+  }
+
+  private io.airbyte.protocol.models.v0.AirbyteMessage downgradeRecordMessage(final AirbyteMessage oldMessage,
+                                                                              final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog) {
+    final AirbyteRecordMessage oldRecord = oldMessage.getRecord();
+    final JsonNode oldData = oldRecord.getData();
+    // The data is the only part of a record that can be large, leave it out of the conversion
+    final io.airbyte.protocol.models.v0.AirbyteRecordMessage newRecord = new io.airbyte.protocol.models.v0.AirbyteRecordMessage()
+        .withNamespace(oldRecord.getNamespace())
+        .withStream(oldRecord.getStream())
+        .withEmittedAt(oldRecord.getEmittedAt())
+        .withData(oldData);
+    oldRecord.getAdditionalProperties().forEach(newRecord::setAdditionalProperty);
+    final io.airbyte.protocol.models.v0.AirbyteMessage newMessage = new io.airbyte.protocol.models.v0.AirbyteMessage()
+        .withType(io.airbyte.protocol.models.v0.AirbyteMessage.Type.RECORD)
+        .withRecord(newRecord);
+    oldMessage.getAdditionalProperties().forEach(newMessage::setAdditionalProperty);
+
+    // If this record doesn't belong to any configured stream, then there's no point downgrading it
+    // So only do the downgrade if we can find its stream, and if it has numeric fields at all
+    if (oldData != null && configuredAirbyteCatalog.isPresent()) {
+      final JsonNode schema = numericSchemasByCatalog.getUnchecked(configuredAirbyteCatalog.get())
+          .get(new StreamKey(oldRecord.getStream(), oldRecord.getNamespace()));
+      if (schema != null) {
+        final MigratedNode downgradedNode = downgradeRecord(oldData, schema);
+        newRecord.setData(downgradedNode.node());
       }
     }
     return newMessage;
@@ -82,6 +123,23 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
   @Override
   public AirbyteMessage upgrade(final io.airbyte.protocol.models.v0.AirbyteMessage oldMessage,
                                 final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog) {
+    if (oldMessage.getType() == io.airbyte.protocol.models.v0.AirbyteMessage.Type.RECORD && oldMessage.getRecord() != null) {
+      final io.airbyte.protocol.models.v0.AirbyteRecordMessage oldRecord = oldMessage.getRecord();
+      final JsonNode oldData = oldRecord.getData();
+      // The data is the only part of a record that can be large, leave it out of the conversion
+      final AirbyteRecordMessage newRecord = new AirbyteRecordMessage()
+          .withNamespace(oldRecord.getNamespace())
+          .withStream(oldRecord.getStream())
+          .withEmittedAt(oldRecord.getEmittedAt())
+          .withData(oldData == null ? null : upgradeRecord(oldData));
+      oldRecord.getAdditionalProperties().forEach(newRecord::setAdditionalProperty);
+      final AirbyteMessage newMessage = new AirbyteMessage()
+          .withType(Type.RECORD)
+          .withRecord(newRecord);
+      oldMessage.getAdditionalProperties().forEach(newMessage::setAdditionalProperty);
+      return newMessage;
+    }
+
     // We're not introducing any changes to the structure of the record/catalog
     // so just clone a new message object, which we can edit in-place
     final AirbyteMessage newMessage = Jsons.object(
@@ -92,14 +150,50 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
         final JsonNode schema = stream.getJsonSchema();
         SchemaMigrationV1.upgradeSchema(schema);
       }
-    } else if (oldMessage.getType() == io.airbyte.protocol.models.v0.AirbyteMessage.Type.RECORD && oldMessage.getRecord() != null) {
-      final JsonNode oldData = newMessage.getRecord().getData();
-      final JsonNode newData = upgradeRecord(oldData);
-      newMessage.getRecord().setData(newData);
     }
     return newMessage;
   }
 
+  /**
+   * Index the schemas of the streams of a catalog whose records can contain anything to downgrade.
+   * The first stream wins if several streams share a name and namespace, as with a scan of the
+   * catalog.
+   */
+  private static Map<StreamKey, JsonNode> getNumericSchemas(final ConfiguredAirbyteCatalog catalog) {
+    final Map<StreamKey, JsonNode> numericSchemas = new HashMap<>();
+    final Set<StreamKey> seenStreams = new HashSet<>();
+    for (final ConfiguredAirbyteStream configuredStream : catalog.getStreams()) {
+      final AirbyteStream stream = configuredStream.getStream();
+      final StreamKey key = new StreamKey(stream.getName(), stream.getNamespace());
+      if (seenStreams.add(key) && hasNumericReference(stream.getJsonSchema())) {
+        numericSchemas.put(key, stream.getJsonSchema());
+      }
+    }
+    return numericSchemas;
+  }
+
+  /**
+   * Whether records of this schema can contain anything to downgrade. If not, walking their data is
+   * pointless. This stops at the first numeric field, and is cheap next to walking the data.
+   */
+  private static boolean hasNumericReference(final JsonNode schema) {
+    if (schema == null) {
+      return false;
+    }
+    if (schema.isObject() && schema.hasNonNull(REF_KEY)) {
+      final String type = schema.get(REF_KEY).asText();
+      if (JsonSchemaReferenceTypes.INTEGER_REFERENCE.equals(type) || JsonSchemaReferenceTypes.NUMBER_REFERENCE.equals(type)) {
+        return true;
+      }
+    }
+    for (final JsonNode child : schema) {
+      if (hasNumericReference(child)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Returns a copy of oldData, with numeric values converted to strings. String and boolean values
    * are returned as-is for convenience, i.e. this is not a true deep copy.
@@ -107,7 +201,7 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
   private static JsonNode upgradeRecord(final JsonNode oldData) {
     if (oldData.isNumber()) {
       // Base case: convert numbers to strings
-      return Jsons.convertValue(oldData.asText(), TextNode.class);
+      return TextNode.valueOf(oldData.asText());
     } else if (oldData.isObject()) {
       // Recurse into each field of the object
       final ObjectNode newData = (ObjectNode) Jsons.emptyObject();
@@ -157,7 +251,7 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
           }
         },
         (s, d) -> {
-          if (d.asText().matches("-?\\d+(\\.\\d+)?")) {
+          if (NUMERIC_LITERAL.matcher(d.asText()).matches()) {
             // If this string is a numeric literal, convert it to a numeric node.
             return new MigratedNode(Jsons.deserialize(d.asText()), true);
           } else {
@@ -168,6 +262,8 @@ public class AirbyteMessageMigrationV1 implements AirbyteMessageMigration<io.air
         data, schema);
   }
 
+  private record StreamKey(String name, String namespace) {}
+
   @Override
   public Version getPreviousVersion() {
     return AirbyteProtocolVersion.V0;
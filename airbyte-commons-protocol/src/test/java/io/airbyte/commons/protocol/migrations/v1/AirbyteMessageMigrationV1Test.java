@@ -677,6 +677,39 @@ class AirbyteMessageMigrationV1Test {
           """);
     }
 
+    @Test
+    void testUpgradeLeavesOldMessageUnchanged() {
+      final io.airbyte.protocol.models.v0.AirbyteMessage oldMessage = createRecordMessage(Jsons.deserialize("42"));
+
+      migration.upgrade(oldMessage, Optional.empty());
+
+      assertEquals(createRecordMessage(Jsons.deserialize("42")), oldMessage);
+    }
+
+    @Test
+    void testUpgradeCopiesRecordEnvelope() {
+      final io.airbyte.protocol.models.v0.AirbyteMessage oldMessage = new io.airbyte.protocol.models.v0.AirbyteMessage()
+          .withType(io.airbyte.protocol.models.v0.AirbyteMessage.Type.RECORD)
+          .withRecord(new io.airbyte.protocol.models.v0.AirbyteRecordMessage()
+              .withStream(STREAM_NAME)
+              .withNamespace(NAMESPACE_NAME)
+              .withEmittedAt(1234L)
+              .withData(Jsons.deserialize("42"))
+              .withAdditionalProperty("extra", "value"));
+
+      final AirbyteMessage upgradedMessage = migration.upgrade(oldMessage, Optional.empty());
+
+      final AirbyteMessage expectedMessage = new AirbyteMessage()
+          .withType(Type.RECORD)
+          .withRecord(new AirbyteRecordMessage()
+              .withStream(STREAM_NAME)
+              .withNamespace(NAMESPACE_NAME)
+              .withEmittedAt(1234L)
+              .withData(Jsons.deserialize("\"42\""))
+              .withAdditionalProperty("extra", "value"));
+      assertEquals(expectedMessage, upgradedMessage);
+    }
+
     private io.airbyte.protocol.models.v0.AirbyteMessage createRecordMessage(final JsonNode data) {
       return new io.airbyte.protocol.models.v0.AirbyteMessage().withType(io.airbyte.protocol.models.v0.AirbyteMessage.Type.RECORD)
           .withRecord(new io.airbyte.protocol.models.v0.AirbyteRecordMessage().withData(data));
@@ -1615,6 +1648,93 @@ class AirbyteMessageMigrationV1Test {
           """);
     }
 
+    @Test
+    void testDowngradeLooksUpEachRecordStream() {
+      final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+          new ConfiguredAirbyteStream().withStream(new io.airbyte.protocol.models.AirbyteStream()
+              .withName("string_stream")
+              .withNamespace(NAMESPACE_NAME)
+              .withJsonSchema(Jsons.deserialize("""
+                                                {"$ref": "WellKnownTypes.json#/definitions/String"}
+                                                """))),
+          new ConfiguredAirbyteStream().withStream(new io.airbyte.protocol.models.AirbyteStream()
+              .withName(STREAM_NAME)
+              .withNamespace(NAMESPACE_NAME)
+              .withJsonSchema(Jsons.deserialize("""
+                                                {"$ref": "WellKnownTypes.json#/definitions/Integer"}
+                                                """)))));
+      final AirbyteMessageMigrationV1 downgradeMigration = new AirbyteMessageMigrationV1(validator);
+
+      assertEquals(Jsons.deserialize("42"), downgradeData(downgradeMigration, catalog, STREAM_NAME));
+      assertEquals(Jsons.deserialize("\"42\""), downgradeData(downgradeMigration, catalog, "string_stream"));
+      assertEquals(Jsons.deserialize("\"42\""), downgradeData(downgradeMigration, catalog, "unknown_stream"));
+      assertEquals(Jsons.deserialize("42"), downgradeData(downgradeMigration, catalog, STREAM_NAME));
+    }
+
+    @Test
+    void testDowngradeLeavesOldMessageUnchanged() {
+      final ConfiguredAirbyteCatalog catalog = createConfiguredAirbyteCatalog(
+          """
+          {"$ref": "WellKnownTypes.json#/definitions/Integer"}
+          """);
+      final AirbyteMessage oldMessage = createRecordMessage(Jsons.deserialize("\"42\""));
+
+      new AirbyteMessageMigrationV1(validator).downgrade(oldMessage, Optional.of(catalog));
+
+      assertEquals(createRecordMessage(Jsons.deserialize("\"42\"")), oldMessage);
+    }
+
+    @Test
+    void testDowngradeLooksUpStreamsPerCatalog() {
+      final ConfiguredAirbyteCatalog stringCatalog = createConfiguredAirbyteCatalog(
+          """
+          {"$ref": "WellKnownTypes.json#/definitions/String"}
+          """);
+      final ConfiguredAirbyteCatalog integerCatalog = createConfiguredAirbyteCatalog(
+          """
+          {"$ref": "WellKnownTypes.json#/definitions/Integer"}
+          """);
+      final AirbyteMessageMigrationV1 downgradeMigration = new AirbyteMessageMigrationV1(validator);
+
+      // the same migration serves syncs with different catalogs
+      assertEquals(Jsons.deserialize("\"42\""), downgradeData(downgradeMigration, stringCatalog, STREAM_NAME));
+      assertEquals(Jsons.deserialize("42"), downgradeData(downgradeMigration, integerCatalog, STREAM_NAME));
+      assertEquals(Jsons.deserialize("\"42\""), downgradeData(downgradeMigration, stringCatalog, STREAM_NAME));
+      assertEquals(Jsons.deserialize("\"42\""), downgradeData(downgradeMigration, integerCatalog, "unknown_stream"));
+    }
+
+    @Test
+    void testDowngradeCopiesRecordEnvelope() {
+      final AirbyteMessage oldMessage = new AirbyteMessage()
+          .withType(Type.RECORD)
+          .withRecord(new AirbyteRecordMessage()
+              .withStream(STREAM_NAME)
+              .withNamespace(NAMESPACE_NAME)
+              .withEmittedAt(1234L)
+              .withData(Jsons.deserialize("\"42\""))
+              .withAdditionalProperty("extra", "value"));
+
+      final io.airbyte.protocol.models.v0.AirbyteMessage downgradedMessage = migration.downgrade(oldMessage, Optional.empty());
+
+      final io.airbyte.protocol.models.v0.AirbyteMessage expectedMessage = new io.airbyte.protocol.models.v0.AirbyteMessage()
+          .withType(io.airbyte.protocol.models.v0.AirbyteMessage.Type.RECORD)
+          .withRecord(new io.airbyte.protocol.models.v0.AirbyteRecordMessage()
+              .withStream(STREAM_NAME)
+              .withNamespace(NAMESPACE_NAME)
+              .withEmittedAt(1234L)
+              .withData(Jsons.deserialize("\"42\""))
+              .withAdditionalProperty("extra", "value"));
+      assertEquals(expectedMessage, downgradedMessage);
+    }
+
+    private JsonNode downgradeData(final AirbyteMessageMigrationV1 downgradeMigration,
+                                   final ConfiguredAirbyteCatalog catalog,
+                                   final String streamName) {
+      final AirbyteMessage message = new AirbyteMessage().withType(AirbyteMessage.Type.RECORD)
+          .withRecord(new AirbyteRecordMessage().withStream(streamName).withNamespace(NAMESPACE_NAME).withData(Jsons.deserialize("\"42\"")));
+      return downgradeMigration.downgrade(message, Optional.of(catalog)).getRecord().getData();
+    }
+
     private ConfiguredAirbyteCatalog createConfiguredAirbyteCatalog(final String schema) {
       return new ConfiguredAirbyteCatalog()
           .withStreams(List.of(new ConfiguredAirbyteStream().withStream(new io.airbyte.protocol.models.AirbyteStream()
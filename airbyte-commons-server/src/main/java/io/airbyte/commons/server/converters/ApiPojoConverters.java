@@ -11,6 +11,7 @@ import io.airbyte.api.model.generated.ConnectionSchedule;
 import io.airbyte.api.model.generated.ConnectionScheduleData;
 import io.airbyte.api.model.generated.ConnectionScheduleDataBasicSchedule;
 import io.airbyte.api.model.generated.ConnectionScheduleDataCron;
+import io.airbyte.api.model.generated.ConnectionSchedulingMetadataRead;
 import io.airbyte.api.model.generated.ConnectionState;
 import io.airbyte.api.model.generated.ConnectionStateType;
 import io.airbyte.api.model.generated.ConnectionStatus;
@@ -172,6 +173,24 @@ public class ApiPojoConverters {
     return connectionRead;
   }
 
+  /**
+   * Convert the fields of a connection that are needed to schedule it, leaving out its catalog.
+   *
+   * @param standardSync connection
+   * @return connection scheduling metadata
+   */
+  public static ConnectionSchedulingMetadataRead internalToConnectionSchedulingMetadataRead(final StandardSync standardSync) {
+    return new ConnectionSchedulingMetadataRead()
+        .connectionId(standardSync.getConnectionId())
+        .sourceId(standardSync.getSourceId())
+        .destinationId(standardSync.getDestinationId())
+        .status(toApiStatus(standardSync.getStatus()))
+        .breakingChange(standardSync.getBreakingChange())
+        .scheduleType(toApiConnectionScheduleType(standardSync))
+        .scheduleData(toApiConnectionScheduleData(standardSync))
+        .schedule(toLegacyConnectionSchedule(standardSync));
+  }
+
   public static JobType toApiJobType(final io.airbyte.config.JobTypeResourceLimit.JobType jobType) {
     return Enums.convertTo(jobType, JobType.class);
   }
@@ -22,6 +22,8 @@ import io.airbyte.api.model.generated.CatalogDiff;
 import io.airbyte.api.model.generated.ConnectionCreate;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.ConnectionReadList;
+import io.airbyte.api.model.generated.ConnectionSchedulingMetadataRead;
+import io.airbyte.api.model.generated.ConnectionSchedulingMetadataRequestBody;
 import io.airbyte.api.model.generated.ConnectionSearch;
 import io.airbyte.api.model.generated.ConnectionUpdate;
 import io.airbyte.api.model.generated.DestinationRead;
@@ -644,9 +646,46 @@ public class ConnectionsHandler {
     return new ConnectionReadList().connections(connectionReads);
   }
 
+  /**
+   * Get a connection, along with the id of its workspace so that callers don't need another call to
+   * find it.
+   *
+   * @param connectionId connection id
+   * @return connection read
+   */
   public ConnectionRead getConnection(final UUID connectionId)
       throws JsonValidationException, IOException, ConfigNotFoundException {
-    return buildConnectionRead(connectionId);
+    final StandardSync standardSync = configRepository.getStandardSync(connectionId);
+    return ApiPojoConverters.internalToConnectionRead(standardSync)
+        .workspaceId(workspaceHelper.getWorkspaceForConnectionIgnoreExceptions(standardSync.getSourceId(), standardSync.getDestinationId()));
+  }
+
+  /**
+   * Get what the scheduler needs to know about a connection to decide when to run its next sync. It
+   * is much cheaper to serve and to deserialize than {@link #getConnection(UUID)} because it doesn't
+   * include the catalog. The workspace and the last replication job cost a lookup each, so they are
+   * only included when requested.
+   *
+   * @param requestBody connection id and the optional fields to include
+   * @return connection scheduling metadata
+   */
+  public ConnectionSchedulingMetadataRead getConnectionSchedulingMetadata(final ConnectionSchedulingMetadataRequestBody requestBody)
+      throws JsonValidationException, IOException, ConfigNotFoundException {
+    final StandardSync standardSync = configRepository.getStandardSync(requestBody.getConnectionId());
+    final ConnectionSchedulingMetadataRead metadata = ApiPojoConverters.internalToConnectionSchedulingMetadataRead(standardSync);
+
+    if (Boolean.TRUE.equals(requestBody.getIncludeWorkspaceId())) {
+      metadata.workspaceId(workspaceHelper.getWorkspaceForConnectionIgnoreExceptions(standardSync.getSourceId(), standardSync.getDestinationId()));
+    }
+
+    if (Boolean.TRUE.equals(requestBody.getIncludeLastReplicationJob())) {
+      final Optional<Job> lastReplicationJob = jobPersistence.getLastReplicationJob(requestBody.getConnectionId());
+      lastReplicationJob.ifPresent(job -> metadata
+          .lastReplicationJobCreatedAt(job.getCreatedAtInSecond())
+          .lastReplicationJobStartedAt(job.getStartedAtInSecond().orElse(null)));
+    }
+
+    return metadata;
   }
 
   public CatalogDiff getDiff(final AirbyteCatalog oldCatalog, final AirbyteCatalog newCatalog, final ConfiguredAirbyteCatalog configuredCatalog)
@@ -812,7 +851,8 @@ public class ConnectionsHandler {
         listConnectionsForWorkspacesRequestBody.getWorkspaceIds(),
         listConnectionsForWorkspacesRequestBody.getIncludeDeleted(),
         PaginationHelper.pageSize(listConnectionsForWorkspacesRequestBody.getPagination()),
-        PaginationHelper.rowOffset(listConnectionsForWorkspacesRequestBody.getPagination()));
+        PaginationHelper.rowOffset(listConnectionsForWorkspacesRequestBody.getPagination()),
+        listConnectionsForWorkspacesRequestBody.getAfterConnectionId());
 
     for (final Entry<UUID, List<StandardSync>> entry : workspaceIdToStandardSyncsMap.entrySet()) {
       final UUID workspaceId = entry.getKey();
@@ -46,6 +46,7 @@ import io.airbyte.config.helpers.StateMessageHelper;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigInjector;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.ConnectionWithActors;
 import io.airbyte.featureflag.Connection;
 import io.airbyte.featureflag.Context;
 import io.airbyte.featureflag.DestinationDefinition;
@@ -131,7 +132,8 @@ public class JobInputHandler {
       ActorDefinitionVersion sourceVersion = null;
 
       final UUID connectionId = UUID.fromString(job.getScope());
-      final StandardSync standardSync = configRepository.getStandardSync(connectionId);
+      final ConnectionWithActors connectionWithActors = configRepository.getConnectionWithActors(connectionId);
+      final StandardSync standardSync = connectionWithActors.standardSync();
 
       final AttemptSyncConfig attemptSyncConfig = new AttemptSyncConfig();
       getCurrentConnectionState(connectionId).ifPresent(attemptSyncConfig::setState);
@@ -139,9 +141,9 @@ public class JobInputHandler {
       final JobConfig.ConfigType jobConfigType = job.getConfig().getConfigType();
 
       if (JobConfig.ConfigType.SYNC.equals(jobConfigType)) {
-        final SourceConnection source = configRepository.getSourceConnection(standardSync.getSourceId());
+        final SourceConnection source = connectionWithActors.source().source();
         sourceVersion = actorDefinitionVersionHelper.getSourceVersion(
-            configRepository.getStandardSourceDefinition(source.getSourceDefinitionId()),
+            connectionWithActors.source().definition(),
             source.getWorkspaceId(),
             source.getSourceId());
         final JsonNode sourceConfiguration = oAuthConfigSupplier.injectSourceOAuthParameters(
@@ -159,10 +161,10 @@ public class JobInputHandler {
 
       final JobRunConfig jobRunConfig = TemporalWorkflowUtils.createJobRunConfig(jobId, attempt);
 
-      final DestinationConnection destination = configRepository.getDestinationConnection(standardSync.getDestinationId());
+      final DestinationConnection destination = connectionWithActors.destination().destination();
       final ActorDefinitionVersion destinationVersion =
           actorDefinitionVersionHelper.getDestinationVersion(
-              configRepository.getStandardDestinationDefinition(destination.getDestinationDefinitionId()),
+              connectionWithActors.destination().definition(),
               destination.getWorkspaceId(),
               destination.getDestinationId());
       final JsonNode destinationConfiguration = oAuthConfigSupplier.injectDestinationOAuthParameters(
@@ -249,17 +251,15 @@ public class JobInputHandler {
       final JobSyncConfig jobSyncConfig = getJobSyncConfig(jobId, jobConfig);
 
       final UUID connectionId = UUID.fromString(job.getScope());
-      final StandardSync standardSync = configRepository.getStandardSync(connectionId);
+      final ConnectionWithActors connectionWithActors = configRepository.getConnectionWithActors(connectionId);
 
-      final DestinationConnection destination = configRepository.getDestinationConnection(standardSync.getDestinationId());
-      final StandardDestinationDefinition destinationDefinition =
-          configRepository.getStandardDestinationDefinition(destination.getDestinationDefinitionId());
+      final DestinationConnection destination = connectionWithActors.destination().destination();
+      final StandardDestinationDefinition destinationDefinition = connectionWithActors.destination().definition();
       final ActorDefinitionVersion destinationVersion =
           actorDefinitionVersionHelper.getDestinationVersion(destinationDefinition, destination.getWorkspaceId(), destination.getDestinationId());
 
-      final SourceConnection source = configRepository.getSourceConnection(standardSync.getSourceId());
-      final StandardSourceDefinition sourceDefinition =
-          configRepository.getStandardSourceDefinition(source.getSourceDefinitionId());
+      final SourceConnection source = connectionWithActors.source().source();
+      final StandardSourceDefinition sourceDefinition = connectionWithActors.source().definition();
       final ActorDefinitionVersion sourceVersion =
           actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, source.getWorkspaceId(), source.getSourceId());
 
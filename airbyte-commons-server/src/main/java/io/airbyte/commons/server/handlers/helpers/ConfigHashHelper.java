@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Charsets;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hash of an actor configuration, used to find the catalog discovered for that configuration.
+ * <p>
+ * The configuration is hashed with its object keys sorted, so that two configurations with the same
+ * values get the same hash whatever the order their keys were written or read back in. Secrets are
+ * stored as coordinates, which change when a secret changes, so hashing them does not leak the
+ * secrets and still invalidates the cached catalog when credentials are updated.
+ */
+public class ConfigHashHelper {
+
+  private static final HashFunction HASH_FUNCTION = Hashing.md5();
+
+  /**
+   * Hash a configuration.
+   *
+   * @param config actor configuration, as stored
+   * @return hash of the configuration
+   */
+  public static String hash(final JsonNode config) {
+    return HASH_FUNCTION.hashString(Jsons.serialize(sortKeys(config)), Charsets.UTF_8).toString();
+  }
+
+  private static JsonNode sortKeys(final JsonNode node) {
+    if (node == null) {
+      return null;
+    }
+    if (node.isObject()) {
+      final Map<String, JsonNode> fields = new TreeMap<>();
+      node.fields().forEachRemaining(field -> fields.put(field.getKey(), sortKeys(field.getValue())));
+      final ObjectNode sorted = JsonNodeFactory.instance.objectNode();
+      fields.forEach(sorted::set);
+      return sorted;
+    }
+    if (node.isArray()) {
+      // the order of the elements of an array is meaningful and is kept
+      final ArrayNode sorted = JsonNodeFactory.instance.arrayNode();
+      node.forEach(element -> sorted.add(sortKeys(element)));
+      return sorted;
+    }
+    return node;
+  }
+
+}
@@ -6,11 +6,8 @@ package io.airbyte.commons.server.scheduler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Charsets;
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.Exceptions;
+import io.airbyte.commons.server.handlers.helpers.ConfigHashHelper;
 import io.airbyte.commons.temporal.TemporalClient;
 import io.airbyte.commons.temporal.TemporalJobType;
 import io.airbyte.commons.temporal.TemporalResponse;
@@ -52,8 +49,6 @@ public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerCl
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultSynchronousSchedulerClient.class);
 
-  private static final HashFunction HASH_FUNCTION = Hashing.md5();
-
   private final TemporalClient temporalClient;
   private final JobTracker jobTracker;
   private final JobErrorReporter jobErrorReporter;
@@ -167,8 +162,7 @@ public class DefaultSynchronousSchedulerClient implements SynchronousSchedulerCl
         .withDockerImage(dockerImage)
         .withProtocolVersion(new Version(sourceVersion.getProtocolVersion()))
         .withSourceId(source.getSourceId().toString())
-        .withConfigHash(HASH_FUNCTION.hashBytes(Jsons.serialize(source.getConfiguration()).getBytes(
-            Charsets.UTF_8)).toString())
+        .withConfigHash(ConfigHashHelper.hash(source.getConfiguration()))
         .withConnectorVersion(sourceVersion.getDockerImageTag())
         .withIsCustomConnector(isCustomConnector)
         .withResourceRequirements(actorDefinitionResourceRequirements);
@@ -11,6 +11,7 @@ import static io.airbyte.config.EnvConfigs.DEFAULT_FAILED_JOBS_IN_A_ROW_BEFORE_C
 import static io.airbyte.persistence.job.models.Job.REPLICATION_TYPES;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +37,8 @@ import io.airbyte.api.model.generated.ConnectionScheduleDataBasicSchedule;
 import io.airbyte.api.model.generated.ConnectionScheduleDataBasicSchedule.TimeUnitEnum;
 import io.airbyte.api.model.generated.ConnectionScheduleDataCron;
 import io.airbyte.api.model.generated.ConnectionScheduleType;
+import io.airbyte.api.model.generated.ConnectionSchedulingMetadataRead;
+import io.airbyte.api.model.generated.ConnectionSchedulingMetadataRequestBody;
 import io.airbyte.api.model.generated.ConnectionSearch;
 import io.airbyte.api.model.generated.ConnectionStatus;
 import io.airbyte.api.model.generated.ConnectionUpdate;
@@ -1076,10 +1079,57 @@ class ConnectionsHandlerTest {
     void testGetConnection() throws JsonValidationException, ConfigNotFoundException, IOException {
       when(configRepository.getStandardSync(standardSync.getConnectionId()))
           .thenReturn(standardSync);
+      when(workspaceHelper.getWorkspaceForConnectionIgnoreExceptions(standardSync.getSourceId(), standardSync.getDestinationId()))
+          .thenReturn(workspaceId);
 
       final ConnectionRead actualConnectionRead = connectionsHandler.getConnection(standardSync.getConnectionId());
 
-      assertEquals(ConnectionHelpers.generateExpectedConnectionRead(standardSync), actualConnectionRead);
+      assertEquals(ConnectionHelpers.generateExpectedConnectionRead(standardSync).workspaceId(workspaceId), actualConnectionRead);
+    }
+
+    @Test
+    void testGetConnectionSchedulingMetadata() throws JsonValidationException, ConfigNotFoundException, IOException {
+      when(configRepository.getStandardSync(standardSync.getConnectionId()))
+          .thenReturn(standardSync);
+      when(workspaceHelper.getWorkspaceForConnectionIgnoreExceptions(standardSync.getSourceId(), standardSync.getDestinationId()))
+          .thenReturn(workspaceId);
+      when(jobPersistence.getLastReplicationJob(standardSync.getConnectionId())).thenReturn(Optional.of(job));
+      when(job.getCreatedAtInSecond()).thenReturn(10L);
+      when(job.getStartedAtInSecond()).thenReturn(Optional.of(20L));
+
+      final ConnectionRead connectionRead = ConnectionHelpers.generateExpectedConnectionRead(standardSync);
+      final ConnectionSchedulingMetadataRead expected = new ConnectionSchedulingMetadataRead()
+          .connectionId(connectionRead.getConnectionId())
+          .sourceId(connectionRead.getSourceId())
+          .destinationId(connectionRead.getDestinationId())
+          .workspaceId(workspaceId)
+          .status(connectionRead.getStatus())
+          .breakingChange(connectionRead.getBreakingChange())
+          .schedule(connectionRead.getSchedule())
+          .scheduleType(connectionRead.getScheduleType())
+          .scheduleData(connectionRead.getScheduleData())
+          .lastReplicationJobCreatedAt(10L)
+          .lastReplicationJobStartedAt(20L);
+
+      assertEquals(expected, connectionsHandler.getConnectionSchedulingMetadata(new ConnectionSchedulingMetadataRequestBody()
+          .connectionId(standardSync.getConnectionId())
+          .includeWorkspaceId(true)
+          .includeLastReplicationJob(true)));
+    }
+
+    @Test
+    void testGetConnectionSchedulingMetadataWithoutOptionalFields() throws JsonValidationException, ConfigNotFoundException, IOException {
+      when(configRepository.getStandardSync(standardSync.getConnectionId()))
+          .thenReturn(standardSync);
+
+      final ConnectionSchedulingMetadataRead actual = connectionsHandler.getConnectionSchedulingMetadata(
+          new ConnectionSchedulingMetadataRequestBody().connectionId(standardSync.getConnectionId()));
+
+      assertEquals(standardSync.getSourceId(), actual.getSourceId());
+      assertNull(actual.getWorkspaceId());
+      assertNull(actual.getLastReplicationJobCreatedAt());
+      verify(workspaceHelper, times(0)).getWorkspaceForConnectionIgnoreExceptions(any(), any());
+      verify(jobPersistence, times(0)).getLastReplicationJob(any());
     }
 
     @Test
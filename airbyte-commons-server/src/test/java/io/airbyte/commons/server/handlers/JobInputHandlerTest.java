@@ -40,6 +40,9 @@ import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigInjector;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.ConnectionWithActors;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
 import io.airbyte.persistence.job.JobPersistence;
@@ -94,6 +97,9 @@ class JobInputHandlerTest {
   private AttemptHandler attemptHandler;
   private StateHandler stateHandler;
   private JobInputHandler jobInputHandler;
+  private StandardSync standardSync;
+  private DestinationConnection destinationConnection;
+  private StandardDestinationDefinition destinationDefinition;
 
   @BeforeEach
   void init() throws IOException, JsonValidationException, ConfigNotFoundException {
@@ -125,24 +131,28 @@ class JobInputHandlerTest {
     when(jobPersistence.getJob(JOB_ID)).thenReturn(job);
     when(configInjector.injectConfig(any(), any())).thenAnswer(i -> i.getArguments()[0]);
 
-    final DestinationConnection destinationConnection = new DestinationConnection()
+    destinationConnection = new DestinationConnection()
         .withDestinationId(DESTINATION_ID)
         .withWorkspaceId(WORKSPACE_ID)
         .withDestinationDefinitionId(DESTINATION_DEFINITION_ID)
         .withConfiguration(DESTINATION_CONFIGURATION);
-    when(configRepository.getDestinationConnection(DESTINATION_ID)).thenReturn(destinationConnection);
-    when(configRepository.getStandardDestinationDefinition(DESTINATION_DEFINITION_ID)).thenReturn(mock(StandardDestinationDefinition.class));
-    final StandardDestinationDefinition destinationDefinition = mock(StandardDestinationDefinition.class);
-    when(configRepository.getStandardDestinationDefinition(DESTINATION_DEFINITION_ID)).thenReturn(destinationDefinition);
+    destinationDefinition = mock(StandardDestinationDefinition.class);
     when(actorDefinitionVersionHelper.getDestinationVersion(destinationDefinition, WORKSPACE_ID, DESTINATION_ID))
         .thenReturn(mock(ActorDefinitionVersion.class));
     when(oAuthConfigSupplier.injectDestinationOAuthParameters(DESTINATION_DEFINITION_ID, DESTINATION_ID, WORKSPACE_ID, DESTINATION_CONFIGURATION))
         .thenReturn(DESTINATION_CONFIG_WITH_OAUTH);
 
-    final StandardSync standardSync = new StandardSync()
+    standardSync = new StandardSync()
         .withSourceId(SOURCE_ID)
         .withDestinationId(DESTINATION_ID);
-    when(configRepository.getStandardSync(CONNECTION_ID)).thenReturn(standardSync);
+  }
+
+  private void mockConnectionWithActors(final SourceConnection sourceConnection, final StandardSourceDefinition sourceDefinition)
+      throws JsonValidationException, ConfigNotFoundException, IOException {
+    when(configRepository.getConnectionWithActors(CONNECTION_ID)).thenReturn(new ConnectionWithActors(
+        standardSync,
+        new SourceAndDefinition(sourceConnection, sourceDefinition),
+        new DestinationAndDefinition(destinationConnection, destinationDefinition)));
   }
 
   @Test
@@ -155,7 +165,7 @@ class JobInputHandlerTest {
         .withSourceDefinitionId(sourceDefinitionId)
         .withWorkspaceId(WORKSPACE_ID)
         .withConfiguration(SOURCE_CONFIGURATION);
-    when(configRepository.getSourceConnection(SOURCE_ID)).thenReturn(sourceConnection);
+    mockConnectionWithActors(sourceConnection, mock(StandardSourceDefinition.class));
     when(oAuthConfigSupplier.injectSourceOAuthParameters(sourceDefinitionId, SOURCE_ID, WORKSPACE_ID, SOURCE_CONFIGURATION))
         .thenReturn(SOURCE_CONFIG_WITH_OAUTH);
     when(configInjector.injectConfig(SOURCE_CONFIG_WITH_OAUTH, sourceDefinitionId))
@@ -237,6 +247,7 @@ class JobInputHandlerTest {
   void testGetResetSyncWorkflowInput() throws IOException, ApiException, JsonValidationException, ConfigNotFoundException {
     final SyncInput syncInput = new SyncInput().jobId(JOB_ID).attemptNumber(ATTEMPT_NUMBER);
 
+    mockConnectionWithActors(new SourceConnection().withSourceId(SOURCE_ID).withWorkspaceId(WORKSPACE_ID), mock(StandardSourceDefinition.class));
     when(stateHandler.getState(new ConnectionIdRequestBody().connectionId(CONNECTION_ID)))
         .thenReturn(new ConnectionState()
             .stateType(ConnectionStateType.LEGACY)
@@ -318,8 +329,7 @@ class JobInputHandlerTest {
         .withWorkspaceId(WORKSPACE_ID)
         .withSourceDefinitionId(sourceDefId)
         .withConfiguration(SOURCE_CONFIGURATION);
-    when(configRepository.getSourceConnection(SOURCE_ID)).thenReturn(sourceConnection);
-    when(configRepository.getStandardSourceDefinition(sourceDefId)).thenReturn(mock(StandardSourceDefinition.class));
+    mockConnectionWithActors(sourceConnection, mock(StandardSourceDefinition.class));
     when(oAuthConfigSupplier.injectSourceOAuthParameters(sourceDefId, SOURCE_ID, WORKSPACE_ID, SOURCE_CONFIGURATION))
         .thenReturn(SOURCE_CONFIG_WITH_OAUTH);
 
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import io.airbyte.commons.json.Jsons;
+import org.junit.jupiter.api.Test;
+
+class ConfigHashHelperTest {
+
+  @Test
+  void testHashDoesNotDependOnKeyOrder() {
+    final String hash = ConfigHashHelper.hash(Jsons.deserialize(
+        "{\"host\": \"localhost\", \"port\": 5432, \"ssl\": {\"mode\": \"require\", \"enabled\": true}}"));
+    final String reorderedHash = ConfigHashHelper.hash(Jsons.deserialize(
+        "{\"ssl\": {\"enabled\": true, \"mode\": \"require\"}, \"port\": 5432, \"host\": \"localhost\"}"));
+
+    assertEquals(hash, reorderedHash);
+  }
+
+  @Test
+  void testHashDependsOnValues() {
+    assertNotEquals(
+        ConfigHashHelper.hash(Jsons.deserialize("{\"host\": \"localhost\", \"port\": 5432}")),
+        ConfigHashHelper.hash(Jsons.deserialize("{\"host\": \"localhost\", \"port\": 5433}")));
+  }
+
+  @Test
+  void testHashDependsOnArrayOrder() {
+    assertNotEquals(
+        ConfigHashHelper.hash(Jsons.deserialize("{\"schemas\": [\"public\", \"other\"]}")),
+        ConfigHashHelper.hash(Jsons.deserialize("{\"schemas\": [\"other\", \"public\"]}")));
+  }
+
+  @Test
+  void testHashDependsOnSecretCoordinates() {
+    assertNotEquals(
+        ConfigHashHelper.hash(Jsons.deserialize("{\"password\": {\"_secret\": \"airbyte_workspace_secret_v1\"}}")),
+        ConfigHashHelper.hash(Jsons.deserialize("{\"password\": {\"_secret\": \"airbyte_workspace_secret_v2\"}}")));
+  }
+
+}
@@ -5,6 +5,7 @@
 package io.airbyte.workers;
 
 import io.airbyte.config.Configs.WorkerEnvironment;
+import io.airbyte.workers.process.KubePodStatusCache;
 import io.airbyte.workers.storage.DocumentStoreClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import java.util.Map;
@@ -16,6 +17,7 @@ import java.util.Map;
  * @param documentStoreClient document store client
  * @param environmentVariables env variable
  * @param kubernetesClient kube clinet
+ * @param podStatusCache shared cache following the job pods
  * @param secretName secret ?
  * @param secretMountPath secret mount path ?
  * @param dataPlaneCredsSecretName name of where creds to accessing the data plane
@@ -31,6 +33,7 @@ public record ContainerOrchestratorConfig(
                                           DocumentStoreClient documentStoreClient,
                                           Map<String, String> environmentVariables,
                                           KubernetesClient kubernetesClient,
+                                          KubePodStatusCache podStatusCache,
                                           String secretName,
                                           String secretMountPath,
                                           String dataPlaneCredsSecretName,
@@ -9,6 +9,7 @@ import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.google.auth.oauth2.ServiceAccountCredentials;
 import io.airbyte.api.client.AirbyteApiClient;
+import io.airbyte.api.client.CompressingHttpClient;
 import io.airbyte.api.client.generated.AttemptApi;
 import io.airbyte.api.client.generated.ConnectionApi;
 import io.airbyte.api.client.generated.DestinationApi;
@@ -55,14 +56,26 @@ public class ApiClientBeanFactory {
                              @Value("${airbyte.internal.api.auth-header.name}") final String airbyteApiAuthHeaderName,
                              @Value("${airbyte.internal.api.host}") final String airbyteApiHost,
                              @Named(INTERNAL_API_AUTH_TOKEN_BEAN_NAME) final BeanProvider<String> internalApiAuthToken,
-                             @Named("internalApiScheme") final String internalApiScheme) {
-    return new ApiClient()
-        .setHttpClientBuilder(HttpClient.newBuilder().version(Version.HTTP_1_1))
+                             @Named("internalApiScheme") final String internalApiScheme,
+                             @Value("${airbyte.internal.api.http-version:HTTP_1_1}") final Version httpVersion,
+                             @Value("${airbyte.internal.api.compression-threshold-bytes:-1}") final long compressionThresholdBytes) {
+    // the generated API classes get their client once, from getHttpClient, so wrapping it here
+    // compresses the traffic of all of them. Request bodies are only deflated when a threshold is
+    // set, which should only be done for servers known to decode them.
+    final ApiClient apiClient = new ApiClient() {
+
+      @Override
+      public HttpClient getHttpClient() {
+        return new CompressingHttpClient(super.getHttpClient(), compressionThresholdBytes);
+      }
+
+    };
+    return apiClient
+        .setHttpClientBuilder(HttpClient.newBuilder().version(httpVersion))
         .setScheme(internalApiScheme)
         .setHost(parseHostName(airbyteApiHost))
         .setPort(parsePort(airbyteApiHost))
         .setBasePath("/api")
-        .setHttpClientBuilder(HttpClient.newBuilder().version(Version.HTTP_1_1))
         .setConnectTimeout(Duration.ofSeconds(30))
         .setReadTimeout(Duration.ofSeconds(300))
         .setRequestInterceptor(builder -> {
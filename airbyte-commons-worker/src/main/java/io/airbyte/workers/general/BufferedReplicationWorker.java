@@ -189,6 +189,8 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     } catch (final Exception e) {
       ApmTraceUtils.addExceptionToTrace(e);
       throw new WorkerException("Sync failed", e);
+    } finally {
+      replicationWorkerHelper.closeSyncStatsTracker();
     }
 
   }
@@ -283,8 +285,11 @@ public class BufferedReplicationWorker implements ReplicationWorker {
    * to track the time spent in a source, we need to track both isFinished and attemptRead.
    */
   private boolean sourceIsFinished() {
-    try (final var t = readFromSourceStopwatch.start()) {
+    final long startTime = readFromSourceStopwatch.startTiming();
+    try {
       return source.isFinished();
+    } finally {
+      readFromSourceStopwatch.stopTiming(startTime);
     }
   }
 
@@ -339,8 +344,11 @@ public class BufferedReplicationWorker implements ReplicationWorker {
         }
 
         final Optional<AirbyteMessage> processedMessageOpt;
-        try (final var t = processFromSourceStopwatch.start()) {
+        final long startTime = processFromSourceStopwatch.startTiming();
+        try {
           processedMessageOpt = replicationWorkerHelper.processMessageFromSource(message);
+        } finally {
+          processFromSourceStopwatch.stopTiming(startTime);
         }
         if (processedMessageOpt.isPresent()) {
           final AirbyteMessage m = processedMessageOpt.get();
@@ -379,8 +387,11 @@ public class BufferedReplicationWorker implements ReplicationWorker {
             continue;
           }
 
-          try (final var t = writeToDestStopwatch.start()) {
+          final long startTime = writeToDestStopwatch.startTiming();
+          try {
             destination.accept(message);
+          } finally {
+            writeToDestStopwatch.stopTiming(startTime);
           }
           destMessagesSent.incrementAndGet();
         }
@@ -407,15 +418,21 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     try {
       while (!writeToDestFailed && !(destinationIsFinished = destinationIsFinished())) {
         final Optional<AirbyteMessage> messageOptional;
-        try (final var t = readFromDestStopwatch.start()) {
+        final long readStartTime = readFromDestStopwatch.startTiming();
+        try {
           messageOptional = destination.attemptRead();
         } catch (final Exception e) {
           throw new DestinationException("Destination process read attempt failed", e);
+        } finally {
+          readFromDestStopwatch.stopTiming(readStartTime);
         }
         if (messageOptional.isPresent()) {
           destMessagesRead.incrementAndGet();
-          try (final var t = processFromDestStopwatch.start()) {
+          final long processStartTime = processFromDestStopwatch.startTiming();
+          try {
             replicationWorkerHelper.processMessageFromDestination(messageOptional.get());
+          } finally {
+            processFromDestStopwatch.stopTiming(processStartTime);
           }
         }
       }
@@ -441,8 +458,11 @@ public class BufferedReplicationWorker implements ReplicationWorker {
    * and attemptRead.
    */
   private boolean destinationIsFinished() {
-    try (final var t = readFromDestStopwatch.start()) {
+    final long startTime = readFromDestStopwatch.startTiming();
+    try {
       return destination.isFinished();
+    } finally {
+      readFromDestStopwatch.stopTiming(startTime);
     }
   }
 
@@ -106,9 +106,12 @@ public class DefaultDiscoverCatalogWorker implements DiscoverCatalogWorker {
       }
 
       if (catalog.isPresent()) {
+        // converted once rather than on each attempt, large catalogs are expensive to copy. The request
+        // body is sent whole and, unless INTERNAL_API_COMPRESSION_THRESHOLD_BYTES enables request
+        // compression, uncompressed: peak memory grows with the size of the catalog.
+        final SourceDiscoverSchemaWriteRequestBody requestBody = buildSourceDiscoverSchemaWriteRequestBody(discoverSchemaInput, catalog.get());
         final DiscoverCatalogResult result =
-            AirbyteApiClient.retryWithJitter(() -> airbyteApiClient.getSourceApi()
-                .writeDiscoverCatalogResult(buildSourceDiscoverSchemaWriteRequestBody(discoverSchemaInput, catalog.get())),
+            AirbyteApiClient.retryWithJitter(() -> airbyteApiClient.getSourceApi().writeDiscoverCatalogResult(requestBody),
                 WRITE_DISCOVER_CATALOG_LOGS_TAG);
         jobOutput.setDiscoverCatalogId(result.getCatalogId());
       } else if (failureReason.isEmpty()) {
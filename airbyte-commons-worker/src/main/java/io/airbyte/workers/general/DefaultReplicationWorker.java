@@ -150,6 +150,8 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     } catch (final Exception e) {
       ApmTraceUtils.addExceptionToTrace(e);
       throw new WorkerException("Sync failed", e);
+    } finally {
+      replicationWorkerHelper.closeSyncStatsTracker();
     }
 
   }
@@ -6,6 +6,7 @@ package io.airbyte.workers.general;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.api.client.model.generated.StreamStatusIncompleteRunCause;
 import io.airbyte.commons.concurrency.VoidCallable;
@@ -65,6 +66,7 @@ import org.slf4j.LoggerFactory;
 class ReplicationWorkerHelper {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationWorkerHelper.class);
+  private static final ObjectWriter SUMMARY_WRITER = new ObjectMapper().writerWithDefaultPrettyPrinter();
 
   private final AirbyteMessageDataExtractor airbyteMessageDataExtractor;
   private final FieldSelector fieldSelector;
@@ -157,6 +159,13 @@ class ReplicationWorkerHelper {
     timeTracker.trackReplicationEndTime();
   }
 
+  /**
+   * Release the resources held by the stats tracker once the replication output was built.
+   */
+  public void closeSyncStatsTracker() {
+    messageTracker.getSyncStatsTracker().close();
+  }
+
   public void endOfSource() {
     LOGGER.info("Total records read: {} ({})", recordsRead,
         FileUtils.byteCountToDisplaySize(messageTracker.getSyncStatsTracker().getTotalBytesEmitted()));
@@ -299,9 +308,8 @@ class ReplicationWorkerHelper {
 
     final List<FailureReason> failures = getFailureReasons(replicationFailures, output);
 
-    final ObjectMapper mapper = new ObjectMapper();
-    LOGGER.info("sync summary: {}", mapper.writerWithDefaultPrettyPrinter().writeValueAsString(summary));
-    LOGGER.info("failures: {}", mapper.writerWithDefaultPrettyPrinter().writeValueAsString(failures));
+    LOGGER.info("sync summary: {}", SUMMARY_WRITER.writeValueAsString(summary));
+    LOGGER.info("failures: {}", SUMMARY_WRITER.writeValueAsString(failures));
     LineGobbler.endSection("REPLICATION");
 
     return output;
@@ -5,10 +5,11 @@
 package io.airbyte.workers.internal;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.timer.CoarseClock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import lombok.Getter;
 
@@ -20,27 +21,38 @@ import lombok.Getter;
  */
 public class HeartbeatMonitor {
 
+  private static final long NO_BEAT = Long.MIN_VALUE;
+
   @Getter
   private final Duration heartbeatFreshnessThreshold;
-  private final Supplier<Instant> nowSupplier;
-  private final AtomicReference<Instant> lastBeat;
+  private final LongSupplier nowMillisSupplier;
+  private volatile long lastBeatMillis;
 
   public HeartbeatMonitor(final Duration heartbeatFreshnessThreshold) {
-    this(heartbeatFreshnessThreshold, Instant::now);
+    this(heartbeatFreshnessThreshold, (LongSupplier) CoarseClock::currentMillis);
   }
 
   @VisibleForTesting
   public HeartbeatMonitor(final Duration heartbeatFreshnessThreshold, final Supplier<Instant> nowSupplier) {
+    this(heartbeatFreshnessThreshold, (LongSupplier) () -> nowSupplier.get().toEpochMilli());
+  }
+
+  private HeartbeatMonitor(final Duration heartbeatFreshnessThreshold, final LongSupplier nowMillisSupplier) {
     this.heartbeatFreshnessThreshold = heartbeatFreshnessThreshold;
-    this.nowSupplier = nowSupplier;
-    this.lastBeat = new AtomicReference<>(null);
+    this.nowMillisSupplier = nowMillisSupplier;
+    this.lastBeatMillis = NO_BEAT;
   }
 
   /**
-   * Register a heartbeat.
+   * Register a heartbeat. This is called for every message, so it only reads a coarse clock and
+   * doesn't allocate.
    */
   public void beat() {
-    lastBeat.set(nowSupplier.get());
+    final long nowMillis = nowMillisSupplier.getAsLong();
+    // with a coarse clock, most beats happen within the same tick: skip the write to keep it cheap
+    if (lastBeatMillis != nowMillis) {
+      lastBeatMillis = nowMillis;
+    }
   }
 
   /**
@@ -57,12 +69,12 @@ public class HeartbeatMonitor {
    * Return the time since the last beat. It returns empty is no beat has been performed.
    */
   public Optional<Duration> getTimeSinceLastBeat() {
-    final Instant instantFetched = lastBeat.get();
+    final long lastBeatMillisFetched = lastBeatMillis;
 
-    if (instantFetched == null) {
+    if (lastBeatMillisFetched == NO_BEAT) {
       return Optional.empty();
     } else {
-      return Optional.ofNullable(Duration.between(lastBeat.get(), nowSupplier.get()));
+      return Optional.of(Duration.ofMillis(nowMillisSupplier.getAsLong() - lastBeatMillisFetched));
     }
   }
 
@@ -37,6 +37,7 @@ import lombok.extern.slf4j.Slf4j;
 public class DefaultSyncStatsTracker implements SyncStatsTracker {
 
   private static final long STATE_DELTA_TRACKER_MEMORY_LIMIT_BYTES = 10L * 1024L * 1024L; // 10 MiB, ~5% of default cloud worker memory
+  private static final long STATE_DELTA_TRACKER_SPILL_LIMIT_BYTES = 512L * 1024L * 1024L; // 512 MiB of local disk
   private static final long STATE_METRICS_TRACKER_MESSAGE_LIMIT = 873813L; // 12 bytes per message tracked, maximum of 10MiB of memory
 
   private final Map<AirbyteStreamNameNamespacePair, StreamStats> nameNamespacePairToStreamStats;
@@ -66,7 +67,8 @@ public class DefaultSyncStatsTracker implements SyncStatsTracker {
   private short nextStreamIndex;
 
   public DefaultSyncStatsTracker() {
-    this(new StateDeltaTracker(STATE_DELTA_TRACKER_MEMORY_LIMIT_BYTES), new StateMetricsTracker(STATE_METRICS_TRACKER_MESSAGE_LIMIT));
+    this(new StateDeltaTracker(STATE_DELTA_TRACKER_MEMORY_LIMIT_BYTES, STATE_DELTA_TRACKER_SPILL_LIMIT_BYTES),
+        new StateMetricsTracker(STATE_METRICS_TRACKER_MESSAGE_LIMIT));
   }
 
   public DefaultSyncStatsTracker(final StateDeltaTracker stateDeltaTracker, final StateMetricsTracker stateMetricsTracker) {
@@ -415,6 +417,11 @@ public class DefaultSyncStatsTracker implements SyncStatsTracker {
     return unreliableStateTimingMetrics;
   }
 
+  @Override
+  public void close() {
+    stateDeltaTracker.close();
+  }
+
   private int getStateHashCode(final AirbyteStateMessage stateMessage) {
     if (AirbyteStateType.GLOBAL == stateMessage.getType()) {
       return hashFunction.hashBytes(Jsons.serialize(stateMessage.getGlobal()).getBytes(Charsets.UTF_8)).hashCode();
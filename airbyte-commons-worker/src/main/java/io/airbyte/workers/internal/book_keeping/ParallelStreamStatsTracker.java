@@ -34,9 +34,22 @@ public class ParallelStreamStatsTracker implements SyncStatsTracker {
 
   record SyncStatsCounters(AtomicLong estimatedRecordsCount, AtomicLong estimatedBytesCount) {}
 
+  /**
+   * Stream of the last tracked record. Records mostly come in runs of the same stream, so comparing
+   * against it saves building an AirbyteStreamNameNamespacePair and hashing it for most records.
+   */
+  private record LastRecordStream(String name, String namespace, StreamStatsTracker streamStatsTracker) {
+
+    boolean isStreamOf(final AirbyteRecordMessage recordMessage) {
+      return Objects.equals(name, recordMessage.getStream()) && Objects.equals(namespace, recordMessage.getNamespace());
+    }
+
+  }
+
   private final MetricClient metricClient;
   private final Map<AirbyteStreamNameNamespacePair, StreamStatsTracker> streamTrackers;
   private final SyncStatsCounters syncStatsCounters;
+  private volatile LastRecordStream lastRecordStream;
   private Optional<Type> expectedEstimateType;
   private volatile boolean hasEstimatesErrors;
 
@@ -50,8 +63,14 @@ public class ParallelStreamStatsTracker implements SyncStatsTracker {
 
   @Override
   public void updateStats(final AirbyteRecordMessage recordMessage) {
-    final AirbyteStreamNameNamespacePair nameNamespacePair = getNameNamespacePair(recordMessage);
-    final StreamStatsTracker streamStatsTracker = getOrCreateStreamStatsTracker(nameNamespacePair);
+    final LastRecordStream lastStream = lastRecordStream;
+    final StreamStatsTracker streamStatsTracker;
+    if (lastStream != null && lastStream.isStreamOf(recordMessage)) {
+      streamStatsTracker = lastStream.streamStatsTracker();
+    } else {
+      streamStatsTracker = getOrCreateStreamStatsTracker(getNameNamespacePair(recordMessage));
+      lastRecordStream = new LastRecordStream(recordMessage.getStream(), recordMessage.getNamespace(), streamStatsTracker);
+    }
     streamStatsTracker.trackRecord(recordMessage);
   }
 
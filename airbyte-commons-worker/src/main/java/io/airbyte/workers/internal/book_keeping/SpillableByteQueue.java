@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal.book_keeping;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * FIFO queue of byte arrays stored outside the heap.
+ * <p>
+ * Entries are kept in a direct buffer until the memory limit is reached, then appended to a
+ * temporary file until the disk limit is reached. Once entries are on disk, new entries also go to
+ * disk to preserve the order, until the file is drained and deleted.
+ * <p>
+ * The memory limit covers the entries and the length stored in front of each of them. The direct
+ * buffer is allocated on the first entry and is exactly as large as the limit.
+ * <p>
+ * The queue must be closed to delete the temporary file when entries are left on disk.
+ * <p>
+ * It is not thread-safe.
+ */
+@Slf4j
+class SpillableByteQueue implements Closeable {
+
+  private static final int LENGTH_BYTES = Integer.BYTES;
+
+  private final int memoryLimitBytes;
+  private final long diskLimitBytes;
+
+  private ByteBuffer memory;
+  private int memoryHead;
+  private int memoryUsedBytes;
+
+  private Path spillPath;
+  private FileChannel spillFile;
+  private long spillReadPosition;
+  private long spillWritePosition;
+
+  private int size;
+
+  SpillableByteQueue(final long memoryLimitBytes, final long diskLimitBytes) {
+    // the direct buffer is as large as the limit, it has to fit in an int
+    this.memoryLimitBytes = (int) Math.min(memoryLimitBytes, Integer.MAX_VALUE);
+    this.diskLimitBytes = diskLimitBytes;
+  }
+
+  /**
+   * Add an entry at the end of the queue.
+   *
+   * @return false if there is no room left for the entry, in memory or on disk.
+   */
+  boolean offer(final byte[] entry) throws IOException {
+    if (!isSpilling() && (long) memoryUsedBytes + LENGTH_BYTES + entry.length <= memoryLimitBytes) {
+      if (memory == null) {
+        memory = ByteBuffer.allocateDirect(memoryLimitBytes);
+      }
+      putInMemory(entry);
+    } else if (spillWritePosition - spillReadPosition + LENGTH_BYTES + entry.length <= diskLimitBytes) {
+      putOnDisk(entry);
+    } else {
+      return false;
+    }
+    size++;
+    return true;
+  }
+
+  /**
+   * Remove the entry at the head of the queue.
+   *
+   * @return the entry, or null if the queue is empty.
+   */
+  byte[] poll() throws IOException {
+    final byte[] entry;
+    if (memoryUsedBytes > 0) {
+      entry = takeFromMemory();
+    } else if (isSpilling()) {
+      entry = takeFromDisk();
+    } else {
+      return null;
+    }
+    size--;
+    return entry;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Bytes currently used in memory, lengths included.
+   */
+  long getMemoryUsedBytes() {
+    return memoryUsedBytes;
+  }
+
+  /**
+   * Temporary file holding the spilled entries, or null if nothing is on disk.
+   */
+  @VisibleForTesting
+  Path getSpillPath() {
+    return isSpilling() ? spillPath : null;
+  }
+
+  /**
+   * Drop the remaining entries and delete the temporary file, if any.
+   */
+  @Override
+  public void close() throws IOException {
+    memory = null;
+    memoryHead = 0;
+    memoryUsedBytes = 0;
+    size = 0;
+    if (spillFile != null) {
+      closeSpillFile();
+    }
+  }
+
+  private boolean isSpilling() {
+    return spillFile != null;
+  }
+
+  private void putInMemory(final byte[] entry) {
+    final ByteBuffer length = ByteBuffer.allocate(LENGTH_BYTES).putInt(entry.length);
+    writeToMemory(length.array());
+    writeToMemory(entry);
+  }
+
+  private byte[] takeFromMemory() {
+    final byte[] length = readFromMemory(LENGTH_BYTES);
+    return readFromMemory(ByteBuffer.wrap(length).getInt());
+  }
+
+  private void writeToMemory(final byte[] bytes) {
+    final int capacity = memory.capacity();
+    final int tail = (memoryHead + memoryUsedBytes) % capacity;
+    final int beforeWrap = Math.min(bytes.length, capacity - tail);
+    memory.put(tail, bytes, 0, beforeWrap);
+    memory.put(0, bytes, beforeWrap, bytes.length - beforeWrap);
+    memoryUsedBytes += bytes.length;
+  }
+
+  private byte[] readFromMemory(final int length) {
+    final int capacity = memory.capacity();
+    final byte[] bytes = new byte[length];
+    final int beforeWrap = Math.min(length, capacity - memoryHead);
+    memory.get(memoryHead, bytes, 0, beforeWrap);
+    memory.get(0, bytes, beforeWrap, length - beforeWrap);
+    memoryHead = (memoryHead + length) % capacity;
+    memoryUsedBytes -= length;
+    return bytes;
+  }
+
+  private void putOnDisk(final byte[] entry) throws IOException {
+    if (spillFile == null) {
+      spillPath = Files.createTempFile("state-deltas", ".bin");
+      spillFile = FileChannel.open(spillPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      log.info("Memory limit of {} bytes reached, spilling state deltas to {}", memoryLimitBytes, spillPath);
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate(LENGTH_BYTES + entry.length).putInt(entry.length).put(entry).flip();
+    while (buffer.hasRemaining()) {
+      spillWritePosition += spillFile.write(buffer, spillWritePosition);
+    }
+  }
+
+  private byte[] takeFromDisk() throws IOException {
+    final ByteBuffer length = readFromDisk(LENGTH_BYTES);
+    final byte[] entry = readFromDisk(length.getInt()).array();
+    if (spillReadPosition == spillWritePosition) {
+      // drained: go back to memory for the next entries
+      closeSpillFile();
+    }
+    return entry;
+  }
+
+  private void closeSpillFile() throws IOException {
+    try {
+      spillFile.close();
+    } finally {
+      spillFile = null;
+      spillReadPosition = 0;
+      spillWritePosition = 0;
+      Files.deleteIfExists(spillPath);
+    }
+  }
+
+  private ByteBuffer readFromDisk(final int length) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      final int read = spillFile.read(buffer, spillReadPosition);
+      if (read < 0) {
+        throw new IOException("Unexpected end of file while reading state deltas from " + spillPath);
+      }
+      spillReadPosition += read;
+    }
+    return buffer.flip();
+  }
+
+}
@@ -8,11 +8,10 @@ import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
 
 import com.google.common.annotations.VisibleForTesting;
 import datadog.trace.api.Trace;
+import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
@@ -27,9 +26,11 @@ import lombok.extern.slf4j.Slf4j;
  * This class also maintains a {@code Set} of {@code committedStateHashes} so that it can accumulate
  * both committed and total record counts per stream.
  * <p>
- * The StateDeltaTracker is initialized with a memory limit. If this memory limit is exceeded, new
- * states deltas will not be added and per-stream record counts will not be able to be computed.
- * This is to prevent OutOfMemoryErrors from crashing the sync.
+ * The deltas are kept off-heap so that they don't compete with the records for heap space. The
+ * StateDeltaTracker is initialized with a memory limit and, optionally, a spill limit. Once the
+ * memory limit is reached, deltas are written to a temporary file until the spill limit is reached.
+ * If both limits are exceeded, new states deltas will not be added and per-stream record counts
+ * will not be able to be computed. This is to prevent OutOfMemoryErrors from crashing the sync.
  */
 @Slf4j
 public class StateDeltaTracker {
@@ -45,23 +46,34 @@ public class StateDeltaTracker {
 
   /**
    * Every time a state is added, a new byte[] containing the state hash and per-stream delta will be
-   * added to this list. Every time a state is committed, state deltas up to the committed state are
-   * removed from the head of the list and aggregated into the committed count map. The source thread
+   * added to this queue. Every time a state is committed, state deltas up to the committed state are
+   * removed from the head of the queue and aggregated into the committed count map. The source thread
    * adds while the destination thread removes, so synchronization is necessary to provide
    * thread-safety.
    */
   @VisibleForTesting
-  protected final List<byte[]> stateDeltas;
+  protected final SpillableByteQueue stateDeltas;
 
+  private final long memoryLimitBytes;
+
+  /**
+   * Memory left for state deltas, including the length stored with each of them. Deltas spilled to
+   * disk don't count against it.
+   */
   @VisibleForTesting
   protected long remainingCapacity;
   @VisibleForTesting
   protected boolean capacityExceeded;
 
   public StateDeltaTracker(final long memoryLimitBytes) {
+    this(memoryLimitBytes, 0L);
+  }
+
+  public StateDeltaTracker(final long memoryLimitBytes, final long spillLimitBytes) {
     this.committedStateHashes = new HashSet<>();
     this.streamToCommittedRecords = new HashMap<>();
-    this.stateDeltas = new ArrayList<>();
+    this.stateDeltas = new SpillableByteQueue(memoryLimitBytes, spillLimitBytes);
+    this.memoryLimitBytes = memoryLimitBytes;
     this.remainingCapacity = memoryLimitBytes;
     this.capacityExceeded = false;
   }
@@ -73,19 +85,18 @@ public class StateDeltaTracker {
    * This method leverages a synchronized block to provide thread safety between the source thread
    * calling addState while the destination thread calls commitStateHash.
    *
-   * @throws StateDeltaTrackerException thrown when the memory footprint of stateDeltas exceeds
-   *         available capacity.
+   * @throws StateDeltaTrackerException thrown when the footprint of stateDeltas exceeds available
+   *         capacity, in memory and on disk.
    */
   @Trace(operationName = WORKER_OPERATION_NAME)
   public void addState(final int stateHash, final Map<Short, StatsCounters> streamIndexToRecordCount) throws StateDeltaTrackerException {
     synchronized (this) {
-      final int size = STATE_HASH_BYTES + (streamIndexToRecordCount.size() * BYTES_PER_STREAM);
-
-      if (capacityExceeded || remainingCapacity < size) {
-        capacityExceeded = true;
+      if (capacityExceeded) {
         throw new StateDeltaTrackerException("Memory capacity is exceeded for StateDeltaTracker.");
       }
 
+      final int size = STATE_HASH_BYTES + (streamIndexToRecordCount.size() * BYTES_PER_STREAM);
+
       final ByteBuffer delta = ByteBuffer.allocate(size);
 
       delta.putInt(stateHash);
@@ -96,8 +107,16 @@ public class StateDeltaTracker {
         delta.putLong(entry.getValue().bytesCount);
       }
 
-      stateDeltas.add(delta.array());
-      remainingCapacity -= delta.array().length;
+      try {
+        if (!stateDeltas.offer(delta.array())) {
+          capacityExceeded = true;
+          throw new StateDeltaTrackerException("Memory capacity is exceeded for StateDeltaTracker.");
+        }
+      } catch (final IOException e) {
+        capacityExceeded = true;
+        throw new StateDeltaTrackerException("Failed to spill state delta to disk: " + e.getMessage());
+      }
+      remainingCapacity = memoryLimitBytes - stateDeltas.getMemoryUsedBytes();
     }
   }
 
@@ -124,12 +143,19 @@ public class StateDeltaTracker {
       committedStateHashes.add(stateHash);
       int currStateHash;
       do {
-        if (stateDeltas.isEmpty()) {
+        final byte[] polledDelta;
+        try {
+          polledDelta = stateDeltas.poll();
+        } catch (final IOException e) {
+          capacityExceeded = true;
+          throw new StateDeltaTrackerException("Failed to read spilled state delta from disk: " + e.getMessage());
+        }
+        if (polledDelta == null) {
           throw new StateDeltaTrackerException(String.format("Delta was not stored for state hash %d", stateHash));
         }
         // as deltas are removed and aggregated into committed count map, reclaim capacity
-        final ByteBuffer currDelta = ByteBuffer.wrap(stateDeltas.remove(0));
-        remainingCapacity += currDelta.capacity();
+        final ByteBuffer currDelta = ByteBuffer.wrap(polledDelta);
+        remainingCapacity = memoryLimitBytes - stateDeltas.getMemoryUsedBytes();
 
         currStateHash = currDelta.getInt();
 
@@ -157,6 +183,20 @@ public class StateDeltaTracker {
     return streamToCommittedRecords;
   }
 
+  /**
+   * Drop the deltas that were never committed and delete the file they were spilled to, if any. The
+   * committed counts remain available.
+   */
+  public void close() {
+    synchronized (this) {
+      try {
+        stateDeltas.close();
+      } catch (final IOException e) {
+        log.warn("Failed to delete spilled state deltas", e);
+      }
+    }
+  }
+
   /**
    * Thrown when the StateDeltaTracker encounters an issue that prevents it from reliably computing
    * committed record deltas.
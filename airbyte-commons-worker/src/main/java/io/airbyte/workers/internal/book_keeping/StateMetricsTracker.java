@@ -11,10 +11,9 @@ import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -28,8 +27,9 @@ public class StateMetricsTracker {
   private static final int EPOCH_TIME_SIZE = Long.BYTES;
   private static final int BYTE_ARRAY_SIZE = STATE_HASH_SIZE + EPOCH_TIME_SIZE;
 
-  private final List<byte[]> stateHashesAndTimestamps;
-  private final Map<String, List<byte[]>> streamStateHashesAndTimestamps;
+  // entries are only ever removed from the head, a deque avoids shifting the remaining ones
+  private final Deque<byte[]> stateHashesAndTimestamps;
+  private final Map<String, Deque<byte[]>> streamStateHashesAndTimestamps;
   private LocalDateTime firstRecordReceivedAt;
   private LocalDateTime lastStateMessageReceivedAt;
   private Long maxSecondsToReceiveSourceStateMessage;
@@ -42,7 +42,7 @@ public class StateMetricsTracker {
   private Boolean capacityExceeded;
 
   public StateMetricsTracker(final Long messageLimit) {
-    this.stateHashesAndTimestamps = new ArrayList<>();
+    this.stateHashesAndTimestamps = new ArrayDeque<>();
     this.streamStateHashesAndTimestamps = new HashMap<>();
     this.firstRecordReceivedAt = null;
     this.lastStateMessageReceivedAt = null;
@@ -98,7 +98,7 @@ public class StateMetricsTracker {
     final LocalDateTime startingTime;
     if (AirbyteStateType.STREAM == stateMessage.getType()) {
       final String streamDescriptorKey = getStreamDescriptorKey(stateMessage.getStream().getStreamDescriptor());
-      final List<byte[]> stateMessagesForStream = streamStateHashesAndTimestamps.get(streamDescriptorKey);
+      final Deque<byte[]> stateMessagesForStream = streamStateHashesAndTimestamps.get(streamDescriptorKey);
       startingTime = findStartingTimeStampAndRemoveOlderEntries(stateMessagesForStream, stateHash);
     } else {
       startingTime = findStartingTimeStampAndRemoveOlderEntries(stateHashesAndTimestamps, stateHash);
@@ -112,14 +112,7 @@ public class StateMetricsTracker {
     final String streamDescriptorKey = getStreamDescriptorKey(stateMessage.getStream().getStreamDescriptor());
     final byte[] stateHashAndTimestamp = populateStateTimestampByteArray(stateHash, epochTimeEmitted);
 
-    if (streamStateHashesAndTimestamps.get(streamDescriptorKey) == null) {
-      final List stateHashesAndTimestamps = new ArrayList<>();
-      stateHashesAndTimestamps.add(stateHashAndTimestamp);
-      streamStateHashesAndTimestamps.put(streamDescriptorKey, stateHashesAndTimestamps);
-    } else {
-      final List<byte[]> streamDescriptorValue = streamStateHashesAndTimestamps.get(streamDescriptorKey);
-      streamDescriptorValue.add(stateHashAndTimestamp);
-    }
+    streamStateHashesAndTimestamps.computeIfAbsent(streamDescriptorKey, key -> new ArrayDeque<>()).add(stateHashAndTimestamp);
     remainingCapacity -= 1;
   }
 
@@ -139,7 +132,7 @@ public class StateMetricsTracker {
     }
   }
 
-  private LocalDateTime findStartingTimeStampAndRemoveOlderEntries(final List<byte[]> stateList, final int stateHash)
+  private LocalDateTime findStartingTimeStampAndRemoveOlderEntries(final Deque<byte[]> stateList, final int stateHash)
       throws StateMetricsTrackerNoStateMatchException {
     // iterate through each [state_hash, timestamp] in the list
     // update the first timestamp to equal min_timestamp
@@ -147,9 +140,8 @@ public class StateMetricsTracker {
     // break once we reach the state hash equal to the input(destination) state hash
     Boolean foundStateHash = false;
     Long minTime = null;
-    final Iterator<byte[]> iterator = stateList.iterator();
-    while (iterator.hasNext()) {
-      final byte[] stateMessageTime = iterator.next();
+    while (!stateList.isEmpty()) {
+      final byte[] stateMessageTime = stateList.pollFirst();
       final ByteBuffer current = ByteBuffer.wrap(stateMessageTime);
       remainingCapacity += 1;
       final int currentStateHash = current.getInt();
@@ -157,7 +149,6 @@ public class StateMetricsTracker {
       if (minTime == null) {
         minTime = epochTime;
       }
-      iterator.remove();
 
       if (stateHash == currentStateHash) {
         foundStateHash = true;
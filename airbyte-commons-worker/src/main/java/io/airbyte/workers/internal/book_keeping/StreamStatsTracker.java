@@ -9,6 +9,7 @@ import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 import com.google.common.util.concurrent.AtomicDouble;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.timer.CoarseClock;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.protocol.models.AirbyteEstimateTraceMessage;
@@ -16,12 +17,11 @@ import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage.AirbyteStateType;
 import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAccumulator;
@@ -41,6 +41,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class StreamStatsTracker {
 
+  private static final long NO_STATE_RECEIVED = Long.MIN_VALUE;
+
   /**
    * Record for tracking stats of a given stream, this is also how stats are returned to the outside.
    * <p>
@@ -93,7 +95,7 @@ public class StreamStatsTracker {
   private record StagedStats(int stateHash,
                              AirbyteStateMessage stateMessage,
                              EmittedStatsCounters emittedStatsCounters,
-                             LocalDateTime receivedTime) {}
+                             long receivedTimeMillis) {}
 
   private final MetricClient metricClient;
   private final AirbyteStreamNameNamespacePair nameNamespacePair;
@@ -114,7 +116,8 @@ public class StreamStatsTracker {
   // source.
   private EmittedStatsCounters emittedStats;
 
-  private LocalDateTime previousStateMessageReceivedAt;
+  // Time in CoarseClock millis, NO_STATE_RECEIVED until the first state of the stream.
+  private long previousStateMessageReceivedAtMillis;
 
   public StreamStatsTracker(final AirbyteStreamNameNamespacePair nameNamespacePair, final MetricClient metricClient) {
     this.metricClient = metricClient;
@@ -125,6 +128,7 @@ public class StreamStatsTracker {
     this.streamStats = new StreamStatsCounters();
 
     this.emittedStats = new EmittedStatsCounters();
+    this.previousStateMessageReceivedAtMillis = NO_STATE_RECEIVED;
   }
 
   /**
@@ -161,7 +165,7 @@ public class StreamStatsTracker {
    * to keep on tracking incoming messages.
    */
   public void trackStateFromSource(final AirbyteStateMessage stateMessage) {
-    final LocalDateTime currentTime = LocalDateTime.now();
+    final long currentTimeMillis = CoarseClock.currentMillis();
     streamStats.sourceStateCount.incrementAndGet();
 
     if (streamStats.unreliableStateOperations.get()) {
@@ -187,19 +191,19 @@ public class StreamStatsTracker {
     final EmittedStatsCounters previousEmittedStats = emittedStats;
     emittedStats = new EmittedStatsCounters();
 
-    stagedStatsList.add(new StagedStats(stateHash, stateMessage, previousEmittedStats, currentTime));
+    stagedStatsList.add(new StagedStats(stateHash, stateMessage, previousEmittedStats, currentTimeMillis));
 
     // Updating state checkpointing metrics
     // previsousStateMessageReceivedAt is null when it's the first state message of a stream.
-    if (previousStateMessageReceivedAt != null) {
-      final long timeSinceLastState = previousStateMessageReceivedAt.until(currentTime, ChronoUnit.SECONDS);
+    if (previousStateMessageReceivedAtMillis != NO_STATE_RECEIVED) {
+      final long timeSinceLastState = TimeUnit.MILLISECONDS.toSeconds(currentTimeMillis - previousStateMessageReceivedAtMillis);
       streamStats.maxSecondsToReceiveState.accumulate(timeSinceLastState);
       // We are measuring intervals in-between states, so there's going to be one less interval than the
       // number of states.
       streamStats.meanSecondsToReceiveState.set(updateMean(streamStats.meanSecondsToReceiveState.get(), streamStats.sourceStateCount.get() - 1,
           (double) timeSinceLastState));
     }
-    previousStateMessageReceivedAt = currentTime;
+    previousStateMessageReceivedAtMillis = currentTimeMillis;
   }
 
   /**
@@ -212,7 +216,7 @@ public class StreamStatsTracker {
    * said acked state.
    */
   public void trackStateFromDestination(final AirbyteStateMessage stateMessage) {
-    final LocalDateTime currentTime = LocalDateTime.now();
+    final long currentTimeMillis = CoarseClock.currentMillis();
     streamStats.destinationStateCount.incrementAndGet();
 
     if (streamStats.unreliableStateOperations.get()) {
@@ -249,7 +253,8 @@ public class StreamStatsTracker {
     }
 
     // Updating state checkpointing metrics
-    final long durationBetweenStateEmittedAndCommitted = stagedStats.receivedTime.until(currentTime, ChronoUnit.SECONDS);
+    final long durationBetweenStateEmittedAndCommitted =
+        TimeUnit.MILLISECONDS.toSeconds(currentTimeMillis - stagedStats.receivedTimeMillis);
     streamStats.maxSecondsBetweenStateEmittedAndCommitted.accumulate(durationBetweenStateEmittedAndCommitted);
     streamStats.meanSecondsBetweenStateEmittedAndCommitted.set(
         updateMean(streamStats.meanSecondsBetweenStateEmittedAndCommitted.get(), streamStats.destinationStateCount.get() - 1,
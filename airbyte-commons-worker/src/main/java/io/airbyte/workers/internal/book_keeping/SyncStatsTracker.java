@@ -154,4 +154,9 @@ public interface SyncStatsTracker {
 
   Boolean getUnreliableStateTimingMetrics();
 
+  /**
+   * Release the resources held while tracking the sync. The stats remain readable.
+   */
+  default void close() {}
+
 }
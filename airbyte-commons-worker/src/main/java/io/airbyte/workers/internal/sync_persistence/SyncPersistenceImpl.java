@@ -144,6 +144,7 @@ public class SyncPersistenceImpl implements SyncPersistence {
    * soon as we migrated.
    */
   public void setSyncStatsTracker(final SyncStatsTracker syncStatsTracker) {
+    this.syncStatsTracker.close();
     this.syncStatsTracker = syncStatsTracker;
   }
 
@@ -209,6 +210,14 @@ public class SyncPersistenceImpl implements SyncPersistence {
    */
   @Override
   public void close() throws Exception {
+    try {
+      flushAndStop();
+    } finally {
+      syncStatsTracker.close();
+    }
+  }
+
+  private void flushAndStop() throws Exception {
     // stop the buffered refresh
     stateFlushExecutorService.shutdown();
 
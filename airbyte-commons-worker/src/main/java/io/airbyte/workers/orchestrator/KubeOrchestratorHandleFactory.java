@@ -119,6 +119,7 @@ public class KubeOrchestratorHandleFactory implements OrchestratorHandleFactory
         containerOrchestratorConfig.documentStoreClient(),
         envMap,
         containerOrchestratorConfig.kubernetesClient(),
+        containerOrchestratorConfig.podStatusCache(),
         containerOrchestratorConfig.secretName(),
         containerOrchestratorConfig.secretMountPath(),
         containerOrchestratorConfig.dataPlaneCredsSecretName(),
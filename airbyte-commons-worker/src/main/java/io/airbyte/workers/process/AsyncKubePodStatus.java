@@ -4,6 +4,8 @@
 
 package io.airbyte.workers.process;
 
+import java.util.Optional;
+
 /**
  * Kube pod statues.
  */
@@ -13,4 +15,34 @@ public enum AsyncKubePodStatus {
   RUNNING, // Main container posted running
   FAILED, // Reported status was "failed" or pod was in Error without a reported status.
   SUCCEEDED; // Reported status was "success" so both main and on-start succeeded.
+
+  /**
+   * Name of the document holding the latest status of the pod, next to the document written for
+   * each status. Reading it costs a single request instead of one per status.
+   */
+  public static final String STATUS_DOCUMENT = "STATUS";
+
+  /**
+   * Statuses only move forward, so once a pod reached a terminal status it won't change anymore.
+   *
+   * @return true if the pod is done.
+   */
+  public boolean isTerminal() {
+    return this == FAILED || this == SUCCEEDED;
+  }
+
+  /**
+   * Parse the content of the {@link #STATUS_DOCUMENT}.
+   *
+   * @param value content of the document
+   * @return the status, or empty if the value isn't a known status.
+   */
+  public static Optional<AsyncKubePodStatus> fromStatusDocument(final String value) {
+    try {
+      return Optional.of(valueOf(value.trim()));
+    } catch (final IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
 }
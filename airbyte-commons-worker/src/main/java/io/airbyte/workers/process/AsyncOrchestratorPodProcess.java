@@ -4,8 +4,8 @@
 
 package io.airbyte.workers.process;
 
-import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.config.ResourceRequirements;
 import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.workers.storage.DocumentStoreClient;
@@ -22,22 +22,24 @@ import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
-import java.nio.file.Path;
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 
@@ -58,18 +60,24 @@ public class AsyncOrchestratorPodProcess implements KubePod {
 
   public static final String KUBE_POD_INFO = "KUBE_POD_INFO";
   public static final String NO_OP = "NO_OP";
-  // TODO Ths frequency should be configured and injected rather hard coded here.
-  public static final long JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS = 5000;
+  // The doc store is polled with an exponential backoff between these bounds. Pod termination events
+  // from the shared pod informer wake the waiter up early, so the upper bound only matters when the
+  // informer misses an event.
+  // TODO These intervals should be configured and injected rather hard coded here.
+  public static final long JOB_STATUS_INITIAL_POLLING_INTERVAL_IN_MILLIS = 1000;
+  public static final long JOB_STATUS_MAX_POLLING_INTERVAL_IN_MILLIS = 30000;
 
   private final KubePodInfo kubePodInfo;
   private final DocumentStoreClient documentStoreClient;
   private final KubernetesClient kubernetesClient;
+  private final KubePodStatusCache podStatusCache;
   private final String secretName;
   private final String secretMountPath;
   private final String googleApplicationCredentials;
   private final String dataPlaneCredsSecretName;
   private final String dataPlaneCredsSecretMountPath;
   private final AtomicReference<Optional<Integer>> cachedExitValue;
+  private final AtomicReference<AsyncKubePodStatus> cachedTerminalDocStoreStatus;
   private final Map<String, String> environmentVariables;
   private final Map<String, String> annotations;
   private final Integer serverPort;
@@ -80,6 +88,7 @@ public class AsyncOrchestratorPodProcess implements KubePod {
                                      final KubePodInfo kubePodInfo,
                                      final DocumentStoreClient documentStoreClient,
                                      final KubernetesClient kubernetesClient,
+                                     final KubePodStatusCache podStatusCache,
                                      final String secretName,
                                      final String secretMountPath,
                                      final String dataPlaneCredsSecretName,
@@ -93,12 +102,14 @@ public class AsyncOrchestratorPodProcess implements KubePod {
     this.kubePodInfo = kubePodInfo;
     this.documentStoreClient = documentStoreClient;
     this.kubernetesClient = kubernetesClient;
+    this.podStatusCache = podStatusCache;
     this.secretName = secretName;
     this.secretMountPath = secretMountPath;
     this.dataPlaneCredsSecretName = dataPlaneCredsSecretName;
     this.dataPlaneCredsSecretMountPath = dataPlaneCredsSecretMountPath;
     this.googleApplicationCredentials = googleApplicationCredentials;
     this.cachedExitValue = new AtomicReference<>(Optional.empty());
+    this.cachedTerminalDocStoreStatus = new AtomicReference<>();
     this.environmentVariables = environmentVariables;
     this.annotations = annotations;
     this.serverPort = serverPort;
@@ -145,10 +156,7 @@ public class AsyncOrchestratorPodProcess implements KubePod {
       return 0;
     }
 
-    final Pod pod = kubernetesClient.pods()
-        .inNamespace(getInfo().namespace())
-        .withName(getInfo().name())
-        .get();
+    final Pod pod = getPod();
 
     // Since the pod creation blocks until the pod is created the first time,
     // if the pod no longer exists (and we don't have a success/fail document)
@@ -189,6 +197,21 @@ public class AsyncOrchestratorPodProcess implements KubePod {
     }
   }
 
+  /**
+   * Read the pod from the shared pod status cache, falling back to the Kubernetes API if the cache
+   * doesn't know about it (e.g. a pod created before the job pod label was enforced).
+   */
+  private Pod getPod() {
+    final Pod cachedPod = podStatusCache.get(getInfo().name());
+    if (cachedPod != null) {
+      return cachedPod;
+    }
+    return kubernetesClient.pods()
+        .inNamespace(getInfo().namespace())
+        .withName(getInfo().name())
+        .get();
+  }
+
   @Override
   public int exitValue() {
     final var optionalCached = cachedExitValue.get();
@@ -249,20 +272,59 @@ public class AsyncOrchestratorPodProcess implements KubePod {
       return false;
     }
 
-    final long deadline = System.nanoTime() + remainingNanos;
-    do {
-      // The remainingNanos bit is about calculating how much time left for the actual timeout.
-      // Most of the time we should be sleeping for 500ms except when we get to the actual timeout.
-      // We are waiting polling every 500ms for status. The trade-off here is between how often
-      // we poll our status storage (GCS) and how reactive we are to detect that a process is done.
-      Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1, JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS));
-      if (hasExited()) {
-        return true;
+    // Wake up as soon as the pod terminates instead of waiting for the next poll of the doc store.
+    final CompletableFuture<Void> podTerminated = new CompletableFuture<>();
+    final AutoCloseable registration = podStatusCache.addEventHandler(getInfo().name(), new ResourceEventHandler<>() {
+
+      @Override
+      public void onAdd(final Pod pod) {
+        if (KubePodResourceHelper.isTerminal(pod)) {
+          podTerminated.complete(null);
+        }
       }
-      remainingNanos = deadline - System.nanoTime();
-    } while (remainingNanos > 0);
 
-    return false;
+      @Override
+      public void onUpdate(final Pod oldPod, final Pod newPod) {
+        onAdd(newPod);
+      }
+
+      @Override
+      public void onDelete(final Pod pod, final boolean deletedFinalStateUnknown) {
+        podTerminated.complete(null);
+      }
+
+    });
+
+    try {
+      final long deadline = System.nanoTime() + remainingNanos;
+      long pollingIntervalMillis = JOB_STATUS_INITIAL_POLLING_INTERVAL_IN_MILLIS;
+      do {
+        // The remainingNanos bit is about calculating how much time left for the actual timeout.
+        // Most of the time we should be waiting for the polling interval except when we get to the actual
+        // timeout. The trade-off here is between how often we poll our status storage (GCS) and how
+        // reactive we are to detect that a process is done; pod termination events cut the wait short,
+        // which is what lets the interval grow for long running syncs.
+        final long waitMillis = Math.min(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1, pollingIntervalMillis);
+        pollingIntervalMillis = Math.min(pollingIntervalMillis * 2, JOB_STATUS_MAX_POLLING_INTERVAL_IN_MILLIS);
+        if (podTerminated.isDone()) {
+          Thread.sleep(waitMillis);
+        } else {
+          try {
+            podTerminated.get(waitMillis, TimeUnit.MILLISECONDS);
+          } catch (final TimeoutException | ExecutionException e) {
+            // nothing happened to the pod, poll the doc store again
+          }
+        }
+        if (hasExited()) {
+          return true;
+        }
+        remainingNanos = deadline - System.nanoTime();
+      } while (remainingNanos > 0);
+
+      return false;
+    } finally {
+      Exceptions.swallow(registration::close);
+    }
   }
 
   @Override
@@ -340,15 +402,49 @@ public class AsyncOrchestratorPodProcess implements KubePod {
   }
 
   /**
-   * Checks terminal states first, then running, then initialized. Defaults to not started.
+   * Reads the latest status from the single status document written by the orchestrator. A status
+   * that isn't terminal is trusted while the pod status cache shows the pod alive. Falls back to
+   * checking the document of each status for orchestrators that don't write it, or once the pod
+   * ended: terminal states first, then running, then initialized. Defaults to not started.
    * <p>
    * The order matters here!
+   * <p>
+   * Statuses only move forward, so a terminal status is cached and not read again.
    */
   public AsyncKubePodStatus getDocStoreStatus() {
+    final AsyncKubePodStatus cachedStatus = cachedTerminalDocStoreStatus.get();
+    if (cachedStatus != null) {
+      return cachedStatus;
+    }
+
+    final AsyncKubePodStatus status = readDocStoreStatus();
+    if (status.isTerminal()) {
+      cachedTerminalDocStoreStatus.set(status);
+    }
+    return status;
+  }
+
+  private AsyncKubePodStatus readDocStoreStatus() {
+    final Optional<AsyncKubePodStatus> latestStatus = getDocument(AsyncKubePodStatus.STATUS_DOCUMENT).flatMap(value -> {
+      final Optional<AsyncKubePodStatus> status = AsyncKubePodStatus.fromStatusDocument(value);
+      if (status.isEmpty()) {
+        log.warn("Ignoring unknown status {} reported by orchestrator pod {}", value, getInfo().name());
+      }
+      return status;
+    });
+    if (latestStatus.isPresent() && (latestStatus.get().isTerminal() || isPodAlive())) {
+      return latestStatus.get();
+    }
+
+    // The status document is written after the document of each status, so it falls behind if that
+    // second write fails: once the pod ended, the terminal documents take precedence over a status that
+    // isn't terminal.
     if (checkStatus(AsyncKubePodStatus.FAILED)) {
       return AsyncKubePodStatus.FAILED;
     } else if (checkStatus(AsyncKubePodStatus.SUCCEEDED)) {
       return AsyncKubePodStatus.SUCCEEDED;
+    } else if (latestStatus.isPresent()) {
+      return latestStatus.get();
     } else if (checkStatus(AsyncKubePodStatus.RUNNING)) {
       return AsyncKubePodStatus.RUNNING;
     } else if (checkStatus(AsyncKubePodStatus.INITIALIZING)) {
@@ -358,6 +454,15 @@ public class AsyncOrchestratorPodProcess implements KubePod {
     }
   }
 
+  /**
+   * Whether the pod status cache shows the pod running. Only the cache is read, so this doesn't cost
+   * a call to the Kubernetes API.
+   */
+  private boolean isPodAlive() {
+    final Pod pod = podStatusCache.get(getInfo().name());
+    return pod != null && !KubePodResourceHelper.isTerminal(pod);
+  }
+
   /**
    * Create orchestrator pod process.
    *
@@ -491,18 +596,17 @@ public class AsyncOrchestratorPodProcess implements KubePod {
         .createOrReplace(podToCreate);
 
     log.info("Waiting for pod to be running...");
-    kubernetesClient.pods()
-        .inNamespace(kubePodInfo.namespace())
-        .withName(kubePodInfo.name())
-        .waitUntilCondition(p -> !p.getStatus().getInitContainerStatuses().isEmpty()
-            && p.getStatus().getInitContainerStatuses().get(0).getState().getWaiting() == null,
-            5, TimeUnit.MINUTES);
-
-    final var podStatus = kubernetesClient.pods()
-        .inNamespace(kubePodInfo.namespace())
-        .withName(kubePodInfo.name())
-        .get()
-        .getStatus();
+    final Pod runningPod;
+    try {
+      runningPod = podStatusCache.waitUntilCondition(kubePodInfo.name(),
+          p -> KubePodResourceHelper.getInitContainerState(p).map(state -> state.getWaiting() == null).orElse(false),
+          5, TimeUnit.MINUTES);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new KubernetesClientException("Interrupted while waiting for pod " + kubePodInfo.name() + " to be running", e);
+    }
+
+    final var podStatus = runningPod.getStatus();
 
     final var containerState = podStatus
         .getInitContainerStatuses()
@@ -518,51 +622,7 @@ public class AsyncOrchestratorPodProcess implements KubePod {
     final var updatedFileMap = new HashMap<>(fileMap);
     updatedFileMap.put(KUBE_POD_INFO, Jsons.serialize(kubePodInfo));
 
-    copyFilesToKubeConfigVolumeMain(createdPod, updatedFileMap);
-  }
-
-  private static void copyFilesToKubeConfigVolumeMain(final Pod podDefinition, final Map<String, String> files) {
-    final List<Map.Entry<String, String>> fileEntries = new ArrayList<>(files.entrySet());
-
-    // copy this file last to indicate that the copy has completed
-    fileEntries.add(new AbstractMap.SimpleEntry<>(KubePodProcess.SUCCESS_FILE_NAME, ""));
-
-    Path tmpFile = null;
-    Process proc = null;
-    for (final Map.Entry<String, String> file : fileEntries) {
-      try {
-        tmpFile = Path.of(IOs.writeFileToRandomTmpDir(file.getKey(), file.getValue()));
-
-        log.info("Uploading file: " + file.getKey());
-        final var containerPath = Path.of(KubePodProcess.CONFIG_DIR + "/" + file.getKey());
-
-        // using kubectl cp directly here, because both fabric and the official kube client APIs have
-        // several issues with copying files. See https://github.com/airbytehq/airbyte/issues/8643 for
-        // details.
-        final String command = String.format("kubectl cp %s %s/%s:%s -c %s", tmpFile, podDefinition.getMetadata().getNamespace(),
-            podDefinition.getMetadata().getName(), containerPath, KubePodProcess.INIT_CONTAINER_NAME);
-        log.info(command);
-
-        proc = Runtime.getRuntime().exec(command);
-        log.info("Waiting for kubectl cp to complete");
-        final int exitCode = proc.waitFor();
-
-        if (exitCode != 0) {
-          throw new IOException("kubectl cp failed with exit code " + exitCode);
-        }
-
-        log.info("kubectl cp complete, closing process");
-      } catch (final IOException | InterruptedException e) {
-        throw new RuntimeException(e);
-      } finally {
-        if (tmpFile != null) {
-          tmpFile.toFile().delete();
-        }
-        if (proc != null) {
-          proc.destroy();
-        }
-      }
-    }
+    KubePodProcess.copyFilesToKubeConfigVolume(kubernetesClient, podStatusCache, createdPod, updatedFileMap);
   }
 
 }
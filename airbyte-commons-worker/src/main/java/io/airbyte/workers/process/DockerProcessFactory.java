@@ -7,7 +7,10 @@ package io.airbyte.workers.process;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.commons.constants.WorkerConstants;
 import io.airbyte.commons.helper.DockerImageNameHelper;
 import io.airbyte.commons.io.IOs;
@@ -24,6 +27,7 @@ import io.airbyte.workers.exception.WorkerException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -31,6 +35,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import kotlin.Pair;
@@ -50,6 +59,10 @@ public class DockerProcessFactory implements ProcessFactory {
   private static final Path LOCAL_MOUNT_DESTINATION = Path.of("/local");
   private static final String IMAGE_EXISTS_SCRIPT = "image_exists.sh";
   private static final String DD_SUPPORT_CONNECTOR_NAMES = "CONNECTOR_DATADOG_SUPPORT_NAMES";
+  // an image removed in the meantime is pulled again by docker run, so being stale is harmless
+  private static final Duration IMAGE_EXISTS_CACHE_TTL = Duration.ofMinutes(10);
+  // each check runs a docker command, more checks than this at once wait for a thread
+  private static final int IMAGE_CHECK_THREADS = 4;
   public static final String JAVA_OPTS = "JAVA_OPTS";
 
   private final String workspaceMountSource;
@@ -58,6 +71,14 @@ public class DockerProcessFactory implements ProcessFactory {
   private final String localMountSource;
   private final String networkName;
   private final Path imageExistsScriptPath;
+  // only images found to exist are cached, a missing image may be pushed at any time
+  private final Cache<String, Boolean> existingImages = CacheBuilder.newBuilder()
+      .expireAfterWrite(IMAGE_EXISTS_CACHE_TTL)
+      .build();
+  private final ExecutorService imageCheckExecutor = Executors.newFixedThreadPool(IMAGE_CHECK_THREADS, new ThreadFactoryBuilder()
+      .setNameFormat("docker-image-check-%d")
+      .setDaemon(true)
+      .build());
 
   /**
    * Used to construct a Docker process.
@@ -116,9 +137,8 @@ public class DockerProcessFactory implements ProcessFactory {
                         final String... args)
       throws WorkerException {
     try {
-      if (!checkImageExists(imageName)) {
-        throw new WorkerException("Could not find image: " + imageName);
-      }
+      // checking the image forks a script, the files are written while it runs
+      final CompletableFuture<Boolean> imageExists = imageExistsAsync(imageName);
 
       if (!jobRoot.toFile().exists()) {
         Files.createDirectory(jobRoot);
@@ -128,6 +148,10 @@ public class DockerProcessFactory implements ProcessFactory {
         IOs.writeFile(jobRoot.resolve(file.getKey()), file.getValue());
       }
 
+      if (!awaitImageCheck(imageExists)) {
+        throw new WorkerException("Could not find image: " + imageName);
+      }
+
       final List<String> cmd = Lists.newArrayList(
           "docker",
           "run",
@@ -295,6 +319,45 @@ public class DockerProcessFactory implements ProcessFactory {
     return DATA_MOUNT_DESTINATION.resolve(relativePath);
   }
 
+  private CompletableFuture<Boolean> imageExistsAsync(final String imageName) {
+    if (existingImages.getIfPresent(imageName) != null) {
+      return CompletableFuture.completedFuture(true);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        final boolean exists = checkImageExists(imageName);
+        if (exists) {
+          existingImages.put(imageName, true);
+        }
+        return exists;
+      } catch (final WorkerException e) {
+        throw new CompletionException(e);
+      }
+    }, imageCheckExecutor);
+  }
+
+  @VisibleForTesting
+  boolean imageExists(final String imageName) throws WorkerException {
+    return awaitImageCheck(imageExistsAsync(imageName));
+  }
+
+  private static boolean awaitImageCheck(final CompletableFuture<Boolean> imageExists) throws WorkerException {
+    try {
+      return imageExists.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WorkerException("Interrupted while checking if the image exists", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof WorkerException) {
+        throw (WorkerException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new WorkerException("Failed to check if the image exists", e.getCause());
+    }
+  }
+
   @VisibleForTesting
   boolean checkImageExists(final String imageName) throws WorkerException {
     try {
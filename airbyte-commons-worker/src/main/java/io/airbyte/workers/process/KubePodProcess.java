@@ -4,7 +4,7 @@
 
 package io.airbyte.workers.process;
 
-import io.airbyte.commons.io.IOs;
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.commons.resources.MoreResources;
 import io.airbyte.config.Configs;
@@ -33,16 +33,16 @@ import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.dsl.PodResource;
-import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.dsl.ExecWatch;
 import io.fabric8.kubernetes.client.readiness.Readiness;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.ProcessHandle.Info;
 import java.net.ServerSocket;
 import java.net.Socket;
-import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
@@ -57,10 +57,13 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.io.output.NullOutputStream;
 import org.apache.commons.text.StringEscapeUtils;
 import org.slf4j.Logger;
@@ -144,6 +147,8 @@ public class KubePodProcess implements KubePod {
 
   private static final int INIT_RETRY_MAX_ITERATIONS = (int) (INIT_RETRY_TIMEOUT_MINUTES.toSeconds() / INIT_SLEEP_PERIOD_SECONDS);
 
+  private static final Duration FILE_UPLOAD_TIMEOUT = Duration.ofMinutes(5);
+
   private static final ConnectorDatadogSupportHelper CONNECTOR_DATADOG_SUPPORT_HELPER = new ConnectorDatadogSupportHelper();
   private final KubernetesClient fabricClient;
   private final Pod podDefinition;
@@ -160,7 +165,7 @@ public class KubePodProcess implements KubePod {
   private final int stderrLocalPort;
   private final ExecutorService executorService;
   private final CompletableFuture<Integer> exitCodeFuture;
-  private final SharedIndexInformer<Pod> podInformer;
+  private final AutoCloseable podEventHandlerRegistration;
 
   /**
    * Get pod IP.
@@ -277,12 +282,19 @@ public class KubePodProcess implements KubePod {
 
   /**
    * Copy files to kube pod.
+   * <p>
+   * All files are packed into a single tar archive that is streamed into the init container through
+   * one exec call, instead of forking a separate `kubectl cp` process per file. The success indicator
+   * file is the last entry of the archive, so the init container only sees it once every other file
+   * has been fully written.
    *
    * @param client kube client
+   * @param podStatusCache cache following the pod
    * @param podDefinition pod to copy to
    * @param files files to copy
    */
   public static void copyFilesToKubeConfigVolume(final KubernetesClient client,
+                                                 final KubePodStatusCache podStatusCache,
                                                  final Pod podDefinition,
                                                  final Map<String, String> files) {
     final List<Map.Entry<String, String>> fileEntries = new ArrayList<>(files.entrySet());
@@ -290,53 +302,77 @@ public class KubePodProcess implements KubePod {
     // copy this file last to indicate that the copy has completed
     fileEntries.add(new AbstractMap.SimpleEntry<>(SUCCESS_FILE_NAME, ""));
 
-    Path tmpFile = null;
-    Process proc = null;
-    for (final Map.Entry<String, String> file : fileEntries) {
-      try {
-        tmpFile = Path.of(IOs.writeFileToRandomTmpDir(file.getKey(), file.getValue()));
-
-        LOGGER.info("Uploading file: " + file.getKey());
-        final var containerPath = Path.of(CONFIG_DIR + "/" + file.getKey());
-
-        // using kubectl cp directly here, because both fabric and the official kube client APIs have
-        // several issues with copying files. See https://github.com/airbytehq/airbyte/issues/8643 for
-        // details.
-        final String command = String.format("kubectl cp %s %s/%s:%s -c %s", tmpFile, podDefinition.getMetadata().getNamespace(),
-            podDefinition.getMetadata().getName(), containerPath, INIT_CONTAINER_NAME);
-        LOGGER.info(command);
-
-        proc = Runtime.getRuntime().exec(command);
-        LOGGER.info("Waiting for kubectl cp to complete");
-        final int exitCode = proc.waitFor();
-
-        if (exitCode != 0) {
-          // Copying the success indicator file to the init container causes the container to immediately
-          // exit, causing the `kubectl cp` command to exit with code 137. This check ensures that an error is
-          // not thrown in this case if the init container exits successfully.
-          if (SUCCESS_FILE_NAME.equals(file.getKey()) && waitForInitPodToTerminate(client, podDefinition, 5, TimeUnit.MINUTES) == 0) {
-            LOGGER.info("Init was successful; ignoring non-zero kubectl cp exit code for success indicator file.");
-          } else {
-            throw new IOException("kubectl cp failed with exit code " + exitCode);
-          }
-        }
+    final String podNamespace = podDefinition.getMetadata().getNamespace();
+    final String podName = podDefinition.getMetadata().getName();
+    try {
+      final byte[] archive = toTarArchive(fileEntries);
+      LOGGER.info("Uploading files: {} ({} bytes)", fileEntries.stream().map(Map.Entry::getKey).collect(Collectors.toList()), archive.length);
 
-        LOGGER.info("kubectl cp complete, closing process");
-      } catch (final IOException | InterruptedException e) {
-        throw new RuntimeException(e);
-      } finally {
-        if (tmpFile != null) {
-          try {
-            tmpFile.toFile().delete();
-          } catch (final Exception e) {
-            LOGGER.info("Caught exception when deleting temp file but continuing to allow process deletion.", e);
-          }
+      final int exitCode;
+      try (final ExecWatch execWatch = client.pods()
+          .inNamespace(podNamespace)
+          .withName(podName)
+          .inContainer(INIT_CONTAINER_NAME)
+          .redirectingInput()
+          .writingOutput(NullOutputStream.NULL_OUTPUT_STREAM)
+          .writingError(NullOutputStream.NULL_OUTPUT_STREAM)
+          .exec("tar", "-xf", "-", "-C", CONFIG_DIR)) {
+        try (final OutputStream execInput = execWatch.getInput()) {
+          execInput.write(archive);
+          execInput.flush();
+        } catch (final IOException e) {
+          // Writing the success indicator file makes the init container exit, which may close the stream
+          // before we close it ourselves. The exit code check below decides whether the upload succeeded.
+          LOGGER.info("Exec input stream closed while uploading files: {}", e.getMessage());
         }
-        if (proc != null) {
-          proc.destroy();
+        LOGGER.info("Waiting for file upload to complete");
+        exitCode = execWatch.exitCode().get(FILE_UPLOAD_TIMEOUT.toMinutes(), TimeUnit.MINUTES);
+      }
+
+      if (exitCode != 0) {
+        // Extracting the success indicator file to the init container causes the container to immediately
+        // exit, which can make the exec call report a non-zero exit code. This check ensures that an error
+        // is not thrown in this case if the init container exits successfully.
+        if (waitForInitPodToTerminate(podStatusCache, podDefinition, 5, TimeUnit.MINUTES) == 0) {
+          LOGGER.info("Init was successful; ignoring non-zero exit code for file upload.");
+        } else {
+          throw new IOException("File upload failed with exit code " + exitCode);
         }
       }
+
+      LOGGER.info("File upload complete");
+    } catch (final IOException | ExecutionException | TimeoutException e) {
+      throw new RuntimeException(prependPodInfo("Failed to upload files.", podNamespace, podName), e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(prependPodInfo("Interrupted while uploading files.", podNamespace, podName), e);
+    }
+  }
+
+  /**
+   * Packs file entries into an in-memory tar archive, preserving their order.
+   *
+   * @param fileEntries file name to file contents, in the order they should be extracted
+   * @return tar archive bytes
+   * @throws IOException if the archive could not be written
+   */
+  @VisibleForTesting
+  static byte[] toTarArchive(final List<Map.Entry<String, String>> fileEntries) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final TarArchiveOutputStream tar = new TarArchiveOutputStream(bytes, StandardCharsets.UTF_8.name())) {
+      tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+      for (final Map.Entry<String, String> file : fileEntries) {
+        final byte[] content = file.getValue().getBytes(StandardCharsets.UTF_8);
+        final TarArchiveEntry entry = new TarArchiveEntry(file.getKey());
+        entry.setSize(content.length);
+        entry.setMode(TarArchiveEntry.DEFAULT_FILE_MODE);
+        tar.putArchiveEntry(entry);
+        tar.write(content);
+        tar.closeArchiveEntry();
+      }
+      tar.finish();
     }
+    return bytes.toByteArray();
   }
 
   /**
@@ -345,31 +381,27 @@ public class KubePodProcess implements KubePod {
    * checking if the getRunning field is set. We could put this behind an interface, but that seems
    * heavy-handed compared to the 10 lines here.
    */
-  private static void waitForInitPodToRun(final KubernetesClient client, final Pod podDefinition) throws InterruptedException {
-    // todo: this could use the watcher instead of waitUntilConditions
+  private static void waitForInitPodToRun(final KubePodStatusCache podStatusCache, final Pod podDefinition) throws InterruptedException {
     LOGGER.info("Waiting for init container to be ready before copying files...");
-    final PodResource pod =
-        client.pods().inNamespace(podDefinition.getMetadata().getNamespace()).withName(podDefinition.getMetadata().getName());
-    pod.waitUntilCondition(p -> p.getStatus().getInitContainerStatuses().size() != 0, 5, TimeUnit.MINUTES);
-    LOGGER.info("Init container present..");
-    client.pods().inNamespace(podDefinition.getMetadata().getNamespace()).withName(podDefinition.getMetadata().getName())
-        .waitUntilCondition(p -> p.getStatus().getInitContainerStatuses().get(0).getState().getRunning() != null, 5, TimeUnit.MINUTES);
+    podStatusCache.waitUntilCondition(podDefinition.getMetadata().getName(),
+        p -> KubePodResourceHelper.getInitContainerState(p).map(state -> state.getRunning() != null).orElse(false),
+        5, TimeUnit.MINUTES);
     LOGGER.info("Init container ready..");
   }
 
   /**
    * Waits for the init container to terminate, and returns its exit code.
    */
-  private static int waitForInitPodToTerminate(final KubernetesClient client,
+  private static int waitForInitPodToTerminate(final KubePodStatusCache podStatusCache,
                                                final Pod podDefinition,
                                                final long timeUnitsToWait,
                                                final TimeUnit timeUnit)
       throws InterruptedException {
     LOGGER.info("Waiting for init container to terminate before checking exit value...");
-    client.pods().inNamespace(podDefinition.getMetadata().getNamespace()).withName(podDefinition.getMetadata().getName())
-        .waitUntilCondition(p -> p.getStatus().getInitContainerStatuses().get(0).getState().getTerminated() != null, timeUnitsToWait, timeUnit);
-    final int exitValue = client.pods().inNamespace(podDefinition.getMetadata().getNamespace()).withName(podDefinition.getMetadata().getName()).get()
-        .getStatus().getInitContainerStatuses().get(0).getState().getTerminated().getExitCode();
+    final Pod pod = podStatusCache.waitUntilCondition(podDefinition.getMetadata().getName(),
+        p -> KubePodResourceHelper.getInitContainerState(p).map(state -> state.getTerminated() != null).orElse(false),
+        timeUnitsToWait, timeUnit);
+    final int exitValue = pod.getStatus().getInitContainerStatuses().get(0).getState().getTerminated().getExitCode();
     LOGGER.info("Init container terminated with exit value {}.", exitValue);
     return exitValue;
   }
@@ -390,6 +422,7 @@ public class KubePodProcess implements KubePod {
   @SuppressWarnings({"PMD.InvalidLogMessageFormat", "VariableDeclarationUsageDistance"})
   public KubePodProcess(final String processRunnerHost,
                         final KubernetesClient fabricClient,
+                        final KubePodStatusCache podStatusCache,
                         final String podName,
                         final String namespace,
                         final String serviceAccount,
@@ -573,16 +606,12 @@ public class KubePodProcess implements KubePod {
 
       this.podDefinition = fabricClient.pods().inNamespace(namespace).createOrReplace(pod);
 
-      // We want to create a watch before the init container runs. Then we can guarantee
+      // We want to subscribe to pod events before the init container runs. Then we can guarantee
       // that we're checking for updates across the full lifecycle of the main container.
       // This is safe only because we are blocking the init pod until we copy files onto it.
       // See the ExitCodeWatcher comments for more info.
       exitCodeFuture = new CompletableFuture<>();
-      podInformer = fabricClient.pods()
-          .inNamespace(namespace)
-          .withName(pod.getMetadata().getName())
-          .inform();
-      podInformer.addEventHandler(new ExitCodeWatcher(
+      podEventHandlerRegistration = podStatusCache.addEventHandler(pod.getMetadata().getName(), new ExitCodeWatcher(
           pod.getMetadata().getName(),
           namespace,
           exitCodeFuture::complete,
@@ -597,10 +626,10 @@ public class KubePodProcess implements KubePod {
             exitCodeFuture.complete(KILLED_EXIT_CODE);
           }));
 
-      waitForInitPodToRun(fabricClient, podDefinition);
+      waitForInitPodToRun(podStatusCache, podDefinition);
 
       LOGGER.info("Copying files...");
-      copyFilesToKubeConfigVolume(fabricClient, podDefinition, files);
+      copyFilesToKubeConfigVolume(fabricClient, podStatusCache, podDefinition, files);
 
       LOGGER.info("Waiting until pod is ready...");
       // If a pod gets into a non-terminal error state it should be automatically killed by our
@@ -610,7 +639,7 @@ public class KubePodProcess implements KubePod {
       // This doesn't manage things like pods that are blocked from running for some cluster reason or if
       // the init
       // container got stuck somehow.
-      fabricClient.resource(podDefinition).waitUntilCondition(p -> {
+      final Pod readyPod = podStatusCache.waitUntilCondition(podName, p -> {
         final boolean isReady = Objects.nonNull(p) && Readiness.getInstance().isReady(p);
         return isReady || KubePodResourceHelper.isTerminal(p);
       }, 20, TimeUnit.MINUTES);
@@ -619,7 +648,7 @@ public class KubePodProcess implements KubePod {
 
       // allow writing stdin to pod
       LOGGER.info("Reading pod IP...");
-      final var podIp = getPodIP(fabricClient, podName, namespace);
+      final var podIp = readyPod.getStatus().getPodIP();
       LOGGER.info("Pod IP: {}", podIp);
 
       if (usesStdin) {
@@ -772,8 +801,8 @@ public class KubePodProcess implements KubePod {
     if (this.stderrServerSocket != null) {
       Exceptions.swallow(this.stderrServerSocket::close);
     }
-    if (this.podInformer != null) {
-      Exceptions.swallow(this.podInformer::close);
+    if (this.podEventHandlerRegistration != null) {
+      Exceptions.swallow(this.podEventHandlerRegistration::close);
     }
     if (this.executorService != null) {
       Exceptions.swallow(this.executorService::shutdownNow);
@@ -4,9 +4,11 @@
 
 package io.airbyte.workers.process;
 
+import io.fabric8.kubernetes.api.model.ContainerState;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -37,4 +39,17 @@ public class KubePodResourceHelper {
     }
   }
 
+  /**
+   * Get the state of the (single) init container of the Kube pod process.
+   *
+   * @param pod pod
+   * @return state of the init container, or empty if the pod has no init container status yet.
+   */
+  public static Optional<ContainerState> getInitContainerState(final Pod pod) {
+    if (pod == null || pod.getStatus() == null || pod.getStatus().getInitContainerStatuses().isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(pod.getStatus().getInitContainerStatuses().get(0).getState());
+  }
+
 }
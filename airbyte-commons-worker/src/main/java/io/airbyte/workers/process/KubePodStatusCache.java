@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.process;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.lang.Exceptions;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shared, informer-backed view of the job pods in a namespace.
+ * <p>
+ * Every {@link KubePodProcess} and {@link AsyncOrchestratorPodProcess} used to either poll the
+ * Kubernetes API with waitUntilCondition or open its own watch to follow the lifecycle of its pod.
+ * Instead, a single informer per worker watches all pods labelled as job pods (see
+ * {@link KubeProcessFactory#getLabels}) and fans events out to the handlers registered for a given
+ * pod name. This keeps the load on the Kubernetes API flat regardless of how many pods a worker is
+ * managing concurrently.
+ * <p>
+ * The informer is started on first use rather than when the bean is created, so that workers which
+ * never launch a pod never open a watch, and it is stopped when the application context shuts down.
+ */
+@Singleton
+@Slf4j
+public class KubePodStatusCache implements ResourceEventHandler<Pod> {
+
+  private final String namespace;
+  private final KubernetesClient client;
+  private final SharedIndexInformer<Pod> informer;
+  private final Store<Pod> store;
+  private final Map<String, Set<ResourceEventHandler<Pod>>> handlersByPodName = new ConcurrentHashMap<>();
+  private boolean started;
+
+  @Inject
+  public KubePodStatusCache(@Value("${airbyte.worker.job.kube.namespace}") final String namespace) {
+    this.namespace = namespace;
+    this.client = new DefaultKubernetesClient();
+    this.informer = client.pods()
+        .inNamespace(namespace)
+        .withLabel(Metadata.WORKER_POD_LABEL_KEY, Metadata.WORKER_POD_LABEL_VALUE)
+        .runnableInformer(0);
+    this.store = informer.getStore();
+    informer.addEventHandler(this);
+  }
+
+  @VisibleForTesting
+  KubePodStatusCache(final String namespace, final Store<Pod> store) {
+    this.namespace = namespace;
+    this.client = null;
+    this.informer = null;
+    this.store = store;
+    this.started = true;
+  }
+
+  /**
+   * Stop the informer and release the client backing it.
+   */
+  @PreDestroy
+  public synchronized void close() {
+    if (informer != null) {
+      informer.stop();
+      client.close();
+    }
+  }
+
+  private synchronized void ensureStarted() {
+    if (!started) {
+      log.info("Starting job pod informer for namespace {}", namespace);
+      // blocks until the initial list has been loaded into the store
+      informer.run();
+      started = true;
+    }
+  }
+
+  /**
+   * Get the latest known state of a pod.
+   *
+   * @param podName pod name
+   * @return pod, or null if the pod isn't known to the informer
+   */
+  public Pod get(final String podName) {
+    ensureStarted();
+    return store.getByKey(Cache.namespaceKeyFunc(namespace, podName));
+  }
+
+  /**
+   * Subscribe to the events of a single pod. The handler is immediately called with the current state
+   * of the pod, if any, so that no transition can be missed between creating a pod and subscribing
+   * to it. Events for the handler are delivered one at a time, and none of them can overtake that
+   * initial call.
+   *
+   * @param podName pod name
+   * @param handler handler to notify
+   * @return registration, closing it unsubscribes the handler
+   */
+  public AutoCloseable addEventHandler(final String podName, final ResourceEventHandler<Pod> handler) {
+    ensureStarted();
+    final SerializedHandler serialized = new SerializedHandler(handler);
+    // hold the handler's lock while registering it so that informer events wait for the initial state
+    synchronized (serialized) {
+      handlersByPodName.computeIfAbsent(podName, name -> ConcurrentHashMap.newKeySet()).add(serialized);
+
+      final Pod current = get(podName);
+      if (current != null) {
+        handler.onAdd(current);
+      }
+    }
+
+    return () -> handlersByPodName.computeIfPresent(podName, (name, handlers) -> {
+      handlers.remove(serialized);
+      return handlers.isEmpty() ? null : handlers;
+    });
+  }
+
+  /**
+   * Wait until a pod matches a condition. Unlike waitUntilCondition on the client, this doesn't issue
+   * any request to the Kubernetes API; it is woken up by the shared informer.
+   *
+   * @param podName pod name
+   * @param condition condition to wait for
+   * @param amount amount of time to wait
+   * @param timeUnit unit of the amount of time to wait
+   * @return the pod once it matches the condition
+   * @throws InterruptedException if interrupted while waiting
+   * @throws KubernetesClientTimeoutException if the condition isn't met in time
+   * @throws KubernetesClientException if the pod is deleted or the condition throws
+   */
+  public Pod waitUntilCondition(final String podName, final Predicate<Pod> condition, final long amount, final TimeUnit timeUnit)
+      throws InterruptedException {
+    final CompletableFuture<Pod> future = new CompletableFuture<>();
+    final ConditionHandler handler = new ConditionHandler(podName, condition, future);
+    final AutoCloseable registration = addEventHandler(podName, handler);
+    try {
+      return future.get(amount, timeUnit);
+    } catch (final TimeoutException e) {
+      throw new KubernetesClientTimeoutException("Pod", podName, namespace, amount, timeUnit);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof KubernetesClientException) {
+        throw (KubernetesClientException) e.getCause();
+      }
+      throw new KubernetesClientException("Error while waiting for pod " + namespace + "/" + podName, e.getCause());
+    } finally {
+      Exceptions.swallow(registration::close);
+    }
+  }
+
+  @Override
+  public void onAdd(final Pod pod) {
+    handlersFor(pod).forEach(handler -> handler.onAdd(pod));
+  }
+
+  @Override
+  public void onUpdate(final Pod oldPod, final Pod newPod) {
+    handlersFor(newPod).forEach(handler -> handler.onUpdate(oldPod, newPod));
+  }
+
+  @Override
+  public void onDelete(final Pod pod, final boolean deletedFinalStateUnknown) {
+    handlersFor(pod).forEach(handler -> handler.onDelete(pod, deletedFinalStateUnknown));
+  }
+
+  private Set<ResourceEventHandler<Pod>> handlersFor(final Pod pod) {
+    return handlersByPodName.getOrDefault(pod.getMetadata().getName(), Set.of());
+  }
+
+  /**
+   * Delivers events to a handler one at a time, whichever thread they come from.
+   */
+  private static class SerializedHandler implements ResourceEventHandler<Pod> {
+
+    private final ResourceEventHandler<Pod> delegate;
+
+    SerializedHandler(final ResourceEventHandler<Pod> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public synchronized void onAdd(final Pod pod) {
+      delegate.onAdd(pod);
+    }
+
+    @Override
+    public synchronized void onUpdate(final Pod oldPod, final Pod newPod) {
+      delegate.onUpdate(oldPod, newPod);
+    }
+
+    @Override
+    public synchronized void onDelete(final Pod pod, final boolean deletedFinalStateUnknown) {
+      delegate.onDelete(pod, deletedFinalStateUnknown);
+    }
+
+  }
+
+  /**
+   * Completes a future the first time the pod it follows matches a condition.
+   */
+  private class ConditionHandler implements ResourceEventHandler<Pod> {
+
+    private final String podName;
+    private final Predicate<Pod> condition;
+    private final CompletableFuture<Pod> future;
+
+    ConditionHandler(final String podName, final Predicate<Pod> condition, final CompletableFuture<Pod> future) {
+      this.podName = podName;
+      this.condition = condition;
+      this.future = future;
+    }
+
+    @Override
+    public void onAdd(final Pod pod) {
+      evaluate(pod);
+    }
+
+    @Override
+    public void onUpdate(final Pod oldPod, final Pod newPod) {
+      evaluate(newPod);
+    }
+
+    @Override
+    public void onDelete(final Pod pod, final boolean deletedFinalStateUnknown) {
+      future.completeExceptionally(new KubernetesClientException("Pod " + namespace + "/" + podName + " was deleted while waiting on it."));
+    }
+
+    private void evaluate(final Pod pod) {
+      if (future.isDone()) {
+        return;
+      }
+      try {
+        if (condition.test(pod)) {
+          future.complete(pod);
+        }
+      } catch (final Exception e) {
+        future.completeExceptionally(e);
+      }
+    }
+
+  }
+
+}
@@ -41,6 +41,7 @@ public class KubeProcessFactory implements ProcessFactory {
   private final String namespace;
   private final String serviceAccount;
   private final KubernetesClient fabricClient;
+  private final KubePodStatusCache podStatusCache;
   private final String kubeHeartbeatUrl;
   private final String processRunnerHost;
 
@@ -52,6 +53,7 @@ public class KubeProcessFactory implements ProcessFactory {
                             final String namespace,
                             final String serviceAccount,
                             final KubernetesClient fabricClient,
+                            final KubePodStatusCache podStatusCache,
                             final String kubeHeartbeatUrl) {
     this(
         workerConfigsProvider,
@@ -59,6 +61,7 @@ public class KubeProcessFactory implements ProcessFactory {
         namespace,
         serviceAccount,
         fabricClient,
+        podStatusCache,
         kubeHeartbeatUrl,
         Exceptions.toRuntime(() -> InetAddress.getLocalHost().getHostAddress()));
   }
@@ -68,6 +71,7 @@ public class KubeProcessFactory implements ProcessFactory {
    *
    * @param namespace kubernetes namespace where spawned pods will live
    * @param fabricClient fabric8 kubernetes client
+   * @param podStatusCache shared cache following the pods spawned in the namespace
    * @param kubeHeartbeatUrl a url where if the response is not 200 the spawned process will fail
    *        itself
    * @param processRunnerHost is the local host or ip of the machine running the process factory.
@@ -79,6 +83,7 @@ public class KubeProcessFactory implements ProcessFactory {
                             final String namespace,
                             final String serviceAccount,
                             final KubernetesClient fabricClient,
+                            final KubePodStatusCache podStatusCache,
                             final String kubeHeartbeatUrl,
                             final String processRunnerHost) {
     this.workerConfigsProvider = workerConfigsProvider;
@@ -86,6 +91,7 @@ public class KubeProcessFactory implements ProcessFactory {
     this.namespace = namespace;
     this.serviceAccount = serviceAccount;
     this.fabricClient = fabricClient;
+    this.podStatusCache = podStatusCache;
     this.kubeHeartbeatUrl = kubeHeartbeatUrl;
     this.processRunnerHost = processRunnerHost;
   }
@@ -142,6 +148,7 @@ public class KubeProcessFactory implements ProcessFactory {
       return new KubePodProcess(
           processRunnerHost,
           fabricClient,
+          podStatusCache,
           podName,
           namespace,
           serviceAccount,
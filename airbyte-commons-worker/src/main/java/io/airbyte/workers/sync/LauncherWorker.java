@@ -195,6 +195,7 @@ public abstract class LauncherWorker<INPUT, OUTPUT> implements Worker<INPUT, OUT
             kubePodInfo,
             containerOrchestratorConfig.documentStoreClient(),
             containerOrchestratorConfig.kubernetesClient(),
+            containerOrchestratorConfig.podStatusCache(),
             containerOrchestratorConfig.secretName(),
             containerOrchestratorConfig.secretMountPath(),
             containerOrchestratorConfig.dataPlaneCredsSecretName(),
@@ -92,6 +92,22 @@ class ParallelStreamStatsTrackerTest {
     assertStreamSyncStatsCoreStatsEquals(expectedStreamSyncStats, actualStreamSyncStats);
   }
 
+  @Test
+  void testInterleavedRecordsAreTrackedOnTheirStream() {
+    final String namespace = "namespace";
+    final AirbyteRecordMessage namespacedMessage = createRecord(STREAM1_NAME, "s1m1").withNamespace(namespace);
+
+    statsTracker.updateStats(S1_MESSAGE1);
+    statsTracker.updateStats(namespacedMessage);
+    statsTracker.updateStats(S1_MESSAGE2);
+    statsTracker.updateStats(S2_MESSAGE1);
+    statsTracker.updateStats(S1_MESSAGE3);
+    statsTracker.updateStats(namespacedMessage);
+
+    assertEquals(Map.of(STREAM1, 3L, STREAM2, 1L, new AirbyteStreamNameNamespacePair(STREAM1_NAME, namespace), 2L),
+        statsTracker.getStreamToEmittedRecords());
+  }
+
   @Test
   void testSerialStreamStatsTrackingOnSingleStream() {
     final var s1State1 = createState(STREAM1_NAME, 1);
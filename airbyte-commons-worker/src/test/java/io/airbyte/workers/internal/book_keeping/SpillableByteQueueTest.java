@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal.book_keeping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class SpillableByteQueueTest {
+
+  private static final int ENTRY_BYTES = 12;
+  // each entry is stored with its length
+  private static final int STORED_ENTRY_BYTES = Integer.BYTES + ENTRY_BYTES;
+
+  @Test
+  void testEntriesArePolledInOrder() throws IOException {
+    final SpillableByteQueue queue = new SpillableByteQueue(10 * STORED_ENTRY_BYTES, 0L);
+    for (int i = 0; i < 10; i++) {
+      assertTrue(queue.offer(entry(i)));
+    }
+
+    assertEquals(10, queue.size());
+    assertEquals(10 * STORED_ENTRY_BYTES, queue.getMemoryUsedBytes());
+    for (int i = 0; i < 10; i++) {
+      assertArrayEquals(entry(i), queue.poll());
+    }
+    assertNull(queue.poll());
+    assertEquals(0, queue.getMemoryUsedBytes());
+  }
+
+  @Test
+  void testEntriesWrapAroundTheBuffer() throws IOException {
+    final SpillableByteQueue queue = new SpillableByteQueue(3 * STORED_ENTRY_BYTES, 0L);
+    for (int i = 0; i < 100; i++) {
+      assertTrue(queue.offer(entry(i)));
+      if (i >= 2) {
+        assertArrayEquals(entry(i - 2), queue.poll());
+      }
+    }
+
+    assertArrayEquals(entry(98), queue.poll());
+    assertArrayEquals(entry(99), queue.poll());
+    assertNull(queue.poll());
+  }
+
+  @Test
+  void testEntriesSpillToDiskInOrder() throws IOException {
+    final SpillableByteQueue queue = new SpillableByteQueue(2 * STORED_ENTRY_BYTES, 4 * STORED_ENTRY_BYTES);
+    for (int i = 0; i < 6; i++) {
+      assertTrue(queue.offer(entry(i)));
+    }
+    assertFalse(queue.offer(entry(6)));
+    assertEquals(2 * STORED_ENTRY_BYTES, queue.getMemoryUsedBytes());
+
+    // memory has room again, but the entry goes to disk after the spilled ones
+    assertArrayEquals(entry(0), queue.poll());
+    assertFalse(queue.offer(entry(6)));
+    assertEquals(STORED_ENTRY_BYTES, queue.getMemoryUsedBytes());
+
+    for (int i = 1; i < 6; i++) {
+      assertArrayEquals(entry(i), queue.poll());
+    }
+    assertNull(queue.poll());
+
+    // once the spilled entries are drained, entries go to memory again
+    assertTrue(queue.offer(entry(6)));
+    assertEquals(STORED_ENTRY_BYTES, queue.getMemoryUsedBytes());
+    assertArrayEquals(entry(6), queue.poll());
+  }
+
+  @Test
+  void testCloseDeletesSpilledEntries() throws IOException {
+    final SpillableByteQueue queue = new SpillableByteQueue(2 * STORED_ENTRY_BYTES, 4 * STORED_ENTRY_BYTES);
+    for (int i = 0; i < 4; i++) {
+      assertTrue(queue.offer(entry(i)));
+    }
+    final Path spillPath = queue.getSpillPath();
+    assertTrue(Files.exists(spillPath));
+
+    queue.close();
+
+    assertFalse(Files.exists(spillPath));
+    assertNull(queue.getSpillPath());
+    assertEquals(0, queue.size());
+    assertEquals(0, queue.getMemoryUsedBytes());
+    assertNull(queue.poll());
+  }
+
+  private static byte[] entry(final int value) {
+    return ByteBuffer.allocate(ENTRY_BYTES).putInt(value).putLong(value * 10L).array();
+  }
+
+}
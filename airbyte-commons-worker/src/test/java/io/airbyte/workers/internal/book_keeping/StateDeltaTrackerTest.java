@@ -33,9 +33,9 @@ class StateDeltaTrackerTest {
   private static final long STATE_3_STREAM_3_COUNT = 33L;
   private static final long STATE_3_STREAM_4_COUNT = 34L;
 
-  // enough capacity for above 3 states, which are each 40 bytes (8 byte hash + two 18 byte stream
-  // counts
-  private static final long INITIAL_DELTA_MEMORY_CAPACITY = 3 * 40L;
+  // enough capacity for above 3 states, which are each 40 bytes (4 byte hash + two 18 byte stream
+  // counts) stored with a 4 byte length
+  private static final long INITIAL_DELTA_MEMORY_CAPACITY = 3 * 44L;
 
   private StateDeltaTracker stateDeltaTracker;
 
@@ -122,4 +122,23 @@ class StateDeltaTrackerTest {
     Assertions.assertEquals(0, stateDeltaTracker.stateDeltas.size());
   }
 
+  @Test
+  void testDeltasAreSpilledToDiskWhenMemoryIsFull() throws Exception {
+    final StateDeltaTracker spillingTracker = new StateDeltaTracker(INITIAL_DELTA_MEMORY_CAPACITY, 1024L);
+    final Map<Short, StatsCounters> counts = Map.of(STREAM_INDEX_1, new StatsCounters(10L, 1L), STREAM_INDEX_2, new StatsCounters(20L, 2L));
+    for (int stateHash = 0; stateHash < 10; stateHash++) {
+      spillingTracker.addState(stateHash, counts);
+    }
+    Assertions.assertFalse(spillingTracker.capacityExceeded);
+    Assertions.assertEquals(0, spillingTracker.remainingCapacity);
+    Assertions.assertEquals(10, spillingTracker.stateDeltas.size());
+
+    spillingTracker.commitStateHash(9);
+
+    final Map<Short, StatsCounters> expected = Map.of(STREAM_INDEX_1, new StatsCounters(100L, 10L), STREAM_INDEX_2, new StatsCounters(200L, 20L));
+    Assertions.assertEquals(expected, spillingTracker.getStreamToCommittedStats());
+    Assertions.assertEquals(INITIAL_DELTA_MEMORY_CAPACITY, spillingTracker.remainingCapacity);
+    Assertions.assertEquals(0, spillingTracker.stateDeltas.size());
+  }
+
 }
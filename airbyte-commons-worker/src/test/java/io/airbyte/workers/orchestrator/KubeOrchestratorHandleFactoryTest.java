@@ -37,7 +37,7 @@ class KubeOrchestratorHandleFactoryTest {
       when(client.stringVariation(ContainerOrchestratorJavaOpts.INSTANCE, new Connection(correctUuid))).thenReturn("");
 
       final ContainerOrchestratorConfig config =
-          new ContainerOrchestratorConfig(expNamespace, null, Map.of("a", "b"), null, expSecret,
+          new ContainerOrchestratorConfig(expNamespace, null, Map.of("a", "b"), null, null, expSecret,
               "path", "dataplane secrets", "dataplane path",
               "image 0", "pull policy", "gcp creds", null, "airbyte-admin");
 
@@ -56,7 +56,7 @@ class KubeOrchestratorHandleFactoryTest {
       when(client.stringVariation(ContainerOrchestratorJavaOpts.INSTANCE, new Connection(badUuid))).thenReturn("");
 
       final ContainerOrchestratorConfig config =
-          new ContainerOrchestratorConfig("ns 1", null, Map.of("a", "b"), null, "secret",
+          new ContainerOrchestratorConfig("ns 1", null, Map.of("a", "b"), null, null, "secret",
               "path", "dataplane secrets", "dataplane path",
               "image 0", "pull policy", "gcp creds", null, "airbyte-admin");
 
@@ -81,7 +81,7 @@ class KubeOrchestratorHandleFactoryTest {
 
       final var orgMap = Map.of("a", "b", "JAVA_OPTS", "bad");
       final ContainerOrchestratorConfig config =
-          new ContainerOrchestratorConfig(expNamespace, null, orgMap, null, expSecret,
+          new ContainerOrchestratorConfig(expNamespace, null, orgMap, null, null, expSecret,
               "path", "dataplane secrets", "dataplane path",
               "image 0", "pull policy", "gcp creds", null, "airbyte-admin");
 
@@ -101,7 +101,7 @@ class KubeOrchestratorHandleFactoryTest {
       when(client.stringVariation(ContainerOrchestratorDevImage.INSTANCE, new Connection(badUuid))).thenReturn("");
 
       final ContainerOrchestratorConfig config =
-          new ContainerOrchestratorConfig("ns 1", null, Map.of("a", "b"), null, "secret",
+          new ContainerOrchestratorConfig("ns 1", null, Map.of("a", "b"), null, null, "secret",
               "path", "dataplane secrets", "dataplane path",
               "image 0", "pull policy", "gcp creds", null, "airbyte-admin");
 
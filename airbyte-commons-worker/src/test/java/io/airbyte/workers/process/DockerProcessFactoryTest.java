@@ -8,8 +8,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.base.Stopwatch;
@@ -51,6 +54,7 @@ class DockerProcessFactoryTest {
   private static final Path TEST_ROOT = Path.of("/tmp/airbyte_tests");
   private static final String PROCESS_FACTORY = "process_factory";
   private static final String BUSYBOX = "busybox";
+  private static final String FAKE_IMAGE = "airbyte/fake:0.1.2";
   private static final UUID CONNECTION_ID = null;
   private static final UUID WORKSPACE_ID = null;
 
@@ -94,7 +98,25 @@ class DockerProcessFactoryTest {
     final Path workspaceRoot = Files.createTempDirectory(Files.createDirectories(TEST_ROOT), PROCESS_FACTORY);
 
     final DockerProcessFactory processFactory = new DockerProcessFactory(createConfigProviderStub(), workspaceRoot, null, null, null);
-    assertFalse(processFactory.checkImageExists("airbyte/fake:0.1.2"));
+    assertFalse(processFactory.checkImageExists(FAKE_IMAGE));
+  }
+
+  @Test
+  void testImageExistsIsCached() throws IOException, WorkerException {
+    final Path workspaceRoot = Files.createTempDirectory(Files.createDirectories(TEST_ROOT), PROCESS_FACTORY);
+
+    final DockerProcessFactory processFactory = spy(new DockerProcessFactory(createConfigProviderStub(), workspaceRoot, null, null, null));
+    doReturn(true).when(processFactory).checkImageExists(BUSYBOX);
+    doReturn(false).when(processFactory).checkImageExists(FAKE_IMAGE);
+
+    assertTrue(processFactory.imageExists(BUSYBOX));
+    assertTrue(processFactory.imageExists(BUSYBOX));
+    assertFalse(processFactory.imageExists(FAKE_IMAGE));
+    assertFalse(processFactory.imageExists(FAKE_IMAGE));
+
+    verify(processFactory, times(1)).checkImageExists(BUSYBOX);
+    // missing images may be pushed at any time, they are checked again
+    verify(processFactory, times(2)).checkImageExists(FAKE_IMAGE);
   }
 
   @Test
@@ -20,9 +20,17 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -84,6 +92,28 @@ class KubePodProcessTest {
     assertEquals(new Quantity("0.5Gi"), actualReqs.getLimits().get(MEMORY));
   }
 
+  @Test
+  @DisplayName("Should pack files into a tar archive in order.")
+  void testToTarArchive() throws IOException {
+    final var archive = KubePodProcess.toTarArchive(List.of(
+        Map.entry("config.json", "{\"key\":\"value\"}"),
+        Map.entry("catalog.json", "{}"),
+        Map.entry(KubePodProcess.SUCCESS_FILE_NAME, "")));
+
+    final List<String> names = new ArrayList<>();
+    final List<String> contents = new ArrayList<>();
+    try (final var tar = new TarArchiveInputStream(new ByteArrayInputStream(archive))) {
+      TarArchiveEntry entry;
+      while ((entry = tar.getNextTarEntry()) != null) {
+        names.add(entry.getName());
+        contents.add(new String(tar.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+
+    assertEquals(List.of("config.json", "catalog.json", KubePodProcess.SUCCESS_FILE_NAME), names);
+    assertEquals(List.of("{\"key\":\"value\"}", "{}", ""), contents);
+  }
+
   // Disabled until we start minikube on the node.
   @Disabled
   @Nested
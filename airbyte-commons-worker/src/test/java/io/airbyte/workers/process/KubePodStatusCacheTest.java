@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.process;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KubePodStatusCacheTest {
+
+  private static final String NAMESPACE = "jobs";
+  private static final String POD_NAME = "source-pod";
+  private static final String OTHER_POD_NAME = "destination-pod";
+
+  private Store<Pod> store;
+  private KubePodStatusCache cache;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setup() {
+    store = mock(Store.class);
+    cache = new KubePodStatusCache(NAMESPACE, store);
+  }
+
+  @Test
+  void testHandlerIsCalledWithCurrentStateAndOnlyForItsPod() throws Exception {
+    final Pod current = pod(POD_NAME, "Pending");
+    when(store.getByKey(NAMESPACE + "/" + POD_NAME)).thenReturn(current);
+    @SuppressWarnings("unchecked")
+    final ResourceEventHandler<Pod> handler = mock(ResourceEventHandler.class);
+
+    final AutoCloseable registration = cache.addEventHandler(POD_NAME, handler);
+    verify(handler).onAdd(current);
+
+    final Pod running = pod(POD_NAME, "Running");
+    cache.onUpdate(current, running);
+    verify(handler).onUpdate(current, running);
+
+    cache.onUpdate(pod(OTHER_POD_NAME, "Pending"), pod(OTHER_POD_NAME, "Running"));
+    registration.close();
+    cache.onDelete(running, false);
+    verifyNoMoreInteractions(handler);
+  }
+
+  @Test
+  void testEventsDoNotOvertakeTheCurrentState() throws Exception {
+    final Pod current = pod(POD_NAME, "Pending");
+    final Pod running = pod(POD_NAME, "Running");
+    final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    final CompletableFuture<Void> update = new CompletableFuture<>();
+    // an informer event fires right after the handler is registered, while its current state is read
+    when(store.getByKey(NAMESPACE + "/" + POD_NAME)).thenAnswer(invocation -> {
+      update.completeAsync(() -> {
+        cache.onUpdate(current, running);
+        return null;
+      });
+      Thread.sleep(50);
+      return current;
+    });
+
+    cache.addEventHandler(POD_NAME, new ResourceEventHandler<>() {
+
+      @Override
+      public void onAdd(final Pod pod) {
+        events.add("add " + pod.getStatus().getPhase());
+      }
+
+      @Override
+      public void onUpdate(final Pod oldPod, final Pod newPod) {
+        events.add("update " + newPod.getStatus().getPhase());
+      }
+
+      @Override
+      public void onDelete(final Pod pod, final boolean deletedFinalStateUnknown) {
+        events.add("delete");
+      }
+
+    });
+    update.get(1, TimeUnit.MINUTES);
+
+    assertEquals(List.of("add Pending", "update Running"), events);
+  }
+
+  @Test
+  void testWaitUntilConditionReturnsImmediatelyWhenAlreadyMet() throws InterruptedException {
+    final Pod running = pod(POD_NAME, "Running");
+    when(store.getByKey(NAMESPACE + "/" + POD_NAME)).thenReturn(running);
+
+    assertSame(running, cache.waitUntilCondition(POD_NAME, p -> "Running".equals(p.getStatus().getPhase()), 1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testWaitUntilConditionIsWokenUpByEvents() throws Exception {
+    final CompletableFuture<Pod> result = CompletableFuture.supplyAsync(() -> {
+      try {
+        return cache.waitUntilCondition(POD_NAME, p -> "Running".equals(p.getStatus().getPhase()), 1, TimeUnit.MINUTES);
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    }, Executors.newSingleThreadExecutor());
+
+    final Pod pending = pod(POD_NAME, "Pending");
+    final Pod running = pod(POD_NAME, "Running");
+    // events may be fired before the waiter subscribes; keep publishing until it returns
+    while (!result.isDone()) {
+      cache.onAdd(pending);
+      cache.onUpdate(pending, running);
+      Thread.sleep(10);
+    }
+
+    assertEquals("Running", result.get().getStatus().getPhase());
+  }
+
+  @Test
+  void testWaitUntilConditionTimesOut() {
+    assertThrows(KubernetesClientTimeoutException.class,
+        () -> cache.waitUntilCondition(POD_NAME, p -> true, 10, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void testWaitUntilConditionFailsWhenPodIsDeleted() {
+    final Pod pending = pod(POD_NAME, "Pending");
+    when(store.getByKey(NAMESPACE + "/" + POD_NAME)).thenReturn(pending);
+
+    final CompletableFuture<Void> deleted = CompletableFuture.runAsync(() -> {
+      try {
+        Thread.sleep(50);
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      cache.onDelete(pending, false);
+    });
+
+    assertThrows(KubernetesClientException.class,
+        () -> cache.waitUntilCondition(POD_NAME, p -> false, 1, TimeUnit.MINUTES));
+    deleted.join();
+  }
+
+  private static Pod pod(final String name, final String phase) {
+    return new PodBuilder()
+        .withNewMetadata()
+        .withName(name)
+        .withNamespace(NAMESPACE)
+        .endMetadata()
+        .withNewStatus()
+        .withPhase(phase)
+        .endStatus()
+        .build();
+  }
+
+}
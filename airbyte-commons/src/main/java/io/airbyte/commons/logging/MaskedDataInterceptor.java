@@ -12,8 +12,11 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.yaml.Yamls;
 import java.nio.charset.Charset;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.Logger;
@@ -42,10 +45,13 @@ public class MaskedDataInterceptor implements RewritePolicy {
 
   protected static final Logger logger = StatusLogger.getLogger();
 
+  private static final String REPLACEMENT = "\"$1\":\"" + AirbyteSecretConstants.SECRETS_MASK + "\"";
+
   /**
-   * The pattern used to determine if a message contains sensitive data.
+   * The pattern used to determine if a message contains sensitive data. It is compiled once, as it
+   * is applied to every log event.
    */
-  private final Optional<String> pattern;
+  private final Optional<Pattern> pattern;
 
   @PluginFactory
   public static MaskedDataInterceptor createPolicy(
@@ -60,12 +66,19 @@ public class MaskedDataInterceptor implements RewritePolicy {
 
   @Override
   public LogEvent rewrite(final LogEvent source) {
+    final String message = source.getMessage().getFormattedMessage();
+    final String maskedMessage = applyMask(message);
+    if (Objects.equals(maskedMessage, message)) {
+      // nothing was masked, the event can be logged as is
+      return source;
+    }
+
     return Log4jLogEvent.newBuilder()
         .setLoggerName(source.getLoggerName())
         .setMarker(source.getMarker())
         .setLoggerFqcn(source.getLoggerFqcn())
         .setLevel(source.getLevel())
-        .setMessage(new SimpleMessage(applyMask(source.getMessage().getFormattedMessage())))
+        .setMessage(new SimpleMessage(maskedMessage))
         .setThrown(source.getThrown())
         .setContextMap(source.getContextMap())
         .setContextStack(source.getContextStack())
@@ -79,14 +92,16 @@ public class MaskedDataInterceptor implements RewritePolicy {
    * Applies the mask to the message, if necessary.
    *
    * @param message The log message.
-   * @return The possibly masked log message.
+   * @return The masked log message, or the same instance if nothing had to be masked.
    */
   private String applyMask(final String message) {
-    if (pattern.isPresent()) {
-      return message.replaceAll(pattern.get(), "\"$1\":\"" + AirbyteSecretConstants.SECRETS_MASK + "\"");
-    } else {
+    // maskable properties are always quoted, most log lines don't contain any quote
+    if (pattern.isEmpty() || message == null || message.indexOf('"') < 0) {
       return message;
     }
+
+    final Matcher matcher = pattern.get().matcher(message);
+    return matcher.find() ? matcher.replaceAll(REPLACEMENT) : message;
   }
 
   /**
@@ -113,9 +128,9 @@ public class MaskedDataInterceptor implements RewritePolicy {
    * @param specMaskFile The spec mask file.
    * @return The regular expression pattern used to find maskable properties.
    */
-  private Optional<String> buildPattern(final String specMaskFile) {
+  private Optional<Pattern> buildPattern(final String specMaskFile) {
     final Set<String> maskableProperties = getMaskableProperties(specMaskFile);
-    return !maskableProperties.isEmpty() ? Optional.of(generatePattern(maskableProperties)) : Optional.empty();
+    return !maskableProperties.isEmpty() ? Optional.of(Pattern.compile(generatePattern(maskableProperties))) : Optional.empty();
   }
 
   /**
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.timer;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Monotonic clock with a coarse resolution, for code that needs the time for every message and can
+ * live with a few milliseconds of imprecision, e.g. heartbeats and checkpointing metrics.
+ * <p>
+ * Reading it is a volatile read: it doesn't allocate and doesn't call the system clock. The value is
+ * updated by a single daemon thread every {@link #RESOLUTION_MILLIS}.
+ * <p>
+ * The values are only meaningful relative to each other, they aren't related to the wall clock. Use
+ * {@link Stopwatch} to time short operations.
+ */
+public final class CoarseClock {
+
+  public static final long RESOLUTION_MILLIS = 10;
+
+  private static final CoarseClock INSTANCE = new CoarseClock(System::nanoTime);
+
+  static {
+    final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "coarse-clock");
+      thread.setDaemon(true);
+      return thread;
+    });
+    ticker.scheduleAtFixedRate(INSTANCE::tick, RESOLUTION_MILLIS, RESOLUTION_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  private final LongSupplier nanoTime;
+  private final long originNanos;
+  private volatile long millis;
+
+  @VisibleForTesting
+  CoarseClock(final LongSupplier nanoTime) {
+    this.nanoTime = nanoTime;
+    this.originNanos = nanoTime.getAsLong();
+  }
+
+  /**
+   * Milliseconds elapsed since an arbitrary origin. Never goes backward.
+   */
+  public static long currentMillis() {
+    return INSTANCE.millis();
+  }
+
+  @VisibleForTesting
+  long millis() {
+    return millis;
+  }
+
+  /**
+   * Only ever called by a single thread, so the read-modify-write doesn't need to be atomic.
+   */
+  @VisibleForTesting
+  void tick() {
+    millis = Math.max(millis, TimeUnit.NANOSECONDS.toMillis(nanoTime.getAsLong() - originNanos));
+  }
+
+}
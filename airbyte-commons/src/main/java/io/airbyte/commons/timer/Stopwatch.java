@@ -22,6 +22,9 @@ import java.util.concurrent.atomic.AtomicLong;
  * }
  * System.out.println(sw); // print the summary
  * </pre>
+ * <p>
+ * On hot paths, {@link #startTiming()} and {@link #stopTiming(long)} do the same without allocating
+ * an instance for each execution.
  */
 public class Stopwatch {
 
@@ -33,7 +36,7 @@ public class Stopwatch {
 
     @Override
     public void close() {
-      parent.stop(this);
+      parent.stopTiming(startTime);
     }
 
   }
@@ -48,6 +51,26 @@ public class Stopwatch {
     return new StopwatchInstance(this, currentTime());
   }
 
+  /**
+   * Start timing an execution without allocating a {@link StopwatchInstance}.
+   *
+   * @return the start time to pass to {@link #stopTiming(long)}
+   */
+  public long startTiming() {
+    return currentTime();
+  }
+
+  /**
+   * Stop timing an execution started with {@link #startTiming()}.
+   *
+   * @param startTime value returned by {@link #startTiming()}
+   */
+  public void stopTiming(final long startTime) {
+    final long delta = currentTime() - startTime;
+    executionCount.incrementAndGet();
+    elapsedTimeInNanos.addAndGet(delta);
+  }
+
   public long getElapsedTimeInNanos() {
     return elapsedTimeInNanos.get();
   }
@@ -72,10 +95,4 @@ public class Stopwatch {
     return System.nanoTime();
   }
 
-  private void stop(final StopwatchInstance t) {
-    final long delta = currentTime() - t.startTime;
-    executionCount.incrementAndGet();
-    elapsedTimeInNanos.addAndGet(delta);
-  }
-
 }
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -111,6 +112,18 @@ class MaskedDataInterceptorTest {
     assertEquals(actualMessage, result.getMessage().getFormattedMessage());
   }
 
+  @Test
+  void testEventWithoutSecretIsNotRewritten() {
+    final Message message = mock(Message.class);
+    final LogEvent logEvent = mock(LogEvent.class);
+    when(message.getFormattedMessage()).thenReturn(JSON_WITHOUT_SECRETS);
+    when(logEvent.getMessage()).thenReturn(message);
+
+    final MaskedDataInterceptor interceptor = MaskedDataInterceptor.createPolicy(TEST_SPEC_SECRET_MASK_YAML);
+
+    assertSame(logEvent, interceptor.rewrite(logEvent));
+  }
+
   @Test
   void testMissingMaskingFileDoesNotPreventLogging() {
     final Message message = mock(Message.class);
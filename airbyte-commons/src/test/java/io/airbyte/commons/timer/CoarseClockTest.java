@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CoarseClockTest {
+
+  private final AtomicLong nanoTime = new AtomicLong(TimeUnit.SECONDS.toNanos(42));
+  private final CoarseClock clock = new CoarseClock(nanoTime::get);
+
+  @Test
+  void testReadsZeroUntilFirstTick() {
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(25));
+    assertEquals(0, clock.millis());
+
+    clock.tick();
+    assertEquals(25, clock.millis());
+  }
+
+  @Test
+  void testTickUpdatesElapsedMillisSinceOrigin() {
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+    clock.tick();
+    assertEquals(10, clock.millis());
+
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(15));
+    clock.tick();
+    assertEquals(25, clock.millis());
+
+    // no change until the next tick
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+    assertEquals(25, clock.millis());
+  }
+
+  @Test
+  void testNeverGoesBackward() {
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+    clock.tick();
+
+    nanoTime.addAndGet(-TimeUnit.MILLISECONDS.toNanos(20));
+    clock.tick();
+    assertEquals(50, clock.millis());
+  }
+
+  @Test
+  void testSharedClockAdvances() throws InterruptedException {
+    final long start = CoarseClock.currentMillis();
+    Thread.sleep(10 * CoarseClock.RESOLUTION_MILLIS);
+    final long end = CoarseClock.currentMillis();
+
+    assertTrue(end > start, "Expected the shared clock to advance, but it stayed at " + start);
+  }
+
+}
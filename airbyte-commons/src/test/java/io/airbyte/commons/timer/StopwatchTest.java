@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class StopwatchTest {
+
+  @Test
+  void testStartCountsExecutions() {
+    final Stopwatch stopwatch = new Stopwatch();
+    try (final var s = stopwatch.start()) {
+      // nothing to time
+    }
+    try (final var s = stopwatch.start()) {
+      // nothing to time
+    }
+
+    assertEquals(2, stopwatch.getExecutionCount());
+  }
+
+  @Test
+  void testStartTimingCountsExecutions() {
+    final Stopwatch stopwatch = new Stopwatch();
+    stopwatch.stopTiming(stopwatch.startTiming());
+    stopwatch.stopTiming(stopwatch.startTiming());
+    stopwatch.stopTiming(stopwatch.startTiming());
+
+    assertEquals(3, stopwatch.getExecutionCount());
+  }
+
+  @Test
+  void testStartTimingTracksElapsedTime() throws InterruptedException {
+    final Stopwatch stopwatch = new Stopwatch();
+    final long start = stopwatch.startTiming();
+    Thread.sleep(10);
+    stopwatch.stopTiming(start);
+
+    assertTrue(stopwatch.getElapsedTimeInNanos() >= TimeUnit.MILLISECONDS.toNanos(10));
+    assertEquals(stopwatch.getElapsedTimeInNanos(), stopwatch.getAvgExecTimeInNanos());
+  }
+
+  @Test
+  void testStartAndStartTimingAddUp() throws InterruptedException {
+    final Stopwatch stopwatch = new Stopwatch();
+    try (final var s = stopwatch.start()) {
+      Thread.sleep(10);
+    }
+    final long start = stopwatch.startTiming();
+    Thread.sleep(10);
+    stopwatch.stopTiming(start);
+
+    assertEquals(2, stopwatch.getExecutionCount());
+    assertTrue(stopwatch.getElapsedTimeInNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+  }
+
+}
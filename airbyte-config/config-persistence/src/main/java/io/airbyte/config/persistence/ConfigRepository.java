@@ -115,7 +115,6 @@ import org.jooq.JoinType;
 import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Record1;
-import org.jooq.Record2;
 import org.jooq.Record4;
 import org.jooq.RecordMapper;
 import org.jooq.Result;
@@ -154,7 +153,9 @@ public class ConfigRepository {
    * @param destinationId fetch connections with this destination id
    * @param includeDeleted include tombstoned connections
    * @param pageSize limit
-   * @param rowOffset offset
+   * @param rowOffset offset, ignored when afterConnectionId is set
+   * @param afterConnectionId only fetch connections whose id comes after this one. Connections are
+   *        ordered by id, so pages fetched this way don't have to scan the previous ones.
    */
   public record StandardSyncsQueryPaginated(
                                             @Nonnull List<UUID> workspaceIds,
@@ -162,7 +163,8 @@ public class ConfigRepository {
                                             List<UUID> destinationId,
                                             boolean includeDeleted,
                                             int pageSize,
-                                            int rowOffset) {
+                                            int rowOffset,
+                                            UUID afterConnectionId) {
 
   }
 
@@ -1635,7 +1637,8 @@ public class ConfigRepository {
                                                                            final List<UUID> workspaceIds,
                                                                            final boolean includeDeleted,
                                                                            final int pageSize,
-                                                                           final int rowOffset)
+                                                                           final int rowOffset,
+                                                                           final UUID afterConnectionId)
       throws IOException {
     return listWorkspaceStandardSyncsPaginated(new StandardSyncsQueryPaginated(
         workspaceIds,
@@ -1643,7 +1646,8 @@ public class ConfigRepository {
         null,
         includeDeleted,
         pageSize,
-        rowOffset));
+        rowOffset,
+        afterConnectionId));
   }
 
   /**
@@ -1677,11 +1681,15 @@ public class ConfigRepository {
                 : CONNECTION.DESTINATION_ID.in(standardSyncsQueryPaginated.destinationId))
             .and(standardSyncsQueryPaginated.sourceId == null || standardSyncsQueryPaginated.sourceId.isEmpty() ? noCondition()
                 : CONNECTION.SOURCE_ID.in(standardSyncsQueryPaginated.sourceId))
-            .and(standardSyncsQueryPaginated.includeDeleted ? noCondition() : CONNECTION.STATUS.notEqual(StatusType.deprecated)))
+            .and(standardSyncsQueryPaginated.includeDeleted ? noCondition() : CONNECTION.STATUS.notEqual(StatusType.deprecated))
+            .and(standardSyncsQueryPaginated.afterConnectionId == null ? noCondition()
+                : CONNECTION.ID.gt(standardSyncsQueryPaginated.afterConnectionId)))
         // group by connection.id so that the groupConcat above works
         .groupBy(CONNECTION.ID, ACTOR.WORKSPACE_ID, SCHEMA_MANAGEMENT.AUTO_PROPAGATION_STATUS))
+        // a stable order is what makes pages consistent, and lets the next page start after the last id
+        .orderBy(CONNECTION.ID)
         .limit(standardSyncsQueryPaginated.pageSize())
-        .offset(standardSyncsQueryPaginated.rowOffset())
+        .offset(standardSyncsQueryPaginated.afterConnectionId == null ? standardSyncsQueryPaginated.rowOffset() : 0)
         .fetch();
 
     final List<UUID> connectionIds = connectionAndOperationIdsResult.map(record -> record.get(CONNECTION.ID));
@@ -2148,20 +2156,17 @@ public class ConfigRepository {
     return listDestinationOauthParamQuery(Optional.empty()).toList();
   }
 
-  private Map<UUID, AirbyteCatalog> findCatalogByHash(final String catalogHash, final DSLContext context) {
-    final Result<Record2<UUID, JSONB>> records = context.select(ACTOR_CATALOG.ID, ACTOR_CATALOG.CATALOG)
+  private Optional<UUID> findCatalogId(final String catalogHash, final JSONB catalog, final DSLContext context) {
+    // The catalogs are compared by the database instead of being loaded to be compared here. We do not
+    // apply the on-the-fly migration because the only caller is getOrInsertActorCatalog which is using
+    // this to figure out if the catalog has already been inserted. Migrating on the fly here would
+    // cause us to add a duplicate each time we check for existence of a catalog.
+    return context.select(ACTOR_CATALOG.ID)
         .from(ACTOR_CATALOG)
-        .where(ACTOR_CATALOG.CATALOG_HASH.eq(catalogHash)).fetch();
-
-    final Map<UUID, AirbyteCatalog> result = new HashMap<>();
-    for (final Record record : records) {
-      // We do not apply the on-the-fly migration here because the only caller is getOrInsertActorCatalog
-      // which is using this to figure out if the catalog has already been inserted. Migrating on the fly
-      // here will cause us to add a duplicate each time we check for existence of a catalog.
-      final AirbyteCatalog catalog = Jsons.deserialize(record.get(ACTOR_CATALOG.CATALOG).toString(), AirbyteCatalog.class);
-      result.put(record.get(ACTOR_CATALOG.ID), catalog);
-    }
-    return result;
+        .where(ACTOR_CATALOG.CATALOG_HASH.eq(catalogHash))
+        .and(ACTOR_CATALOG.CATALOG.eq(catalog))
+        .limit(1)
+        .fetchOptional(ACTOR_CATALOG.ID);
   }
 
   /**
@@ -2245,6 +2250,64 @@ public class ConfigRepository {
     return destinationAndDefinitions;
   }
 
+  /**
+   * A connection along with its source, its destination and their definitions. This is everything
+   * the platform needs to know about a connection to generate the input of one of its jobs or to
+   * track it, so it is resolved once per job instead of with one query per config.
+   *
+   * @param standardSync connection
+   * @param source source of the connection and its definition
+   * @param destination destination of the connection and its definition
+   */
+  public record ConnectionWithActors(StandardSync standardSync, SourceAndDefinition source, DestinationAndDefinition destination) {
+
+  }
+
+  /**
+   * Get a connection along with its source, destination and their definitions. The actors and
+   * definitions are fetched with a single joined query.
+   *
+   * @param connectionId connection id
+   * @return connection with its actors and their definitions
+   * @throws JsonValidationException if the connection is or contains invalid json
+   * @throws ConfigNotFoundException if the connection, its source or its destination does not exist
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  public ConnectionWithActors getConnectionWithActors(final UUID connectionId)
+      throws JsonValidationException, ConfigNotFoundException, IOException {
+    final StandardSync standardSync = getStandardSync(connectionId);
+
+    final Result<Record> records = database.query(ctx -> ctx
+        .select(ACTOR.asterisk(), ACTOR_DEFINITION.asterisk())
+        .from(ACTOR)
+        .join(ACTOR_DEFINITION)
+        .on(ACTOR.ACTOR_DEFINITION_ID.eq(ACTOR_DEFINITION.ID))
+        .where(ACTOR.ID.in(standardSync.getSourceId(), standardSync.getDestinationId()))
+        .fetch());
+
+    SourceAndDefinition source = null;
+    DestinationAndDefinition destination = null;
+    for (final Record record : records) {
+      if (record.get(ACTOR.ACTOR_TYPE) == ActorType.source) {
+        source = new SourceAndDefinition(
+            DbConverter.buildSourceConnection(record),
+            DbConverter.buildStandardSourceDefinition(record, heartbeatMaxSecondBetweenMessageSupplier.get()));
+      } else {
+        destination = new DestinationAndDefinition(
+            DbConverter.buildDestinationConnection(record),
+            DbConverter.buildStandardDestinationDefinition(record));
+      }
+    }
+
+    if (source == null) {
+      throw new ConfigNotFoundException(ConfigSchema.SOURCE_CONNECTION, standardSync.getSourceId());
+    }
+    if (destination == null) {
+      throw new ConfigNotFoundException(ConfigSchema.DESTINATION_CONNECTION, standardSync.getDestinationId());
+    }
+    return new ConnectionWithActors(standardSync, source, destination);
+  }
+
   /**
    * Get actor catalog.
    *
@@ -2277,21 +2340,20 @@ public class ConfigRepository {
   private UUID getOrInsertActorCatalog(final AirbyteCatalog airbyteCatalog,
                                        final DSLContext context,
                                        final OffsetDateTime timestamp) {
+    // the catalog is serialized once, and hashed from its characters rather than from a copy of its bytes
+    final String serializedCatalog = Jsons.serialize(airbyteCatalog);
     final HashFunction hashFunction = Hashing.murmur3_32_fixed();
-    final String catalogHash = hashFunction.hashBytes(Jsons.serialize(airbyteCatalog).getBytes(
-        Charsets.UTF_8)).toString();
-    final Map<UUID, AirbyteCatalog> catalogs = findCatalogByHash(catalogHash, context);
-
-    for (final Map.Entry<UUID, AirbyteCatalog> entry : catalogs.entrySet()) {
-      if (entry.getValue().equals(airbyteCatalog)) {
-        return entry.getKey();
-      }
+    final String catalogHash = hashFunction.hashString(serializedCatalog, Charsets.UTF_8).toString();
+    final JSONB catalog = JSONB.valueOf(serializedCatalog);
+    final Optional<UUID> existingCatalogId = findCatalogId(catalogHash, catalog, context);
+    if (existingCatalogId.isPresent()) {
+      return existingCatalogId.get();
     }
 
     final UUID catalogId = UUID.randomUUID();
     context.insertInto(ACTOR_CATALOG)
         .set(ACTOR_CATALOG.ID, catalogId)
-        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(Jsons.serialize(airbyteCatalog)))
+        .set(ACTOR_CATALOG.CATALOG, catalog)
         .set(ACTOR_CATALOG.CATALOG_HASH, catalogHash)
         .set(ACTOR_CATALOG.CREATED_AT, timestamp)
         .set(ACTOR_CATALOG.MODIFIED_AT, timestamp).execute();
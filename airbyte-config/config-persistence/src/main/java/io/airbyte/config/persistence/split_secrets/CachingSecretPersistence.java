@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Keeps the secrets read from a backing store in memory for a short time, so that the same config
+ * hydrated for a check, a discover and a sync in a row doesn't hit the store each time.
+ * <p>
+ * A {@link SecretCoordinate} includes the version of the secret and a new version is written when
+ * a secret changes, so a cached payload is never stale. The time to live only bounds how long
+ * secrets stay in memory. Missing secrets aren't cached.
+ */
+public class CachingSecretPersistence implements ReadOnlySecretPersistence {
+
+  private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+  private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+  private final ReadOnlySecretPersistence secretPersistence;
+  private final Cache<SecretCoordinate, String> cache;
+
+  public CachingSecretPersistence(final ReadOnlySecretPersistence secretPersistence) {
+    this(secretPersistence, DEFAULT_TIME_TO_LIVE, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public CachingSecretPersistence(final ReadOnlySecretPersistence secretPersistence, final Duration timeToLive, final long maximumSize) {
+    this.secretPersistence = secretPersistence;
+    this.cache = CacheBuilder.newBuilder()
+        .expireAfterWrite(timeToLive)
+        .maximumSize(maximumSize)
+        .build();
+  }
+
+  @Override
+  public Optional<String> read(final SecretCoordinate coordinate) {
+    final String cachedPayload = cache.getIfPresent(coordinate);
+    if (cachedPayload != null) {
+      return Optional.of(cachedPayload);
+    }
+
+    final Optional<String> payload = secretPersistence.read(coordinate);
+    payload.ifPresent(value -> cache.put(coordinate, value));
+    return payload;
+  }
+
+}
@@ -9,16 +9,24 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.commons.constants.AirbyteSecretConstants;
 import io.airbyte.commons.json.JsonPaths;
 import io.airbyte.commons.json.JsonSchemas;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.MoreIterators;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -51,6 +59,11 @@ public class SecretsHelpers {
 
   public static final String COORDINATE_FIELD = "_secret";
 
+  // Bounds how many secrets are read from the store at the same time across all hydrations.
+  private static final int MAX_CONCURRENT_SECRET_READS = 8;
+  private static final ExecutorService SECRET_READ_EXECUTOR = Executors.newFixedThreadPool(MAX_CONCURRENT_SECRET_READS,
+      new ThreadFactoryBuilder().setNameFormat("secret-read-%d").setDaemon(true).build());
+
   /**
    * Used to separate secrets out of some configuration. This will output a partial config that
    * includes pointers to secrets instead of actual secret values and a map that can be used to update
@@ -153,6 +166,9 @@ public class SecretsHelpers {
   /**
    * Replaces {"_secret": "full_coordinate"} objects in the partial config with the string secret
    * payloads loaded from the secret persistence at those coordinates.
+   * <p>
+   * All the coordinates are collected first, so that each secret is read once and, when there are
+   * several, the secrets are read in parallel instead of one after the other.
    *
    * @param partialConfig configuration containing secret coordinates (references to secrets)
    * @param secretPersistence secret storage mechanism
@@ -162,33 +178,87 @@ public class SecretsHelpers {
     if (partialConfig != null) {
       final var config = partialConfig.deepCopy();
 
-      // if the entire config is a secret coordinate object
-      if (config.has(COORDINATE_FIELD)) {
-        final var coordinateNode = config.get(COORDINATE_FIELD);
-        final var coordinate = getCoordinateFromTextNode(coordinateNode);
-        return new TextNode(getOrThrowSecretValue(secretPersistence, coordinate));
+      final Set<SecretCoordinate> coordinates = new LinkedHashSet<>();
+      collectCoordinates(config, coordinates);
+      if (coordinates.isEmpty()) {
+        return config;
       }
 
-      // otherwise iterate through all object fields
-      config.fields().forEachRemaining(field -> {
-        final var fieldName = field.getKey();
-        final var fieldNode = field.getValue();
-
-        if (fieldNode instanceof ArrayNode) {
-          for (int i = 0; i < fieldNode.size(); i++) {
-            ((ArrayNode) fieldNode).set(i, combineConfig(fieldNode.get(i), secretPersistence));
-          }
-        } else if (fieldNode instanceof ObjectNode) {
-          ((ObjectNode) config).replace(fieldName, combineConfig(fieldNode, secretPersistence));
-        }
-      });
-
-      return config;
+      return replaceCoordinates(config, readSecretValues(secretPersistence, coordinates));
     } else {
       return partialConfig;
     }
   }
 
+  private static void collectCoordinates(final JsonNode config, final Set<SecretCoordinate> coordinates) {
+    // if the entire config is a secret coordinate object
+    if (config.has(COORDINATE_FIELD)) {
+      coordinates.add(getCoordinateFromTextNode(config.get(COORDINATE_FIELD)));
+      return;
+    }
+
+    // otherwise iterate through all object fields
+    config.fields().forEachRemaining(field -> {
+      final var fieldNode = field.getValue();
+
+      if (fieldNode instanceof ArrayNode) {
+        fieldNode.forEach(element -> collectCoordinates(element, coordinates));
+      } else if (fieldNode instanceof ObjectNode) {
+        collectCoordinates(fieldNode, coordinates);
+      }
+    });
+  }
+
+  /**
+   * Replaces the secret coordinate objects of a config, in place.
+   */
+  private static JsonNode replaceCoordinates(final JsonNode config, final Map<SecretCoordinate, String> secretValues) {
+    // if the entire config is a secret coordinate object
+    if (config.has(COORDINATE_FIELD)) {
+      return new TextNode(secretValues.get(getCoordinateFromTextNode(config.get(COORDINATE_FIELD))));
+    }
+
+    // otherwise iterate through all object fields
+    config.fields().forEachRemaining(field -> {
+      final var fieldName = field.getKey();
+      final var fieldNode = field.getValue();
+
+      if (fieldNode instanceof ArrayNode) {
+        for (int i = 0; i < fieldNode.size(); i++) {
+          ((ArrayNode) fieldNode).set(i, replaceCoordinates(fieldNode.get(i), secretValues));
+        }
+      } else if (fieldNode instanceof ObjectNode) {
+        ((ObjectNode) config).replace(fieldName, replaceCoordinates(fieldNode, secretValues));
+      }
+    });
+
+    return config;
+  }
+
+  private static Map<SecretCoordinate, String> readSecretValues(final ReadOnlySecretPersistence secretPersistence,
+                                                                final Set<SecretCoordinate> coordinates) {
+    final Map<SecretCoordinate, String> secretValues = new HashMap<>();
+    if (coordinates.size() == 1) {
+      final SecretCoordinate coordinate = coordinates.iterator().next();
+      secretValues.put(coordinate, getOrThrowSecretValue(secretPersistence, coordinate));
+      return secretValues;
+    }
+
+    final Map<SecretCoordinate, CompletableFuture<String>> pendingReads = new LinkedHashMap<>();
+    coordinates.forEach(coordinate -> pendingReads.put(coordinate,
+        CompletableFuture.supplyAsync(() -> getOrThrowSecretValue(secretPersistence, coordinate), SECRET_READ_EXECUTOR)));
+    try {
+      pendingReads.forEach((coordinate, pendingRead) -> secretValues.put(coordinate, pendingRead.join()));
+    } catch (final CompletionException e) {
+      pendingReads.values().forEach(pendingRead -> pendingRead.cancel(false));
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    return secretValues;
+  }
+
   /**
    * This returns all the unique path to the airbyte secrets based on a schema spec. The path will be
    * return in an ascending alphabetical order.
@@ -31,6 +31,7 @@ import io.airbyte.config.StandardSourceDefinition.SourceType;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.StandardWorkspace;
+import io.airbyte.config.persistence.ConfigRepository.ConnectionWithActors;
 import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
 import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
@@ -574,6 +575,21 @@ class ConfigRepositoryE2EReadWriteTest extends BaseConfigDatabaseTest {
     assertThat(actual).hasSameElementsAs(expected);
   }
 
+  @Test
+  void testGetConnectionWithActors() throws JsonValidationException, ConfigNotFoundException, IOException {
+    final UUID connectionId = MockData.standardSyncs().get(0).getConnectionId();
+    final StandardSync sync = configRepository.getStandardSync(connectionId);
+    final SourceConnection source = configRepository.getSourceConnection(sync.getSourceId());
+    final DestinationConnection destination = configRepository.getDestinationConnection(sync.getDestinationId());
+
+    final ConnectionWithActors expected = new ConnectionWithActors(
+        sync,
+        new SourceAndDefinition(source, configRepository.getStandardSourceDefinition(source.getSourceDefinitionId())),
+        new DestinationAndDefinition(destination, configRepository.getStandardDestinationDefinition(destination.getDestinationDefinitionId())));
+
+    assertEquals(expected, configRepository.getConnectionWithActors(connectionId));
+  }
+
   @Test
   void testGetGeographyForConnection() throws IOException {
     final StandardSync sync = MockData.standardSyncs().get(0);
@@ -44,8 +44,10 @@ import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -113,6 +115,25 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(expected, standardSyncPersistence.listStandardSync());
   }
 
+  @Test
+  void testListPaginatedAfterConnectionId() throws IOException, JsonValidationException {
+    createBaseObjects();
+    // postgres orders uuids like their string representation
+    final List<UUID> connectionIds = Stream.of(
+        createStandardSync(source1, destination1),
+        createStandardSync(source1, destination2),
+        createStandardSync(source2, destination1))
+        .map(StandardSync::getConnectionId)
+        .sorted(Comparator.comparing(UUID::toString))
+        .toList();
+
+    final List<UUID> firstPage = listConnectionIdsPaginated(2, null);
+    final List<UUID> secondPage = listConnectionIdsPaginated(2, firstPage.get(firstPage.size() - 1));
+
+    assertEquals(connectionIds.subList(0, 2), firstPage);
+    assertEquals(connectionIds.subList(2, 3), secondPage);
+  }
+
   @Test
   void testDelete() throws IOException, ConfigNotFoundException, JsonValidationException {
     createBaseObjects();
@@ -236,9 +257,8 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
         null,
         true,
         1000,
-        0
-
-    )).values().stream().findFirst().get();
+        0,
+        null)).values().stream().findFirst().get();
     assertEquals(1, standardSyncs.size());
     assertEquals(NonBreakingChangesPreference.PROPAGATE_COLUMNS, standardSyncs.get(0).getNonBreakingChangesPreference());
 
@@ -431,6 +451,15 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
     return sync;
   }
 
+  private List<UUID> listConnectionIdsPaginated(final int pageSize, final UUID afterConnectionId) throws IOException {
+    return configRepository.listWorkspaceStandardSyncsPaginated(List.of(workspaceId), false, pageSize, 0, afterConnectionId)
+        .values().stream()
+        .flatMap(List::stream)
+        .map(StandardSync::getConnectionId)
+        .sorted(Comparator.comparing(UUID::toString))
+        .toList();
+  }
+
   private SchemaManagementRecord getSchemaManagementByConnectionId(final UUID connectionId) throws IOException, SQLException {
     return database.query(ctx -> ctx.select(SCHEMA_MANAGEMENT.asterisk())
         .from(SCHEMA_MANAGEMENT)
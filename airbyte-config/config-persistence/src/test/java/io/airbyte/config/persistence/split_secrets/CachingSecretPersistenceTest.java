@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingSecretPersistenceTest {
+
+  private static final SecretCoordinate COORDINATE = new SecretCoordinate("airbyte_workspace_secret", 1);
+  private static final String PAYLOAD = "payload";
+
+  private ReadOnlySecretPersistence secretPersistence;
+  private CachingSecretPersistence cachingSecretPersistence;
+
+  @BeforeEach
+  void setup() {
+    secretPersistence = mock(ReadOnlySecretPersistence.class);
+    cachingSecretPersistence = new CachingSecretPersistence(secretPersistence, Duration.ofMinutes(1), 10);
+  }
+
+  @Test
+  void testSecretIsReadOnce() {
+    when(secretPersistence.read(COORDINATE)).thenReturn(Optional.of(PAYLOAD));
+
+    assertEquals(Optional.of(PAYLOAD), cachingSecretPersistence.read(COORDINATE));
+    assertEquals(Optional.of(PAYLOAD), cachingSecretPersistence.read(COORDINATE));
+    verify(secretPersistence, times(1)).read(COORDINATE);
+  }
+
+  @Test
+  void testMissingSecretIsNotCached() {
+    when(secretPersistence.read(COORDINATE)).thenReturn(Optional.empty(), Optional.of(PAYLOAD));
+
+    assertEquals(Optional.empty(), cachingSecretPersistence.read(COORDINATE));
+    assertEquals(Optional.of(PAYLOAD), cachingSecretPersistence.read(COORDINATE));
+    verify(secretPersistence, times(2)).read(COORDINATE);
+  }
+
+}
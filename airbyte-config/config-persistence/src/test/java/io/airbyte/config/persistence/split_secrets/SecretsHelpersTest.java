@@ -12,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.persistence.split_secrets.test_cases.ArrayOneOfTestCase;
 import io.airbyte.config.persistence.split_secrets.test_cases.ArrayTestCase;
 import io.airbyte.config.persistence.split_secrets.test_cases.NestedObjectTestCase;
@@ -27,6 +28,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
@@ -182,6 +184,32 @@ public class SecretsHelpersTest {
     assertThrows(RuntimeException.class, () -> SecretsHelpers.combineConfig(testCase.getPartialConfig(), secretPersistence));
   }
 
+  @Test
+  void testCombineReadsEachSecretOnce() {
+    final var firstCoordinate = new SecretCoordinate("airbyte_workspace_first", 1);
+    final var secondCoordinate = new SecretCoordinate("airbyte_workspace_second", 1);
+    final var secretPersistence = new MemorySecretPersistence();
+    secretPersistence.write(firstCoordinate, "first");
+    secretPersistence.write(secondCoordinate, "second");
+    final Map<SecretCoordinate, Integer> readCounts = new ConcurrentHashMap<>();
+
+    final var partialConfig = Jsons.jsonNode(Map.of(
+        "password", Map.of(SecretsHelpers.COORDINATE_FIELD, firstCoordinate.getFullCoordinate()),
+        "tunnel", Map.of("password", Map.of(SecretsHelpers.COORDINATE_FIELD, firstCoordinate.getFullCoordinate())),
+        "keys", List.of(Map.of(SecretsHelpers.COORDINATE_FIELD, secondCoordinate.getFullCoordinate()))));
+    final var actualCombinedConfig = SecretsHelpers.combineConfig(partialConfig, coordinate -> {
+      readCounts.merge(coordinate, 1, Integer::sum);
+      return secretPersistence.read(coordinate);
+    });
+
+    final var expectedCombinedConfig = Jsons.jsonNode(Map.of(
+        "password", "first",
+        "tunnel", Map.of("password", "first"),
+        "keys", List.of("second")));
+    assertEquals(expectedCombinedConfig, actualCombinedConfig);
+    assertEquals(Map.of(firstCoordinate, 1, secondCoordinate, 1), readCounts);
+  }
+
   @Test
   void testUpdatingSecretsOneAtATime() {
     final var uuidIterator = UUIDS.iterator();
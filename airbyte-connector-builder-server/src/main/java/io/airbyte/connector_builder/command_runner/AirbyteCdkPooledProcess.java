@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
+import io.airbyte.connector_builder.file_writer.AirbyteArgument;
+import io.airbyte.connector_builder.file_writer.AirbyteFileWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a CDK request on a worker borrowed from an {@link AirbyteCdkWorkerPool} instead of launching
+ * a new Python process.
+ * <p>
+ * The response is exposed as an already completed {@link Process}, so that it can be parsed the same
+ * way as the output of a process launched for the request.
+ * <p>
+ * Overrides `close` in order to give the worker back to the pool and remove the config and catalog
+ * files created in accordance with the Airbyte protocol.
+ */
+public class AirbyteCdkPooledProcess implements AirbyteCdkProcess {
+
+  private final AirbyteCdkWorkerPool pool;
+  private final AirbyteFileWriter writer;
+  private final AirbyteArgument config;
+  private final AirbyteArgument catalog;
+  private final Duration timeout;
+  private AirbyteCdkWorkerProcess worker;
+  private boolean healthy = true;
+  private Process process;
+
+  public AirbyteCdkPooledProcess(final AirbyteCdkWorkerPool pool,
+                                 final AirbyteFileWriter writer,
+                                 final AirbyteArgument config,
+                                 final AirbyteArgument catalog,
+                                 final Duration timeout) {
+    this.pool = pool;
+    this.writer = writer;
+    this.config = config;
+    this.catalog = catalog;
+    this.timeout = timeout;
+  }
+
+  /**
+   * Send the request to a pooled worker and wait for its response.
+   */
+  @Override
+  public Process start() throws IOException {
+    if (this.worker != null) {
+      throw new ConnectorBuilderException("Python process already exists for request.");
+    }
+    this.worker = pool.borrow();
+    try {
+      final String response = worker.handle(config.getFilepath(), catalog.getFilepath(), timeout);
+      this.process = new CompletedProcess(0, response);
+    } catch (final IOException e) {
+      // the worker is in an unknown state, don't hand it to another request
+      this.healthy = false;
+      this.process = new CompletedProcess(worker.isAlive() ? 1 : worker.exitValue(), e.getMessage());
+    } catch (final RuntimeException e) {
+      this.healthy = false;
+      throw e;
+    }
+    return this.process;
+  }
+
+  /**
+   * Retrieve the completed process holding the response of the CDK.
+   */
+  @Override
+  public Process getProcess() {
+    if (this.process != null) {
+      return this.process;
+    } else {
+      throw new ConnectorBuilderException("No python process exists for request.");
+    }
+  }
+
+  /**
+   * Give the worker back to the pool and delete files created for use by the CDK.
+   */
+  @Override
+  public void close() {
+    if (this.worker != null) {
+      pool.release(this.worker, this.healthy);
+      this.worker = null;
+    }
+    this.writer.delete(this.config.getFilepath());
+    this.writer.delete(this.catalog.getFilepath());
+  }
+
+  /**
+   * A process that has already exited. Successful responses are exposed on stdout, errors on stderr.
+   */
+  private static class CompletedProcess extends Process {
+
+    private final int exitValue;
+    private final byte[] output;
+
+    CompletedProcess(final int exitValue, final String output) {
+      this.exitValue = exitValue;
+      this.output = output == null ? new byte[0] : output.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+      return OutputStream.nullOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return exitValue == 0 ? new ByteArrayInputStream(output) : InputStream.nullInputStream();
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+      return exitValue == 0 ? InputStream.nullInputStream() : new ByteArrayInputStream(output);
+    }
+
+    @Override
+    public int waitFor() {
+      return exitValue;
+    }
+
+    @Override
+    public boolean waitFor(final long timeout, final TimeUnit unit) {
+      return true;
+    }
+
+    @Override
+    public int exitValue() {
+      return exitValue;
+    }
+
+    @Override
+    public boolean isAlive() {
+      return false;
+    }
+
+    @Override
+    public void destroy() {}
+
+  }
+
+}
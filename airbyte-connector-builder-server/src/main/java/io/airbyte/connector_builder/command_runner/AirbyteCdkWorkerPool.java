@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of pre-started {@link AirbyteCdkWorkerProcess}es, so that requests to the connector builder
+ * don't pay for the Python interpreter startup and CDK imports.
+ * <p>
+ * At most `size` requests are handled concurrently. Workers are health checked when borrowed and
+ * recycled after `maxRequestsPerProcess` requests. If a worker fails to start, e.g. because the
+ * installed CDK doesn't support being called this way, the pool disables itself and callers fall
+ * back to launching a process per request.
+ */
+public class AirbyteCdkWorkerPool implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteCdkWorkerPool.class);
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(1);
+
+  private final List<String> command;
+  private final int maxRequestsPerProcess;
+  private final Duration acquireTimeout;
+  private final BlockingQueue<AirbyteCdkWorkerProcess> idleWorkers;
+  private final Semaphore permits;
+  private final ExecutorService startupExecutor;
+  private final AtomicBoolean enabled = new AtomicBoolean(true);
+
+  /**
+   * Create a pool and start warming up its workers in the background.
+   *
+   * @param command command to run `cdk_worker.py`
+   * @param size max number of workers, and of concurrent requests
+   * @param maxRequestsPerProcess number of requests after which a worker is replaced
+   * @param acquireTimeout max time to wait for a worker to become available
+   */
+  public AirbyteCdkWorkerPool(final List<String> command,
+                              final int size,
+                              final int maxRequestsPerProcess,
+                              final Duration acquireTimeout) {
+    this.command = command;
+    this.maxRequestsPerProcess = maxRequestsPerProcess;
+    this.acquireTimeout = acquireTimeout;
+    this.idleWorkers = new LinkedBlockingQueue<>(size);
+    this.permits = new Semaphore(size, true);
+    this.startupExecutor = Executors.newSingleThreadExecutor();
+    for (int i = 0; i < size; i++) {
+      warmUp();
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled.get();
+  }
+
+  /**
+   * Borrow a worker. It must be given back with {@link #release(AirbyteCdkWorkerProcess, boolean)}.
+   *
+   * @return a live worker
+   * @throws IOException if no worker could be started
+   */
+  AirbyteCdkWorkerProcess borrow() throws IOException {
+    try {
+      if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new ConnectorBuilderException("Timed out waiting for an available CDK process.");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ConnectorBuilderException("Interrupted while waiting for an available CDK process.", e);
+    }
+
+    try {
+      AirbyteCdkWorkerProcess worker;
+      while ((worker = idleWorkers.poll()) != null) {
+        if (worker.isAlive()) {
+          return worker;
+        }
+        LOGGER.warn("Discarding dead CDK worker process with exit code {}", worker.exitValue());
+        worker.destroy();
+        warmUp();
+      }
+      // every worker is still warming up, start one on the request path
+      return AirbyteCdkWorkerProcess.start(command, STARTUP_TIMEOUT);
+    } catch (final IOException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Give back a borrowed worker.
+   *
+   * @param worker worker
+   * @param healthy false if the request failed in a way that leaves the worker in an unknown state
+   */
+  void release(final AirbyteCdkWorkerProcess worker, final boolean healthy) {
+    try {
+      if (!healthy || !worker.isAlive() || worker.getRequestCount() >= maxRequestsPerProcess) {
+        worker.destroy();
+        warmUp();
+      } else if (!isEnabled() || !idleWorkers.offer(worker)) {
+        // the pool is full of warm workers already
+        worker.destroy();
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  private void warmUp() {
+    if (!isEnabled()) {
+      return;
+    }
+    startupExecutor.submit(() -> {
+      try {
+        final AirbyteCdkWorkerProcess worker = AirbyteCdkWorkerProcess.start(command, STARTUP_TIMEOUT);
+        if (!isEnabled() || !idleWorkers.offer(worker)) {
+          worker.destroy();
+        }
+      } catch (final IOException | RuntimeException e) {
+        LOGGER.warn("Could not start a warm CDK process; falling back to one process per request.", e);
+        enabled.set(false);
+      }
+    });
+  }
+
+  @VisibleForTesting
+  int getIdleWorkerCount() {
+    return idleWorkers.size();
+  }
+
+  @Override
+  public void close() {
+    enabled.set(false);
+    startupExecutor.shutdownNow();
+    AirbyteCdkWorkerProcess worker;
+    while ((worker = idleWorkers.poll()) != null) {
+      worker.destroy();
+    }
+  }
+
+}
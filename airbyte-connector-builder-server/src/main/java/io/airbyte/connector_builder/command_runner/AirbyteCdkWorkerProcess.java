@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import io.airbyte.commons.io.IOs;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.lang.Exceptions;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-lived Python process that has already imported the CDK connector builder entrypoint and
+ * handles requests one at a time over stdin/stdout. See `cdk_worker.py` for the other side of the
+ * protocol.
+ * <p>
+ * Its stdout and stderr are read on threads owned by the process. What the process writes to stderr
+ * while handling a request is kept, so that it can be reported if the request fails.
+ */
+public class AirbyteCdkWorkerProcess {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteCdkWorkerProcess.class);
+
+  public static final String END_OF_RESPONSE = "__AIRBYTE_CDK_WORKER_END_OF_RESPONSE__";
+
+  private static final int MAX_STDERR_LENGTH = 10_000;
+  private static final Duration STDERR_DRAIN_TIMEOUT = Duration.ofSeconds(1);
+
+  private final Process process;
+  private final BufferedReader stdout;
+  private final BufferedWriter stdin;
+  private final ExecutorService readers;
+  private final StringBuffer stderr = new StringBuffer();
+  private final Future<?> stderrDrain;
+  private int requestCount;
+
+  AirbyteCdkWorkerProcess(final Process process) {
+    this.process = process;
+    this.stdout = IOs.newBufferedReader(process.getInputStream());
+    this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    // one thread for the responses on stdout, one for stderr which must be drained continuously
+    this.readers = Executors.newFixedThreadPool(2);
+    this.stderrDrain = readers.submit(this::drainStderr);
+  }
+
+  /**
+   * Start a worker process and wait until it has imported the CDK.
+   *
+   * @param command command to run `cdk_worker.py`
+   * @param startupTimeout max time to wait for the process to be ready
+   * @return a worker process ready to accept requests
+   * @throws IOException if the process could not be started or didn't become ready
+   */
+  static AirbyteCdkWorkerProcess start(final List<String> command, final Duration startupTimeout) throws IOException {
+    final Process process = new ProcessBuilder(command).start();
+    final AirbyteCdkWorkerProcess worker = new AirbyteCdkWorkerProcess(process);
+    try {
+      worker.readResponse(startupTimeout);
+    } catch (final IOException e) {
+      worker.destroy();
+      throw e;
+    }
+    LOGGER.debug("CDK worker process {} is ready", process.pid());
+    return worker;
+  }
+
+  /**
+   * Handle a `read` request.
+   *
+   * @param configFilepath path of the config file
+   * @param catalogFilepath path of the catalog file
+   * @param timeout max time to wait for the response
+   * @return the lines output by the CDK for this request
+   * @throws IOException if the process died or didn't respond in time
+   */
+  String handle(final String configFilepath, final String catalogFilepath, final Duration timeout) throws IOException {
+    requestCount++;
+    stderr.setLength(0);
+    stdin.write(Jsons.serialize(Map.of("config", configFilepath, "catalog", catalogFilepath)));
+    stdin.newLine();
+    stdin.flush();
+    return readResponse(timeout);
+  }
+
+  private String readResponse(final Duration timeout) throws IOException {
+    final Future<String> response = readers.submit(() -> {
+      final StringBuilder lines = new StringBuilder();
+      String line;
+      while ((line = stdout.readLine()) != null) {
+        if (END_OF_RESPONSE.equals(line)) {
+          return lines.toString();
+        }
+        lines.append(line).append(System.lineSeparator());
+      }
+      throw new IOException("CDK worker process exited before responding.");
+    });
+
+    try {
+      return response.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final TimeoutException e) {
+      // the process is stuck on this request, it can't be trusted with another one
+      destroy();
+      throw new IOException(withStderr("CDK worker process did not respond within " + timeout), e);
+    } catch (final ExecutionException e) {
+      // let the process flush what it wrote to stderr before it died
+      Exceptions.swallow(() -> stderrDrain.get(STDERR_DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+      throw new IOException(withStderr(e.getCause().getMessage()), e.getCause());
+    } catch (final InterruptedException e) {
+      destroy();
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for CDK worker process.", e);
+    }
+  }
+
+  private void drainStderr() {
+    try {
+      IOs.newBufferedReader(process.getErrorStream()).lines().forEach(line -> {
+        LOGGER.debug("CDK worker process {}: {}", process.pid(), line);
+        if (stderr.length() < MAX_STDERR_LENGTH) {
+          stderr.append(line).append(System.lineSeparator());
+        }
+      });
+    } catch (final UncheckedIOException e) {
+      // the stream is closed when the process is destroyed
+    }
+  }
+
+  private String withStderr(final String message) {
+    final String error = stderr.toString().strip();
+    return error.isEmpty() ? message : message + " error=" + error;
+  }
+
+  int getRequestCount() {
+    return requestCount;
+  }
+
+  boolean isAlive() {
+    return process.isAlive();
+  }
+
+  /**
+   * Exit code of the process, or -1 if it is still running.
+   */
+  int exitValue() {
+    return process.isAlive() ? -1 : process.exitValue();
+  }
+
+  void destroy() {
+    process.destroyForcibly();
+    readers.shutdownNow();
+  }
+
+}
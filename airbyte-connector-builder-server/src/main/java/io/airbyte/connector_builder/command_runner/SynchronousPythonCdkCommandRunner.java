@@ -15,13 +15,15 @@ import io.airbyte.workers.internal.AirbyteStreamFactory;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Communicates with the CDK's Connector Builder handler by launching a Python process via an
- * Airbyte `read` command.
+ * Airbyte `read` command. When a pool of warm CDK processes is available, the command is sent to a
+ * pooled process instead.
  */
 @Singleton
 public class SynchronousPythonCdkCommandRunner implements SynchronousCdkCommandRunner {
@@ -30,7 +32,9 @@ public class SynchronousPythonCdkCommandRunner implements SynchronousCdkCommandR
   private final AirbyteStreamFactory streamFactory;
   private final String python;
   private final String cdkEntrypoint;
+  private final AirbyteCdkWorkerPool workerPool;
 
+  private static final Duration POOLED_REQUEST_TIMEOUT = Duration.ofMinutes(30);
   private static final Logger LOGGER = LoggerFactory.getLogger(SynchronousPythonCdkCommandRunner.class);
 
   @Inject
@@ -39,10 +43,20 @@ public class SynchronousPythonCdkCommandRunner implements SynchronousCdkCommandR
                                            final AirbyteStreamFactory streamFactory,
                                            final String python,
                                            final String cdkEntrypoint) {
+    this(writer, streamFactory, python, cdkEntrypoint, null);
+  }
+
+  public SynchronousPythonCdkCommandRunner(
+                                           final AirbyteFileWriter writer,
+                                           final AirbyteStreamFactory streamFactory,
+                                           final String python,
+                                           final String cdkEntrypoint,
+                                           final AirbyteCdkWorkerPool workerPool) {
     this.writer = writer;
     this.streamFactory = streamFactory;
     this.python = python;
     this.cdkEntrypoint = cdkEntrypoint;
+    this.workerPool = workerPool;
   }
 
   /**
@@ -74,6 +88,19 @@ public class SynchronousPythonCdkCommandRunner implements SynchronousCdkCommandR
     final AirbyteArgument catalog = this.write("catalog", catalogContents);
     final AirbyteArgument config = this.write("config", configContents);
 
+    if (this.workerPool != null && this.workerPool.isEnabled()) {
+      LOGGER.debug("Sending {} to a pooled CDK process", cdkCommand);
+      final AirbyteCdkPooledProcess cdkProcess = new AirbyteCdkPooledProcess(
+          workerPool, writer, config, catalog, POOLED_REQUEST_TIMEOUT);
+      try {
+        cdkProcess.start();
+      } catch (final IOException | RuntimeException e) {
+        cdkProcess.close();
+        throw e;
+      }
+      return cdkProcess;
+    }
+
     final List<String> command = Lists.newArrayList(
         this.python,
         this.cdkEntrypoint,
@@ -4,14 +4,24 @@
 
 package io.airbyte.connector_builder.config;
 
+import io.airbyte.commons.resources.MoreResources;
 import io.airbyte.config.EnvConfigs;
+import io.airbyte.connector_builder.command_runner.AirbyteCdkWorkerPool;
+import io.airbyte.connector_builder.command_runner.AirbyteCdkWorkerProcess;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousPythonCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Defines the instantiation of handler classes.
@@ -35,17 +45,40 @@ public class ApplicationBeanFactory {
     return configs.getCdkEntrypoint();
   }
 
+  /**
+   * Defines the instantiation of the pool of warm CDK processes. A size of 0 disables the pool, in
+   * which case a new process is launched for every request. The pool is disabled by default, since a
+   * pooled interpreter is reused across requests from different users.
+   */
+  @Singleton
+  @Bean(preDestroy = "close")
+  @Requires(property = "airbyte.connector-builder-server.cdk-process-pool.size",
+            notEquals = "0")
+  public AirbyteCdkWorkerPool airbyteCdkWorkerPool(@Value("${airbyte.connector-builder-server.cdk-process-pool.size}") final int size,
+                                                   @Value("${airbyte.connector-builder-server.cdk-process-pool.max-requests-per-process}") final int maxRequestsPerProcess,
+                                                   @Value("${airbyte.connector-builder-server.cdk-process-pool.acquire-timeout-seconds}") final long acquireTimeoutSeconds)
+      throws IOException {
+    final List<String> command = List.of(
+        this.getPython(),
+        "-c",
+        MoreResources.readResource("cdk_worker.py"),
+        this.getCdkEntrypoint(),
+        AirbyteCdkWorkerProcess.END_OF_RESPONSE);
+    return new AirbyteCdkWorkerPool(command, size, maxRequestsPerProcess, Duration.ofSeconds(acquireTimeoutSeconds));
+  }
+
   /**
    * Defines the instantiation of the SynchronousPythonCdkCommandRunner.
    */
   @Singleton
-  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner() {
+  public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner(final Optional<AirbyteCdkWorkerPool> workerPool) {
     return new SynchronousPythonCdkCommandRunner(
         new AirbyteFileWriterImpl(),
         // This should eventually be constructed via DI.
         VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(),
         this.getPython(),
-        this.getCdkEntrypoint());
+        this.getCdkEntrypoint(),
+        workerPool.orElse(null));
   }
 
 }
@@ -0,0 +1,43 @@
+#
+# Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+#
+
+# Long-lived wrapper around the CDK connector builder entrypoint, used by the connector builder
+# server's pool of warm CDK processes.
+#
+# Usage: python -c <this script> <path to connector_builder/main.py> <end of response marker>
+#
+# The entrypoint is imported once. Each line read from stdin is a JSON request holding the paths of
+# the config and catalog files, which is handled exactly like `main.py read --config <config>
+# --catalog <catalog>`. Each response is followed by the end of response marker. The marker is also
+# printed once on startup to signal that the process is ready to accept requests.
+
+import importlib.util
+import json
+import sys
+
+entrypoint_path, end_of_response = sys.argv[1], sys.argv[2]
+
+spec = importlib.util.spec_from_file_location("connector_builder_main", entrypoint_path)
+main = importlib.util.module_from_spec(spec)
+spec.loader.exec_module(main)
+
+if not callable(getattr(main, "handle_request", None)):
+    print("The CDK entrypoint does not expose handle_request; warm CDK processes are not supported.", file=sys.stderr)
+    sys.exit(1)
+
+from airbyte_cdk.utils.traced_exception import AirbyteTracedException  # noqa: E402
+
+print(end_of_response, flush=True)
+
+for line in sys.stdin:
+    if not line.strip():
+        continue
+    try:
+        request = json.loads(line)
+        response = main.handle_request(["read", "--config", request["config"], "--catalog", request["catalog"]])
+        print(response if isinstance(response, str) else response.json(exclude_unset=True))
+    except Exception as exc:
+        error = AirbyteTracedException.from_exception(exc, message=f"Error handling request: {str(exc)}")
+        print(error.as_airbyte_message().json(exclude_unset=True))
+    print(end_of_response, flush=True)
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AirbyteCdkWorkerPoolTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  // Emulates cdk_worker.py: signals readiness, then answers each request with a single line.
+  private static final List<String> ECHO_WORKER = List.of("sh", "-c", String.format("""
+                                                                                    echo %1$s
+                                                                                    while read -r request; do
+                                                                                      echo "response to $request"
+                                                                                      echo %1$s
+                                                                                    done
+                                                                                    """, AirbyteCdkWorkerProcess.END_OF_RESPONSE));
+
+  // Signals readiness, then never answers.
+  private static final List<String> STUCK_WORKER = List.of("sh", "-c", String.format("""
+                                                                                     echo %1$s
+                                                                                     read -r request
+                                                                                     sleep 60
+                                                                                     """, AirbyteCdkWorkerProcess.END_OF_RESPONSE));
+
+  // Signals readiness, then dies on the first request after logging an error.
+  private static final List<String> CRASHING_WORKER = List.of("sh", "-c", String.format("""
+                                                                                        echo %1$s
+                                                                                        read -r request
+                                                                                        echo "something went wrong" >&2
+                                                                                        exit 3
+                                                                                        """, AirbyteCdkWorkerProcess.END_OF_RESPONSE));
+
+  private static final List<String> FAILING_WORKER = List.of("sh", "-c", "exit 1");
+
+  @Test
+  void testWorkerHandlesRequests() throws IOException {
+    try (final AirbyteCdkWorkerPool pool = new AirbyteCdkWorkerPool(ECHO_WORKER, 1, 10, TIMEOUT)) {
+      final AirbyteCdkWorkerProcess worker = pool.borrow();
+      final String response = worker.handle("/config.json", "/catalog.json", TIMEOUT);
+      pool.release(worker, true);
+
+      assertTrue(response.contains("response to"));
+      assertTrue(response.contains("/config.json"));
+      assertTrue(response.contains("/catalog.json"));
+      assertTrue(pool.isEnabled());
+    }
+  }
+
+  @Test
+  void testWorkerIsReused() throws IOException, InterruptedException {
+    try (final AirbyteCdkWorkerPool pool = new AirbyteCdkWorkerPool(ECHO_WORKER, 1, 10, TIMEOUT)) {
+      awaitWarmWorkers(pool, 1);
+      final AirbyteCdkWorkerProcess first = pool.borrow();
+      first.handle("/config.json", "/catalog.json", TIMEOUT);
+      pool.release(first, true);
+
+      final AirbyteCdkWorkerProcess second = pool.borrow();
+      pool.release(second, true);
+
+      assertSame(first, second);
+    }
+  }
+
+  @Test
+  void testWorkerIsRecycledAfterMaxRequests() throws IOException {
+    try (final AirbyteCdkWorkerPool pool = new AirbyteCdkWorkerPool(ECHO_WORKER, 1, 1, TIMEOUT)) {
+      final AirbyteCdkWorkerProcess first = pool.borrow();
+      first.handle("/config.json", "/catalog.json", TIMEOUT);
+      pool.release(first, true);
+
+      final AirbyteCdkWorkerProcess second = pool.borrow();
+      pool.release(second, true);
+
+      assertNotSame(first, second);
+      assertEquals(0, second.getRequestCount());
+    }
+  }
+
+  @Test
+  void testUnhealthyWorkerIsNotReused() throws IOException {
+    try (final AirbyteCdkWorkerPool pool = new AirbyteCdkWorkerPool(ECHO_WORKER, 1, 10, TIMEOUT)) {
+      final AirbyteCdkWorkerProcess first = pool.borrow();
+      pool.release(first, false);
+
+      final AirbyteCdkWorkerProcess second = pool.borrow();
+      pool.release(second, true);
+
+      assertNotSame(first, second);
+    }
+  }
+
+  @Test
+  void testWorkerIsDestroyedWhenItDoesNotRespond() throws IOException, InterruptedException {
+    final AirbyteCdkWorkerProcess worker = AirbyteCdkWorkerProcess.start(STUCK_WORKER, TIMEOUT);
+
+    assertThrows(IOException.class, () -> worker.handle("/config.json", "/catalog.json", Duration.ofMillis(100)));
+
+    final long deadline = System.currentTimeMillis() + TIMEOUT.toMillis();
+    while (worker.isAlive() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertFalse(worker.isAlive());
+  }
+
+  @Test
+  void testStderrIsReportedWhenWorkerDies() throws IOException {
+    final AirbyteCdkWorkerProcess worker = AirbyteCdkWorkerProcess.start(CRASHING_WORKER, TIMEOUT);
+
+    final IOException e = assertThrows(IOException.class, () -> worker.handle("/config.json", "/catalog.json", TIMEOUT));
+    worker.destroy();
+
+    assertTrue(e.getMessage().contains("something went wrong"));
+  }
+
+  @Test
+  void testConcurrencyIsBounded() throws IOException {
+    try (final AirbyteCdkWorkerPool pool = new AirbyteCdkWorkerPool(ECHO_WORKER, 1, 10, Duration.ofMillis(100))) {
+      final AirbyteCdkWorkerProcess worker = pool.borrow();
+      assertThrows(ConnectorBuilderException.class, pool::borrow);
+      pool.release(worker, true);
+    }
+  }
+
+  @Test
+  void testPoolIsDisabledWhenWorkersCannotStart() throws InterruptedException {
+    try (final AirbyteCdkWorkerPool pool = new AirbyteCdkWorkerPool(FAILING_WORKER, 1, 10, TIMEOUT)) {
+      final long deadline = System.currentTimeMillis() + TIMEOUT.toMillis();
+      while (pool.isEnabled() && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      assertFalse(pool.isEnabled());
+      assertEquals(0, pool.getIdleWorkerCount());
+    }
+  }
+
+  private static void awaitWarmWorkers(final AirbyteCdkWorkerPool pool, final int count) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + TIMEOUT.toMillis();
+    while (pool.getIdleWorkerCount() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(count, pool.getIdleWorkerCount());
+  }
+
+}
@@ -11,6 +11,7 @@ import io.airbyte.workers.storage.DocumentStoreClient;
 import jakarta.inject.Singleton;
 import java.lang.invoke.MethodHandles;
 import java.util.List;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,13 +19,17 @@ import org.slf4j.LoggerFactory;
  * The state manager writes the "truth" for states of the async pod process. If the store isn't
  * updated by the underlying pod, it will appear as failed.
  * <p>
- * It doesn't have a single value for a state. Instead, in a location on cloud storage or disk, it
- * writes every state it's encountered.
+ * In a location on cloud storage or disk, it writes every state it's encountered. It also keeps the
+ * latest state in a single {@link AsyncKubePodStatus#STATUS_DOCUMENT} so that readers can get the
+ * status with one request instead of checking every state.
  */
 @Singleton
 public class AsyncStateManager {
 
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+  private static final List<AsyncKubePodStatus> TERMINAL_STATUSES = List.of(
+      AsyncKubePodStatus.FAILED,
+      AsyncKubePodStatus.SUCCEEDED);
   private static final List<AsyncKubePodStatus> STATUS_CHECK_ORDER = List.of(
       // terminal states first
       AsyncKubePodStatus.FAILED,
@@ -49,6 +54,8 @@ public class AsyncStateManager {
     final var key = getDocumentStoreKey(status);
     log.info("Writing async status {} for {}...", status, kubePodInfo);
     documentStoreClient.write(key, value);
+    // written after the status file, so that the output is there by the time a reader sees the status
+    documentStoreClient.write(getStatusDocumentKey(), status.name());
   }
 
   /**
@@ -59,13 +66,29 @@ public class AsyncStateManager {
   }
 
   /**
-   * Interprets the state given all written state messages for the pod.
+   * Reads the latest state of the pod. If the status document is missing, e.g. for a pod started
+   * by an older version, interprets the state given all written state messages for the pod.
    * <p>
    * Checks terminal states first, then running, then initialized. Defaults to not started.
    * <p>
+   * The status document is written after the file of each state, so it falls behind if that second
+   * write fails. Unless it holds a terminal state, the terminal state files take precedence over it.
+   * <p>
    * The order matters here!
    */
   public AsyncKubePodStatus getStatus() {
+    final Optional<AsyncKubePodStatus> latestStatus = documentStoreClient.read(getStatusDocumentKey())
+        .flatMap(this::parseStatus);
+    if (latestStatus.isPresent()) {
+      if (latestStatus.get().isTerminal()) {
+        return latestStatus.get();
+      }
+      return TERMINAL_STATUSES.stream()
+          .filter(this::statusFileExists)
+          .findFirst()
+          .orElse(latestStatus.get());
+    }
+
     return STATUS_CHECK_ORDER.stream()
         .filter(this::statusFileExists)
         .findFirst()
@@ -95,6 +118,19 @@ public class AsyncStateManager {
     return kubePodInfo.namespace() + "/" + kubePodInfo.name() + "/" + status.name();
   }
 
+  @VisibleForTesting
+  String getStatusDocumentKey() {
+    return kubePodInfo.namespace() + "/" + kubePodInfo.name() + "/" + AsyncKubePodStatus.STATUS_DOCUMENT;
+  }
+
+  private Optional<AsyncKubePodStatus> parseStatus(final String value) {
+    final Optional<AsyncKubePodStatus> status = AsyncKubePodStatus.fromStatusDocument(value);
+    if (status.isEmpty()) {
+      log.warn("Ignoring unknown async status {} for {}", value, kubePodInfo);
+    }
+    return status;
+  }
+
   private boolean statusFileExists(final AsyncKubePodStatus status) {
     final var key = getDocumentStoreKey(status);
     return documentStoreClient.read(key).isPresent();
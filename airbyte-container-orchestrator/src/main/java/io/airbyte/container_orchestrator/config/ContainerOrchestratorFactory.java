@@ -21,6 +21,7 @@ import io.airbyte.workers.general.ReplicationWorkerFactory;
 import io.airbyte.workers.internal.state_aggregator.StateAggregatorFactory;
 import io.airbyte.workers.process.AsyncOrchestratorPodProcess;
 import io.airbyte.workers.process.DockerProcessFactory;
+import io.airbyte.workers.process.KubePodStatusCache;
 import io.airbyte.workers.process.KubePortManagerSingleton;
 import io.airbyte.workers.process.KubeProcessFactory;
 import io.airbyte.workers.process.ProcessFactory;
@@ -75,6 +76,7 @@ class ContainerOrchestratorFactory {
   ProcessFactory kubeProcessFactory(
                                     final WorkerConfigsProvider workerConfigsProvider,
                                     final FeatureFlagClient featureFlagClient,
+                                    final KubePodStatusCache podStatusCache,
                                     final EnvConfigs configs,
                                     @Value("${micronaut.server.port}") final int serverPort,
                                     @Value("${airbyte.worker.job.kube.serviceAccount}") final String serviceAccount)
@@ -92,6 +94,7 @@ class ContainerOrchestratorFactory {
         configs.getJobKubeNamespace(),
         serviceAccount,
         new DefaultKubernetesClient(),
+        podStatusCache,
         kubeHeartbeatUrl);
   }
 
@@ -6,7 +6,9 @@ package io.airbyte.container_orchestrator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,6 +56,43 @@ class AsyncStateManagerTest {
     verify(documentStore, times(1)).write(key, OUTPUT);
   }
 
+  @Test
+  void testWriteUpdatesStatusDocument() {
+    stateManager.write(AsyncKubePodStatus.RUNNING);
+    stateManager.write(AsyncKubePodStatus.SUCCEEDED, OUTPUT);
+
+    final var inOrder = inOrder(documentStore);
+    inOrder.verify(documentStore).write(stateManager.getDocumentStoreKey(AsyncKubePodStatus.RUNNING), "");
+    inOrder.verify(documentStore).write(stateManager.getStatusDocumentKey(), AsyncKubePodStatus.RUNNING.name());
+    inOrder.verify(documentStore).write(stateManager.getDocumentStoreKey(AsyncKubePodStatus.SUCCEEDED), OUTPUT);
+    inOrder.verify(documentStore).write(stateManager.getStatusDocumentKey(), AsyncKubePodStatus.SUCCEEDED.name());
+  }
+
+  @Test
+  void testStatusRetrievalFromStatusDocument() {
+    when(documentStore.read(stateManager.getStatusDocumentKey())).thenReturn(Optional.of(AsyncKubePodStatus.SUCCEEDED.name()));
+
+    assertEquals(AsyncKubePodStatus.SUCCEEDED, stateManager.getStatus());
+    verify(documentStore, never()).read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.FAILED));
+  }
+
+  @Test
+  void testTerminalStatusFileTakesPrecedenceOverStaleStatusDocument() {
+    // the last write of the status document failed after the output was stored
+    when(documentStore.read(stateManager.getStatusDocumentKey())).thenReturn(Optional.of(AsyncKubePodStatus.RUNNING.name()));
+    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.SUCCEEDED))).thenReturn(Optional.of(OUTPUT));
+
+    assertEquals(AsyncKubePodStatus.SUCCEEDED, stateManager.getStatus());
+  }
+
+  @Test
+  void testNonTerminalStatusDocumentWithoutTerminalStatusFile() {
+    when(documentStore.read(stateManager.getStatusDocumentKey())).thenReturn(Optional.of(AsyncKubePodStatus.RUNNING.name()));
+
+    assertEquals(AsyncKubePodStatus.RUNNING, stateManager.getStatus());
+    verify(documentStore, never()).read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.INITIALIZING));
+  }
+
   @Test
   void testReadingOutputWhenItExists() {
     final var key = stateManager.getDocumentStoreKey(AsyncKubePodStatus.SUCCEEDED);
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Add an index covering the lookup of a cached catalog by actor, actor version and config hash.
+ */
+public class V0_50_11_002__AddActorCatalogFetchEventConfigHashIndex extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_11_002__AddActorCatalogFetchEventConfigHashIndex.class);
+  private static final String ACTOR_CATALOG_FETCH_EVENT_TABLE = "actor_catalog_fetch_event";
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    ctx.createIndexIfNotExists("actor_catalog_fetch_event_actor_id_version_hash_idx")
+        .on(ACTOR_CATALOG_FETCH_EVENT_TABLE, "actor_id", "actor_version", "config_hash")
+        .execute();
+  }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds partial indexes used to find the next pending job: pending jobs by creation time, and active
+ * jobs by scope. Both only cover a small fraction of the jobs table, so they stay small as the job
+ * history grows.
+ */
+public class V0_50_4_002__AddJobQueueIndexes extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_4_002__AddJobQueueIndexes.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    createIndices(ctx);
+
+    LOGGER.info("Completed migration: {}", this.getClass().getSimpleName());
+  }
+
+  private static void createIndices(final DSLContext ctx) {
+    ctx.createIndexIfNotExists("jobs_pending_created_at_idx")
+        .on("jobs", "created_at")
+        .where(DSL.condition("status = 'pending'"))
+        .execute();
+    ctx.createIndexIfNotExists("jobs_active_scope_idx")
+        .on("jobs", "scope")
+        .where(DSL.condition("status IN ('running', 'incomplete')"))
+        .execute();
+  }
+
+}
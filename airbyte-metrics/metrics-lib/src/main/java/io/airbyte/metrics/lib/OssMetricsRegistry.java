@@ -286,6 +286,9 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   TEMPORAL_WORKFLOW_FAILURE(MetricEmittingApps.WORKER,
       "temporal_workflow_failure",
       "count of the number of workflow failures"),
+  TRACKING_EVENTS_DROPPED(MetricEmittingApps.WORKER,
+      "tracking_events_dropped",
+      "number of tracking events dropped because the tracking queue was full or shut down"),
   SCHEMA_CHANGE_AUTO_PROPAGATED(MetricEmittingApps.SERVER,
       "schema_change_auto_propagated",
       "a schema change have been propagated"),
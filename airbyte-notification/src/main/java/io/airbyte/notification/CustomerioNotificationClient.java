@@ -13,6 +13,7 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.UUID;
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.commons.lang3.StringUtils;
@@ -47,7 +48,9 @@ public class CustomerioNotificationClient extends NotificationClient {
 
   private static final String CUSTOMERIO_TYPE = "customerio";
 
-  private final HttpClient httpClient;
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final NotificationHttpClient httpClient;
   private final String apiToken;
   private final String emailApiEndpoint;
 
@@ -55,9 +58,7 @@ public class CustomerioNotificationClient extends NotificationClient {
     final EnvConfigs configs = new EnvConfigs();
     this.apiToken = configs.getCustomerIoKey();
     this.emailApiEndpoint = CUSTOMERIO_EMAIL_API_ENDPOINT;
-    this.httpClient = HttpClient.newBuilder()
-        .version(HttpClient.Version.HTTP_2)
-        .build();
+    this.httpClient = NotificationHttpClient.SHARED;
   }
 
   @VisibleForTesting
@@ -66,7 +67,8 @@ public class CustomerioNotificationClient extends NotificationClient {
                                       final HttpClient httpClient) {
     this.apiToken = apiToken;
     this.emailApiEndpoint = emailApiEndpoint;
-    this.httpClient = httpClient;
+    // tests check the requests sent through the given client, so it is not shared with others
+    this.httpClient = new NotificationHttpClient(httpClient, 1);
   }
 
   @Override
@@ -161,9 +163,10 @@ public class CustomerioNotificationClient extends NotificationClient {
         .uri(URI.create(emailApiEndpoint))
         .header("Content-Type", "application/json")
         .header("Authorization", "Bearer " + apiToken)
+        .timeout(REQUEST_TIMEOUT)
         .build();
 
-    final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    final HttpResponse<String> response = httpClient.send(request, requestBody);
     if (isSuccessfulHttpResponse(response.statusCode())) {
       LOGGER.info("Successful notification ({}): {}", response.statusCode(), response.body());
       return true;
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.notification;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Sends the requests of the notification clients.
+ * <p>
+ * The notification clients are created for each notification, so they all share one
+ * {@link HttpClient}, which keeps the connections to the webhooks alive between notifications
+ * instead of paying a new handshake for each of them. On top of it, the number of requests sent to
+ * the same host at the same time is bounded, and a request sent while an identical one to the same
+ * URI is in flight waits for the response of the first one instead of being sent again.
+ */
+class NotificationHttpClient {
+
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+  private static final int MAX_CONCURRENT_REQUESTS_PER_HOST = 8;
+
+  static final NotificationHttpClient SHARED = new NotificationHttpClient(HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_2)
+      .connectTimeout(CONNECT_TIMEOUT)
+      .build(), MAX_CONCURRENT_REQUESTS_PER_HOST);
+
+  private final HttpClient httpClient;
+  private final int maxConcurrentRequestsPerHost;
+  private final Map<String, Semaphore> permitsByHost = new ConcurrentHashMap<>();
+  private final Map<RequestKey, CompletableFuture<HttpResponse<String>>> inFlightRequests = new ConcurrentHashMap<>();
+
+  @VisibleForTesting
+  NotificationHttpClient(final HttpClient httpClient, final int maxConcurrentRequestsPerHost) {
+    this.httpClient = httpClient;
+    this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+  }
+
+  /**
+   * Send a request, or wait for the response of an identical request in flight.
+   *
+   * @param request to send
+   * @param body of the request, which can't be read back from it
+   * @return the response
+   */
+  HttpResponse<String> send(final HttpRequest request, final String body) throws IOException, InterruptedException {
+    final RequestKey key = new RequestKey(request.uri(), body);
+    final CompletableFuture<HttpResponse<String>> response = new CompletableFuture<>();
+    final CompletableFuture<HttpResponse<String>> inFlightResponse = inFlightRequests.putIfAbsent(key, response);
+    if (inFlightResponse != null) {
+      return await(inFlightResponse);
+    }
+
+    final Semaphore permits = permitsByHost.computeIfAbsent(String.valueOf(request.uri().getHost()),
+        host -> new Semaphore(maxConcurrentRequestsPerHost));
+    try {
+      permits.acquire();
+      try {
+        response.complete(httpClient.send(request, HttpResponse.BodyHandlers.ofString()));
+      } finally {
+        permits.release();
+      }
+    } catch (final IOException | InterruptedException | RuntimeException e) {
+      response.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlightRequests.remove(key, response);
+    }
+    return response.join();
+  }
+
+  private static HttpResponse<String> await(final CompletableFuture<HttpResponse<String>> response) throws IOException, InterruptedException {
+    try {
+      return response.get();
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to deliver notification", e.getCause());
+    }
+  }
+
+  private record RequestKey(URI uri, String body) {}
+
+}
@@ -10,9 +10,9 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.SlackNotificationConfiguration;
 import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.UUID;
 import org.apache.logging.log4j.util.Strings;
 import org.slf4j.Logger;
@@ -32,11 +32,14 @@ public class SlackNotificationClient extends NotificationClient {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SlackNotificationClient.class);
   private static final String SLACK_CLIENT = "slack";
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
 
   private final SlackNotificationConfiguration config;
+  private final NotificationHttpClient httpClient;
 
   public SlackNotificationClient(final SlackNotificationConfiguration slackNotificationConfiguration) {
     this.config = slackNotificationConfiguration;
+    this.httpClient = NotificationHttpClient.SHARED;
   }
 
   @Override
@@ -138,18 +141,17 @@ public class SlackNotificationClient extends NotificationClient {
   }
 
   private boolean notify(final String message) throws IOException, InterruptedException {
-    final HttpClient httpClient = HttpClient.newBuilder()
-        .version(HttpClient.Version.HTTP_2)
-        .build();
     final ImmutableMap<String, String> body = new Builder<String, String>()
         .put("text", message)
         .build();
+    final String serializedBody = Jsons.serialize(body);
     final HttpRequest request = HttpRequest.newBuilder()
-        .POST(HttpRequest.BodyPublishers.ofString(Jsons.serialize(body)))
+        .POST(HttpRequest.BodyPublishers.ofString(serializedBody))
         .uri(URI.create(config.getWebhook()))
         .header("Content-Type", "application/json")
+        .timeout(REQUEST_TIMEOUT)
         .build();
-    final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    final HttpResponse<String> response = httpClient.send(request, serializedBody);
     if (isSuccessfulHttpResponse(response.statusCode())) {
       LOGGER.info("Successful notification ({}): {}", response.statusCode(), response.body());
       return true;
@@ -3,14 +3,30 @@ package io.airbyte.notification.config
 import io.micronaut.context.annotation.Factory
 import jakarta.inject.Named
 import jakarta.inject.Singleton
+import okhttp3.ConnectionPool
 import okhttp3.OkHttpClient
+import java.util.concurrent.TimeUnit
 
 @Factory
 class HttpClientFactory {
 
+  /**
+   * Shared by all the notification senders, so that connections to the same webhook are kept alive
+   * and reused across notifications, and a slow webhook can't hold a caller for longer than the
+   * timeouts.
+   */
   @Singleton
   @Named("webhookHttpClient")
   fun okHttpClient(): OkHttpClient {
-    return OkHttpClient()
+    return OkHttpClient.Builder()
+      .connectionPool(ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+      .connectTimeout(10, TimeUnit.SECONDS)
+      .callTimeout(30, TimeUnit.SECONDS)
+      .build()
+  }
+
+  companion object {
+    private const val MAX_IDLE_CONNECTIONS = 20
+    private const val KEEP_ALIVE_MINUTES = 5L
   }
 }
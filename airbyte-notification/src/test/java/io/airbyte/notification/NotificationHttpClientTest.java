@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NotificationHttpClientTest {
+
+  private static final URI WEBHOOK = URI.create("http://localhost/webhook");
+  private static final String BODY = "{\"text\":\"failure\"}";
+
+  private HttpClient httpClient;
+  private HttpResponse<String> response;
+  private ExecutorService executor;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setup() {
+    httpClient = mock(HttpClient.class);
+    response = mock(HttpResponse.class);
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testIdenticalRequestsInFlightAreSentOnce() throws Exception {
+    final CountDownLatch sent = new CountDownLatch(1);
+    final CountDownLatch respond = new CountDownLatch(1);
+    when(httpClient.send(any(), any())).thenAnswer(invocation -> {
+      sent.countDown();
+      respond.await();
+      return response;
+    });
+    final NotificationHttpClient client = new NotificationHttpClient(httpClient, 8);
+
+    final Future<HttpResponse<String>> first = executor.submit(() -> client.send(request(BODY), BODY));
+    sent.await();
+    final Future<HttpResponse<String>> second = executor.submit(() -> client.send(request(BODY), BODY));
+    // let the second request reach the one in flight before responding
+    Thread.sleep(100);
+    respond.countDown();
+
+    assertSame(response, first.get(10, TimeUnit.SECONDS));
+    assertSame(response, second.get(10, TimeUnit.SECONDS));
+    verify(httpClient, times(1)).send(any(), any());
+  }
+
+  @Test
+  void testIdenticalRequestsAreSentAgainOnceCompleted() throws Exception {
+    when(httpClient.send(any(), any())).thenAnswer(invocation -> response);
+    final NotificationHttpClient client = new NotificationHttpClient(httpClient, 8);
+
+    client.send(request(BODY), BODY);
+    client.send(request(BODY), BODY);
+
+    verify(httpClient, times(2)).send(any(), any());
+  }
+
+  @Test
+  void testConcurrentRequestsToTheSameHostAreBounded() throws Exception {
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    when(httpClient.send(any(), any())).thenAnswer(invocation -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      Thread.sleep(50);
+      inFlight.decrementAndGet();
+      return response;
+    });
+    final NotificationHttpClient client = new NotificationHttpClient(httpClient, 1);
+
+    final Future<HttpResponse<String>> first = executor.submit(() -> client.send(request("first"), "first"));
+    final Future<HttpResponse<String>> second = executor.submit(() -> client.send(request("second"), "second"));
+    first.get(10, TimeUnit.SECONDS);
+    second.get(10, TimeUnit.SECONDS);
+
+    assertEquals(1, maxInFlight.get());
+    verify(httpClient, times(2)).send(any(), any());
+  }
+
+  @Test
+  void testFailuresAreRethrown() throws Exception {
+    when(httpClient.send(any(), any())).thenThrow(new IOException("connection refused"));
+    final NotificationHttpClient client = new NotificationHttpClient(httpClient, 8);
+
+    assertThrows(IOException.class, () -> client.send(request(BODY), BODY));
+  }
+
+  private static HttpRequest request(final String body) {
+    return HttpRequest.newBuilder()
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .uri(WEBHOOK)
+        .build();
+  }
+
+}
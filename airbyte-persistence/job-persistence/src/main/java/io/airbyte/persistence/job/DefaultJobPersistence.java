@@ -15,6 +15,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.protocol.migrations.v1.CatalogMigrationV1Helper;
@@ -32,6 +33,7 @@ import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.JobOutput;
 import io.airbyte.config.JobOutput.OutputType;
 import io.airbyte.config.NormalizationSummary;
+import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.persistence.PersistenceHelpers;
@@ -47,6 +49,7 @@ import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
 import io.airbyte.protocol.models.v0.StreamDescriptor;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -104,6 +107,11 @@ public class DefaultJobPersistence implements JobPersistence {
   static final String BASE_JOB_SELECT_AND_JOIN = jobSelectAndJoin("jobs");
 
   private static final String AIRBYTE_METADATA_TABLE = "airbyte_metadata";
+  @VisibleForTesting
+  static final String JOB_HISTORY_PURGE_CHECKPOINT_KEY = "job_history_purge_last_scope";
+  @VisibleForTesting
+  static final int JOB_HISTORY_PURGE_SCOPE_BATCH_SIZE = 100;
+  private static final int JOB_HISTORY_PURGE_DELETE_BATCH_SIZE = 1000;
   public static final String ORDER_BY_JOB_TIME_ATTEMPT_TIME =
       "ORDER BY jobs.created_at DESC, jobs.id DESC, attempts.created_at ASC, attempts.id ASC ";
   public static final String ORDER_BY_JOB_CREATED_AT_DESC = "ORDER BY jobs.created_at DESC ";
@@ -362,9 +370,11 @@ public class DefaultJobPersistence implements JobPersistence {
       throws IOException {
     final OffsetDateTime now = OffsetDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC);
 
+    final String serializedOutput = serializeWithoutOutputCatalog(output);
+
     jobDatabase.transaction(ctx -> {
       ctx.update(ATTEMPTS)
-          .set(ATTEMPTS.OUTPUT, JSONB.valueOf(Jsons.serialize(output)))
+          .set(ATTEMPTS.OUTPUT, JSONB.valueOf(serializedOutput))
           .set(ATTEMPTS.UPDATED_AT, now)
           .where(ATTEMPTS.JOB_ID.eq(jobId), ATTEMPTS.ATTEMPT_NUMBER.eq(attemptNumber))
           .execute();
@@ -398,6 +408,41 @@ public class DefaultJobPersistence implements JobPersistence {
 
   }
 
+  /**
+   * Serialize a job output for the attempts table. The output catalog of a sync is replaced by its
+   * hash: it is derived from the configured catalog of the job config, and storing it again for
+   * every attempt made attempt rows grow with the size of the catalog. The hash is only a
+   * fingerprint to tell whether attempts produced the same catalog, the catalog can't be read back
+   * from it. The output of the caller is not modified: the fields of the output and of the sync
+   * output are copied to new objects, which share their values with the caller's.
+   */
+  @VisibleForTesting
+  static String serializeWithoutOutputCatalog(final JobOutput output) {
+    final StandardSyncOutput syncOutput = output.getSync();
+    if (syncOutput == null || syncOutput.getOutputCatalog() == null) {
+      return Jsons.serialize(output);
+    }
+
+    final StandardSyncOutput syncOutputWithoutCatalog = new StandardSyncOutput()
+        .withStandardSyncSummary(syncOutput.getStandardSyncSummary())
+        .withNormalizationSummary(syncOutput.getNormalizationSummary())
+        .withWebhookOperationSummary(syncOutput.getWebhookOperationSummary())
+        .withState(syncOutput.getState())
+        .withOutputCatalogHash(Hashing.murmur3_32_fixed()
+            .hashBytes(Jsons.serialize(syncOutput.getOutputCatalog()).getBytes(StandardCharsets.UTF_8)).toString())
+        .withFailures(syncOutput.getFailures());
+    syncOutput.getAdditionalProperties().forEach(syncOutputWithoutCatalog::setAdditionalProperty);
+
+    final JobOutput outputWithoutCatalog = new JobOutput()
+        .withOutputType(output.getOutputType())
+        .withCheckConnection(output.getCheckConnection())
+        .withDiscoverCatalog(output.getDiscoverCatalog())
+        .withGetSpec(output.getGetSpec())
+        .withSync(syncOutputWithoutCatalog);
+    output.getAdditionalProperties().forEach(outputWithoutCatalog::setAdditionalProperty);
+    return Jsons.serialize(outputWithoutCatalog);
+  }
+
   @Override
   public void writeStats(final long jobId,
                          final int attemptNumber,
@@ -1021,14 +1066,15 @@ public class DefaultJobPersistence implements JobPersistence {
     // 1. get oldest, pending job
     // 2. job is excluded if another job of the same scope is already running
     // 3. job is excluded if another job of the same scope is already incomplete
+    // The status literals match the predicates of the partial indexes on pending and active jobs, so
+    // that the lookup doesn't depend on the size of the job history.
     return jobDatabase.query(ctx -> ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + WHERE
-            + "CAST(jobs.status AS VARCHAR) = 'pending' AND "
-            + "jobs.scope NOT IN ( SELECT scope FROM jobs WHERE status = 'running' OR status = 'incomplete' ) "
+        .fetch("SELECT jobs.id FROM jobs WHERE jobs.status = 'pending' AND NOT EXISTS ( "
+            + "SELECT 1 FROM jobs AS active_jobs WHERE active_jobs.scope = jobs.scope AND active_jobs.status IN ('running', 'incomplete') ) "
             + "ORDER BY jobs.created_at ASC LIMIT 1")
         .stream()
         .findFirst()
-        .flatMap(r -> getJobOptional(ctx, r.get(JOB_ID, Long.class))));
+        .flatMap(r -> getJobOptional(ctx, r.get("id", Long.class))));
   }
 
   @Override
@@ -1302,6 +1348,10 @@ public class DefaultJobPersistence implements JobPersistence {
   /**
    * Purge job history from N days before a given date. Only purge jobs that are not the last job for
    * the connection.
+   * <p>
+   * Scopes are purged a few at a time, and their jobs are deleted in bounded batches, so that no
+   * statement has to look at the whole job history or hold locks on many rows. The last purged scope
+   * is saved as a checkpoint, so that an interrupted purge resumes where it stopped.
    *
    * @param asOfDate date to purge before
    */
@@ -1309,17 +1359,51 @@ public class DefaultJobPersistence implements JobPersistence {
   public void purgeJobHistory(final LocalDateTime asOfDate) {
     try {
       final String jobHistoryPurgeSql = MoreResources.readResource("job_history_purge.sql");
-      // interval '?' days cannot use a ? bind, so we're using %d instead.
-      final String sql = String.format(jobHistoryPurgeSql, (jobHistoryMinimumAgeInDays - 1));
-      jobDatabase.query(ctx -> ctx.execute(sql,
-          asOfDate.format(DateTimeFormatter.ofPattern("YYYY-MM-dd")),
-          jobHistoryExcessiveNumberOfJobs,
-          jobHistoryMinimumRecency));
+      final String purgeDate = asOfDate.format(DateTimeFormatter.ofPattern("YYYY-MM-dd"));
+
+      String lastPurgedScope = getMetadata(JOB_HISTORY_PURGE_CHECKPOINT_KEY).findFirst().orElse("");
+      List<String> scopes = getScopesAfter(lastPurgedScope);
+      while (!scopes.isEmpty()) {
+        purgeJobHistory(jobHistoryPurgeSql, purgeDate, scopes);
+        lastPurgedScope = scopes.get(scopes.size() - 1);
+        setMetadata(JOB_HISTORY_PURGE_CHECKPOINT_KEY, lastPurgedScope);
+        scopes = getScopesAfter(lastPurgedScope);
+      }
+      // the purge went through every scope, the next one starts over
+      jobDatabase.query(ctx -> ctx.deleteFrom(DSL.table(AIRBYTE_METADATA_TABLE))
+          .where(DSL.field(METADATA_KEY_COL).eq(JOB_HISTORY_PURGE_CHECKPOINT_KEY))
+          .execute());
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  private List<String> getScopesAfter(final String scope) throws IOException {
+    return jobDatabase.query(ctx -> ctx.select(JOBS.SCOPE)
+        .from(JOBS)
+        .where(JOBS.SCOPE.gt(scope))
+        .groupBy(JOBS.SCOPE)
+        .orderBy(JOBS.SCOPE)
+        .limit(JOB_HISTORY_PURGE_SCOPE_BATCH_SIZE)
+        .fetch(JOBS.SCOPE));
+  }
+
+  private void purgeJobHistory(final String jobHistoryPurgeSql, final String purgeDate, final List<String> scopes) throws IOException {
+    // interval '?' days cannot use a ? bind, so we're using %d instead.
+    final String sql = String.format(jobHistoryPurgeSql,
+        scopes.stream().map(scope -> "(?)").collect(Collectors.joining(", ")),
+        jobHistoryMinimumAgeInDays - 1);
+    final List<Object> binds = new ArrayList<>(scopes);
+    binds.add(purgeDate);
+    binds.add(jobHistoryExcessiveNumberOfJobs);
+    binds.add(jobHistoryMinimumRecency);
+
+    final List<Long> jobIds = jobDatabase.query(ctx -> ctx.fetch(sql, binds.toArray()).getValues("id", Long.class));
+    for (final List<Long> batch : Lists.partition(jobIds, JOB_HISTORY_PURGE_DELETE_BATCH_SIZE)) {
+      jobDatabase.query(ctx -> ctx.deleteFrom(JOBS).where(JOBS.ID.in(batch)).execute());
+    }
+  }
+
   /**
    * Removes unsupported unicode characters (as defined by Postgresql) from the provided input string.
    *
@@ -7,9 +7,11 @@ package io.airbyte.persistence.job;
 import static io.airbyte.metrics.lib.MetricTags.NOTIFICATION_CLIENT;
 import static io.airbyte.metrics.lib.MetricTags.NOTIFICATION_TRIGGER;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.analytics.TrackingClient;
 import io.airbyte.commons.map.MoreMaps;
 import io.airbyte.config.ActorDefinitionVersion;
@@ -31,6 +33,7 @@ import io.airbyte.notification.SlackNotificationClient;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.tracker.TrackingMetadata;
 import io.micronaut.core.util.functional.ThrowingFunction;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -39,6 +42,10 @@ import java.time.format.FormatStyle;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
@@ -46,6 +53,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Send a notification to a user about something that happened to a Job.
+ * <p>
+ * Notifications are delivered in the background so that reading the configuration and calling a
+ * slow webhook doesn't delay the job status update that triggered them. Deliveries that fail with an
+ * I/O error are retried with a backoff. Notifications are not persisted: the ones still pending when
+ * the application stops are lost, as they were when delivery failed before.
  */
 public class JobNotifier {
 
@@ -56,25 +68,59 @@ public class JobNotifier {
   public static final String CONNECTION_DISABLED_WARNING_NOTIFICATION = "Connection Disabled Warning Notification";
   public static final String CONNECTION_DISABLED_NOTIFICATION = "Connection Disabled Notification";
 
+  private static final int MAX_CONCURRENT_NOTIFICATIONS = 4;
+  private static final int MAX_PENDING_NOTIFICATIONS = 1000;
+  private static final int MAX_DELIVERY_ATTEMPTS = 3;
+  private static final Duration INITIAL_RETRY_BACKOFF = Duration.ofSeconds(1);
+
   private final ConfigRepository configRepository;
   private final TrackingClient trackingClient;
   private final WebUrlHelper webUrlHelper;
   private final WorkspaceHelper workspaceHelper;
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper;
+  private final Executor notificationExecutor;
 
   public JobNotifier(final WebUrlHelper webUrlHelper,
                      final ConfigRepository configRepository,
                      final WorkspaceHelper workspaceHelper,
                      final TrackingClient trackingClient,
                      final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
+    this(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper, newNotificationExecutor());
+  }
+
+  @VisibleForTesting
+  JobNotifier(final WebUrlHelper webUrlHelper,
+              final ConfigRepository configRepository,
+              final WorkspaceHelper workspaceHelper,
+              final TrackingClient trackingClient,
+              final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
+              final Executor notificationExecutor) {
     this.webUrlHelper = webUrlHelper;
     this.workspaceHelper = workspaceHelper;
     this.configRepository = configRepository;
     this.trackingClient = trackingClient;
     this.actorDefinitionVersionHelper = actorDefinitionVersionHelper;
+    this.notificationExecutor = notificationExecutor;
+  }
+
+  private static Executor newNotificationExecutor() {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        MAX_CONCURRENT_NOTIFICATIONS,
+        MAX_CONCURRENT_NOTIFICATIONS,
+        1,
+        TimeUnit.MINUTES,
+        new ArrayBlockingQueue<>(MAX_PENDING_NOTIFICATIONS),
+        new ThreadFactoryBuilder().setNameFormat("job-notifier-%d").setDaemon(true).build(),
+        (notification, pool) -> LOGGER.warn("Too many pending notifications. Dropping notification."));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 
   private void notifyJob(final String reason, final String action, final Job job) {
+    notificationExecutor.execute(() -> readConfigurationAndNotifyJob(reason, action, job));
+  }
+
+  private void readConfigurationAndNotifyJob(final String reason, final String action, final Job job) {
     try {
       final UUID workspaceId = workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(job.getId());
       final StandardWorkspace workspace = configRepository.getStandardWorkspaceNoSecrets(workspaceId, true);
@@ -196,13 +242,7 @@ public class JobNotifier {
    * @param job job notification is for
    */
   public void notifyJobByEmail(final String reason, final String action, final Job job) {
-    try {
-      final UUID workspaceId = workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(job.getId());
-      final StandardWorkspace workspace = configRepository.getStandardWorkspaceNoSecrets(workspaceId, true);
-      notifyJob(reason, action, job, workspaceId, workspace);
-    } catch (final Exception e) {
-      LOGGER.error("Unable to read configuration:", e);
-    }
+    notifyJob(reason, action, job);
   }
 
   private String getJobDescription(final Job job, final String reason) {
@@ -242,17 +282,43 @@ public class JobNotifier {
     }
     final List<NotificationClient> notificationClients = getNotificationClientsFromNotificationItem(notificationItem);
     for (final NotificationClient notificationClient : notificationClients) {
+      deliverNotification(notificationItem, notificationTrigger, notificationClient, executeNotification);
+    }
+
+  }
+
+  private void deliverNotification(final NotificationItem notificationItem,
+                                   final String notificationTrigger,
+                                   final NotificationClient notificationClient,
+                                   final ThrowingFunction<NotificationClient, Boolean, Exception> executeNotification) {
+    Duration backoff = INITIAL_RETRY_BACKOFF;
+    for (int attempt = 1;; attempt++) {
       try {
         if (!executeNotification.apply(notificationClient)) {
           LOGGER.warn("Failed to successfully notify: {}", notificationItem);
         }
         submitToMetricClient(notificationTrigger, notificationClient.getNotificationClientType());
-      } catch (Exception ex) {
+        return;
+      } catch (final IOException ex) {
+        // the endpoint was unreachable or answered with an error, which may be transient
+        if (attempt >= MAX_DELIVERY_ATTEMPTS) {
+          LOGGER.error("Failed to notify: {} after {} attempts. Not blocking.", notificationItem, attempt, ex);
+          return;
+        }
+        LOGGER.warn("Failed to notify: {} on attempt {}, retrying in {}.", notificationItem, attempt, backoff, ex);
+        try {
+          Thread.sleep(backoff.toMillis());
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        backoff = backoff.multipliedBy(2);
+      } catch (final Exception ex) {
         LOGGER.error("Failed to notify: {} due to an exception. Not blocking.", notificationItem, ex);
         // Do not block.
+        return;
       }
     }
-
   }
 
 }
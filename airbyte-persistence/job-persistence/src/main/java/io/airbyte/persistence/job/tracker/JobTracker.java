@@ -32,6 +32,7 @@ import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.ConnectionWithActors;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.persistence.job.models.Attempt;
@@ -208,11 +209,12 @@ public class JobTracker {
 
       final UUID connectionId = UUID.fromString(job.getScope());
       final UUID workspaceId = workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(jobId);
-      final StandardSync standardSync = configRepository.getStandardSync(connectionId);
-      final StandardSourceDefinition sourceDefinition = configRepository.getSourceDefinitionFromConnection(connectionId);
+      final ConnectionWithActors connectionWithActors = configRepository.getConnectionWithActors(connectionId);
+      final StandardSync standardSync = connectionWithActors.standardSync();
+      final StandardSourceDefinition sourceDefinition = connectionWithActors.source().definition();
       final ActorDefinitionVersion sourceVersion =
           actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, workspaceId, standardSync.getSourceId());
-      final StandardDestinationDefinition destinationDefinition = configRepository.getDestinationDefinitionFromConnection(connectionId);
+      final StandardDestinationDefinition destinationDefinition = connectionWithActors.destination().definition();
       final ActorDefinitionVersion destinationVersion =
           actorDefinitionVersionHelper.getDestinationVersion(destinationDefinition, workspaceId, standardSync.getDestinationId());
 
@@ -257,9 +259,10 @@ public class JobTracker {
                                           final Exception e) {
     Exceptions.swallow(() -> {
       final UUID workspaceId = workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(jobId);
-      final StandardSync standardSync = configRepository.getStandardSync(connectionId);
-      final StandardSourceDefinition sourceDefinition = configRepository.getSourceDefinitionFromConnection(connectionId);
-      final StandardDestinationDefinition destinationDefinition = configRepository.getDestinationDefinitionFromConnection(connectionId);
+      final ConnectionWithActors connectionWithActors = configRepository.getConnectionWithActors(connectionId);
+      final StandardSync standardSync = connectionWithActors.standardSync();
+      final StandardSourceDefinition sourceDefinition = connectionWithActors.source().definition();
+      final StandardDestinationDefinition destinationDefinition = connectionWithActors.destination().definition();
       final ActorDefinitionVersion sourceVersion =
           actorDefinitionVersionHelper.getSourceVersion(sourceDefinition, workspaceId, standardSync.getSourceId());
       final ActorDefinitionVersion destinationVersion =
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
@@ -56,8 +57,12 @@ import io.airbyte.persistence.job.models.AttemptWithJobInfo;
 import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.test.utils.DatabaseConnectionHelper;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.sql.SQLException;
 import java.time.Instant;
@@ -327,6 +332,51 @@ class DefaultJobPersistenceTest {
     assertEquals(List.of(failureReason1, failureReason2), storedNormalizationSummary.getFailures());
   }
 
+  @Test
+  @DisplayName("Should store the output catalog of an attempt as a hash")
+  void testWriteOutputReferencesOutputCatalogByHash() throws IOException {
+    final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+    final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+    final ConfiguredAirbyteCatalog outputCatalog = new ConfiguredAirbyteCatalog().withStreams(List.of(new ConfiguredAirbyteStream()
+        .withStream(new AirbyteStream().withName("stream").withJsonSchema(Jsons.emptyObject()))));
+    final JobOutput jobOutput = new JobOutput().withOutputType(JobOutput.OutputType.SYNC).withSync(new StandardSyncOutput()
+        .withStandardSyncSummary(new StandardSyncSummary())
+        .withOutputCatalog(outputCatalog));
+
+    jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
+
+    // the caller's output is left untouched
+    assertEquals(outputCatalog, jobOutput.getSync().getOutputCatalog());
+    assertNull(jobOutput.getSync().getOutputCatalogHash());
+    final StandardSyncOutput storedSyncOutput = jobPersistence.getJob(jobId).getAttempts().get(0).getOutput().orElseThrow().getSync();
+    assertNull(storedSyncOutput.getOutputCatalog());
+    assertEquals(Hashing.murmur3_32_fixed().hashBytes(Jsons.serialize(outputCatalog).getBytes(StandardCharsets.UTF_8)).toString(),
+        storedSyncOutput.getOutputCatalogHash());
+  }
+
+  @Test
+  @DisplayName("Should keep every other field of the output when leaving out the output catalog")
+  void testSerializeWithoutOutputCatalogKeepsOtherFields() {
+    final ConfiguredAirbyteCatalog outputCatalog = new ConfiguredAirbyteCatalog().withStreams(List.of(new ConfiguredAirbyteStream()
+        .withStream(new AirbyteStream().withName("stream").withJsonSchema(Jsons.emptyObject()))));
+    final StandardSyncOutput syncOutput = new StandardSyncOutput()
+        .withStandardSyncSummary(new StandardSyncSummary().withRecordsSynced(10L))
+        .withNormalizationSummary(new NormalizationSummary().withStartTime(10L).withEndTime(500L))
+        .withState(new State().withState(Jsons.jsonNode(Map.of("cursor", 1))))
+        .withFailures(List.of(new FailureReason().withFailureOrigin(FailureOrigin.SOURCE)))
+        .withOutputCatalog(outputCatalog);
+    syncOutput.setAdditionalProperty("extra", "value");
+    final JobOutput jobOutput = new JobOutput().withOutputType(JobOutput.OutputType.SYNC).withSync(syncOutput);
+
+    final JobOutput storedOutput = Jsons.deserialize(DefaultJobPersistence.serializeWithoutOutputCatalog(jobOutput), JobOutput.class);
+
+    final StandardSyncOutput expectedSyncOutput = Jsons.clone(syncOutput)
+        .withOutputCatalog(null)
+        .withOutputCatalogHash(Hashing.murmur3_32_fixed().hashBytes(Jsons.serialize(outputCatalog).getBytes(StandardCharsets.UTF_8)).toString());
+    assertEquals(new JobOutput().withOutputType(JobOutput.OutputType.SYNC).withSync(expectedSyncOutput), storedOutput);
+    assertEquals(outputCatalog, jobOutput.getSync().getOutputCatalog());
+  }
+
   @Test
   @DisplayName("Should be able to read AttemptSyncConfig that was written")
   void testWriteAttemptSyncConfig() throws IOException {
@@ -2195,6 +2245,69 @@ class DefaultJobPersistenceTest {
       assertTrue(afterPurge.contains(lastJobWithState), goalOfTestScenario + " - Missing last job with saved state after deletion.");
     }
 
+    @Test
+    @DisplayName("Should purge every scope when there are more scopes than are purged at once")
+    void testPurgeJobHistoryAcrossScopeBatches() throws IOException, SQLException {
+      final DefaultJobPersistence jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier, 10, 100, 1);
+      final LocalDateTime fakeNow = LocalDateTime.of(2021, 6, 20, 0, 0);
+      final int numScopes = DefaultJobPersistence.JOB_HISTORY_PURGE_SCOPE_BATCH_SIZE + 50;
+
+      final List<String> scopes = new ArrayList<>();
+      final List<Job> latestJobs = new ArrayList<>();
+      for (int i = 0; i < numScopes; i++) {
+        final String scope = UUID.randomUUID().toString();
+        scopes.add(scope);
+        persistJobForJobHistoryTesting(scope, SYNC_JOB_CONFIG, JobStatus.FAILED, fakeNow.minusDays(30));
+        latestJobs.add(persistJobForJobHistoryTesting(scope, SYNC_JOB_CONFIG, JobStatus.FAILED, fakeNow));
+      }
+
+      jobPersistence.purgeJobHistory(fakeNow);
+
+      for (int i = 0; i < numScopes; i++) {
+        assertEquals(List.of(latestJobs.get(i).getId()), getJobIds(scopes.get(i)), "Old job of scope " + scopes.get(i) + " was not purged.");
+      }
+      // the purge went through every scope, the next one starts over
+      assertEquals(Optional.empty(), getPurgeCheckpoint());
+    }
+
+    @Test
+    @DisplayName("Should resume purging after the last purged scope")
+    void testPurgeJobHistoryResumesFromCheckpoint() throws IOException, SQLException {
+      final DefaultJobPersistence jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier, 10, 100, 1);
+      final LocalDateTime fakeNow = LocalDateTime.of(2021, 6, 20, 0, 0);
+      final String purgedScope = "a-" + UUID.randomUUID();
+      final String remainingScope = "b-" + UUID.randomUUID();
+
+      final Job purgedScopeOldJob = persistJobForJobHistoryTesting(purgedScope, SYNC_JOB_CONFIG, JobStatus.FAILED, fakeNow.minusDays(30));
+      final Job purgedScopeLatestJob = persistJobForJobHistoryTesting(purgedScope, SYNC_JOB_CONFIG, JobStatus.FAILED, fakeNow);
+      persistJobForJobHistoryTesting(remainingScope, SYNC_JOB_CONFIG, JobStatus.FAILED, fakeNow.minusDays(30));
+      final Job remainingScopeLatestJob = persistJobForJobHistoryTesting(remainingScope, SYNC_JOB_CONFIG, JobStatus.FAILED, fakeNow);
+
+      // a previous purge was interrupted right after purging the first scope
+      jobDatabase.query(ctx -> ctx.execute("INSERT INTO airbyte_metadata(key, value) VALUES (?, ?)",
+          DefaultJobPersistence.JOB_HISTORY_PURGE_CHECKPOINT_KEY, purgedScope));
+
+      jobPersistence.purgeJobHistory(fakeNow);
+
+      assertEquals(List.of(purgedScopeLatestJob.getId(), purgedScopeOldJob.getId()), getJobIds(purgedScope),
+          "Scope before the checkpoint should not be purged again.");
+      assertEquals(List.of(remainingScopeLatestJob.getId()), getJobIds(remainingScope),
+          "Scope after the checkpoint should be purged.");
+      assertEquals(Optional.empty(), getPurgeCheckpoint());
+    }
+
+    private List<Long> getJobIds(final String scope) throws IOException {
+      return jobPersistence.listJobs(ConfigType.SYNC, scope, 9999, 0).stream().map(Job::getId).toList();
+    }
+
+    private Optional<String> getPurgeCheckpoint() throws SQLException {
+      return jobDatabase.query(ctx -> ctx.fetch("SELECT value FROM airbyte_metadata WHERE key = ?",
+          DefaultJobPersistence.JOB_HISTORY_PURGE_CHECKPOINT_KEY))
+          .stream()
+          .findFirst()
+          .map(r -> r.get("value", String.class));
+    }
+
     private Job addStateToJob(final Job job) throws IOException, SQLException {
       persistAttemptForJobHistoryTesting(job, LOG_PATH.toString(),
           LocalDateTime.ofEpochSecond(job.getCreatedAtInSecond(), 0, ZoneOffset.UTC), true);
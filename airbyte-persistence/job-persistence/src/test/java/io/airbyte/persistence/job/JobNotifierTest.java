@@ -9,11 +9,13 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.airbyte.analytics.TrackingClient;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.JobConfig;
@@ -39,9 +41,11 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -65,6 +69,8 @@ class JobNotifierTest {
   private NotificationClient customerIoNotificationClient;
   private TrackingClient trackingClient;
   private ActorDefinitionVersionHelper actorDefinitionVersionHelper;
+  private Executor notificationExecutor;
+  private List<Runnable> pendingNotifications;
 
   private Job job;
   private StandardSourceDefinition sourceDefinition;
@@ -78,7 +84,10 @@ class JobNotifierTest {
     trackingClient = mock(TrackingClient.class);
     actorDefinitionVersionHelper = mock(ActorDefinitionVersionHelper.class);
 
-    jobNotifier = Mockito.spy(new JobNotifier(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper));
+    pendingNotifications = new ArrayList<>();
+    notificationExecutor = MoreExecutors.directExecutor();
+    jobNotifier = Mockito.spy(new JobNotifier(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper,
+        notification -> notificationExecutor.execute(notification)));
     notificationClient = mock(NotificationClient.class);
     customerIoNotificationClient = mock(NotificationClient.class);
     when(jobNotifier.getNotificationClientsFromNotificationItem(slackNotificationItem())).thenReturn(List.of(notificationClient));
@@ -139,6 +148,27 @@ class JobNotifierTest {
     verify(trackingClient).track(WORKSPACE_ID, JobNotifier.FAILURE_NOTIFICATION, metadata.build());
   }
 
+  @Test
+  void testNotificationIsDeliveredInBackground() throws Exception {
+    notificationExecutor = pendingNotifications::add;
+
+    jobNotifier.failJob("JobNotifierTest was running", job);
+    verify(notificationClient, never()).notifyJobFailure(any(), any(), any(), any(), any(), any(), anyLong());
+
+    pendingNotifications.forEach(Runnable::run);
+    verify(notificationClient).notifyJobFailure(any(), any(), any(), any(), any(), any(), anyLong());
+  }
+
+  @Test
+  void testFailedDeliveryIsRetried() throws Exception {
+    when(notificationClient.notifyJobFailure(any(), any(), any(), any(), any(), any(), anyLong()))
+        .thenThrow(new IOException("Failed to deliver notification (503)"))
+        .thenReturn(true);
+
+    jobNotifier.failJob("JobNotifierTest was running", job);
+    verify(notificationClient, times(2)).notifyJobFailure(any(), any(), any(), any(), any(), any(), anyLong());
+  }
+
   @Test
   void testSuccessfulJobDoNotSendNotificationPerSettings()
       throws IOException, InterruptedException, JsonValidationException, ConfigNotFoundException {
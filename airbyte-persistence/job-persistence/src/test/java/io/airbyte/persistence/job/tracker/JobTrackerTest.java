@@ -23,6 +23,7 @@ import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.AttemptSyncConfig;
 import io.airbyte.config.ConnectorJobOutput;
+import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.FailureReason;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
@@ -33,6 +34,7 @@ import io.airbyte.config.Metadata;
 import io.airbyte.config.NormalizationSummary;
 import io.airbyte.config.Schedule;
 import io.airbyte.config.Schedule.TimeUnit;
+import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardCheckConnectionOutput;
 import io.airbyte.config.StandardCheckConnectionOutput.Status;
 import io.airbyte.config.StandardDestinationDefinition;
@@ -45,6 +47,9 @@ import io.airbyte.config.SyncStats;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.ConnectionWithActors;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.persistence.job.models.Attempt;
@@ -322,16 +327,14 @@ class JobTrackerTest {
     final Exception exception = new IOException("test");
 
     when(workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(jobId)).thenReturn(WORKSPACE_ID);
-    when(configRepository.getStandardSync(CONNECTION_ID))
-        .thenReturn(new StandardSync()
-            .withConnectionId(CONNECTION_ID).withSourceId(SOURCE_ID).withDestinationId(DESTINATION_ID).withCatalog(CATALOG)
-            .withManual(true));
+    mockConnectionWithActors(new StandardSync()
+        .withConnectionId(CONNECTION_ID).withSourceId(SOURCE_ID).withDestinationId(DESTINATION_ID).withCatalog(CATALOG)
+        .withManual(true));
     when(configRepository.getStandardWorkspaceNoSecrets(WORKSPACE_ID, true))
         .thenReturn(new StandardWorkspace().withWorkspaceId(WORKSPACE_ID).withName(WORKSPACE_NAME));
-    when(configRepository.getStandardSync(CONNECTION_ID))
-        .thenReturn(new StandardSync()
-            .withConnectionId(CONNECTION_ID).withSourceId(SOURCE_ID).withDestinationId(DESTINATION_ID).withCatalog(CATALOG)
-            .withManual(false).withSchedule(new Schedule().withUnits(1L).withTimeUnit(TimeUnit.MINUTES)));
+    mockConnectionWithActors(new StandardSync()
+        .withConnectionId(CONNECTION_ID).withSourceId(SOURCE_ID).withDestinationId(DESTINATION_ID).withCatalog(CATALOG)
+        .withManual(false).withSchedule(new Schedule().withUnits(1L).withTimeUnit(TimeUnit.MINUTES)));
 
     final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
         .withSourceDefinitionId(UUID1)
@@ -340,10 +343,6 @@ class JobTrackerTest {
         .withDestinationDefinitionId(UUID2)
         .withName(DESTINATION_DEF_NAME);
 
-    when(configRepository.getSourceDefinitionFromConnection(CONNECTION_ID))
-        .thenReturn(sourceDefinition);
-    when(configRepository.getDestinationDefinitionFromConnection(CONNECTION_ID))
-        .thenReturn(destinationDefinition);
     when(configRepository.getStandardSourceDefinition(UUID1))
         .thenReturn(sourceDefinition);
     when(configRepository.getStandardDestinationDefinition(UUID2))
@@ -407,13 +406,12 @@ class JobTrackerTest {
     final Job job = getJobMock(configType, jobId);
     // test when frequency is manual.
 
-    when(configRepository.getStandardSync(CONNECTION_ID))
-        .thenReturn(new StandardSync()
-            .withConnectionId(CONNECTION_ID)
-            .withSourceId(SOURCE_ID)
-            .withDestinationId(DESTINATION_ID)
-            .withCatalog(CATALOG)
-            .withManual(true));
+    mockConnectionWithActors(new StandardSync()
+        .withConnectionId(CONNECTION_ID)
+        .withSourceId(SOURCE_ID)
+        .withDestinationId(DESTINATION_ID)
+        .withCatalog(CATALOG)
+        .withManual(true));
     when(configRepository.getStandardWorkspaceNoSecrets(WORKSPACE_ID, true))
         .thenReturn(new StandardWorkspace().withWorkspaceId(WORKSPACE_ID).withName(WORKSPACE_NAME));
     final Map<String, Object> manualMetadata = MoreMaps.merge(
@@ -423,14 +421,13 @@ class JobTrackerTest {
     assertCorrectMessageForEachState((jobState) -> jobTracker.trackSync(job, jobState), manualMetadata);
 
     // test when frequency is scheduled.
-    when(configRepository.getStandardSync(CONNECTION_ID))
-        .thenReturn(new StandardSync()
-            .withConnectionId(CONNECTION_ID)
-            .withSourceId(SOURCE_ID)
-            .withDestinationId(DESTINATION_ID)
-            .withCatalog(CATALOG)
-            .withManual(false)
-            .withSchedule(new Schedule().withUnits(1L).withTimeUnit(TimeUnit.MINUTES)));
+    mockConnectionWithActors(new StandardSync()
+        .withConnectionId(CONNECTION_ID)
+        .withSourceId(SOURCE_ID)
+        .withDestinationId(DESTINATION_ID)
+        .withCatalog(CATALOG)
+        .withManual(false)
+        .withSchedule(new Schedule().withUnits(1L).withTimeUnit(TimeUnit.MINUTES)));
     final Map<String, Object> scheduledMetadata = MoreMaps.merge(
         metadata,
         Map.of(FREQUENCY_KEY, "1 min"),
@@ -497,13 +494,12 @@ class JobTrackerTest {
 
     final Map<String, Object> metadata = getJobMetadata(configType, LONG_JOB_ID);
     // test when frequency is manual.
-    when(configRepository.getStandardSync(CONNECTION_ID))
-        .thenReturn(new StandardSync()
-            .withConnectionId(CONNECTION_ID)
-            .withSourceId(SOURCE_ID)
-            .withDestinationId(DESTINATION_ID)
-            .withManual(true)
-            .withCatalog(CATALOG));
+    mockConnectionWithActors(new StandardSync()
+        .withConnectionId(CONNECTION_ID)
+        .withSourceId(SOURCE_ID)
+        .withDestinationId(DESTINATION_ID)
+        .withManual(true)
+        .withCatalog(CATALOG));
     when(workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(LONG_JOB_ID)).thenReturn(WORKSPACE_ID);
     when(configRepository.getStandardWorkspaceNoSecrets(WORKSPACE_ID, true))
         .thenReturn(new StandardWorkspace().withWorkspaceId(WORKSPACE_ID).withName(WORKSPACE_NAME));
@@ -574,10 +570,6 @@ class JobTrackerTest {
         .withDestinationDefinitionId(UUID2)
         .withName(DESTINATION_DEF_NAME);
 
-    when(configRepository.getSourceDefinitionFromConnection(CONNECTION_ID))
-        .thenReturn(sourceDefinition);
-    when(configRepository.getDestinationDefinitionFromConnection(CONNECTION_ID))
-        .thenReturn(destinationDefinition);
     when(configRepository.getStandardSourceDefinition(UUID1))
         .thenReturn(sourceDefinition);
     when(configRepository.getStandardDestinationDefinition(UUID2))
@@ -627,6 +619,29 @@ class JobTrackerTest {
     return job;
   }
 
+  private void mockConnectionWithActors(final StandardSync standardSync) throws ConfigNotFoundException, IOException, JsonValidationException {
+    final SourceConnection source = new SourceConnection()
+        .withSourceId(SOURCE_ID)
+        .withSourceDefinitionId(UUID1)
+        .withWorkspaceId(WORKSPACE_ID);
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(UUID1)
+        .withName(SOURCE_DEF_NAME);
+    final DestinationConnection destination = new DestinationConnection()
+        .withDestinationId(DESTINATION_ID)
+        .withDestinationDefinitionId(UUID2)
+        .withWorkspaceId(WORKSPACE_ID);
+    final StandardDestinationDefinition destinationDefinition = new StandardDestinationDefinition()
+        .withDestinationDefinitionId(UUID2)
+        .withName(DESTINATION_DEF_NAME);
+
+    when(configRepository.getConnectionWithActors(CONNECTION_ID))
+        .thenReturn(new ConnectionWithActors(
+            standardSync,
+            new SourceAndDefinition(source, sourceDefinition),
+            new DestinationAndDefinition(destination, destinationDefinition)));
+  }
+
   private Attempt getAttemptMock() {
     final Attempt attempt = mock(Attempt.class);
     final JobOutput jobOutput = mock(JobOutput.class);
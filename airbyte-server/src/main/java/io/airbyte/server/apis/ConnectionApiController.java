@@ -14,6 +14,8 @@ import io.airbyte.api.model.generated.ConnectionCreate;
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.ConnectionReadList;
+import io.airbyte.api.model.generated.ConnectionSchedulingMetadataRead;
+import io.airbyte.api.model.generated.ConnectionSchedulingMetadataRequestBody;
 import io.airbyte.api.model.generated.ConnectionSearch;
 import io.airbyte.api.model.generated.ConnectionStreamRequestBody;
 import io.airbyte.api.model.generated.ConnectionUpdate;
@@ -133,6 +135,15 @@ public class ConnectionApiController implements ConnectionApi {
     return ApiHelper.execute(() -> connectionsHandler.getConnection(connectionIdRequestBody.getConnectionId()));
   }
 
+  @Override
+  @Post(uri = "/get_scheduling_metadata")
+  @Secured({READER})
+  @SecuredWorkspace
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  public ConnectionSchedulingMetadataRead getConnectionSchedulingMetadata(@Body final ConnectionSchedulingMetadataRequestBody requestBody) {
+    return ApiHelper.execute(() -> connectionsHandler.getConnectionSchedulingMetadata(requestBody));
+  }
+
   @Override
   @Post(uri = "/delete")
   @Status(HttpStatus.NO_CONTENT)
@@ -8,6 +8,7 @@ import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.SecretsRepositoryReader;
 import io.airbyte.config.persistence.SecretsRepositoryWriter;
 import io.airbyte.config.persistence.split_secrets.AWSSecretManagerPersistence;
+import io.airbyte.config.persistence.split_secrets.CachingSecretPersistence;
 import io.airbyte.config.persistence.split_secrets.GoogleSecretManagerPersistence;
 import io.airbyte.config.persistence.split_secrets.LocalTestingSecretPersistence;
 import io.airbyte.config.persistence.split_secrets.RealSecretsHydrator;
@@ -117,7 +118,7 @@ public class SecretPersistenceBeanFactory {
 
   @Singleton
   public SecretsHydrator secretsHydrator(@Named("secretPersistence") final SecretPersistence secretPersistence) {
-    return new RealSecretsHydrator(secretPersistence);
+    return new RealSecretsHydrator(new CachingSecretPersistence(secretPersistence));
   }
 
   @Singleton
@@ -8,6 +8,8 @@ import io.airbyte.api.model.generated.ConnectionCreate;
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.ConnectionReadList;
+import io.airbyte.api.model.generated.ConnectionSchedulingMetadataRead;
+import io.airbyte.api.model.generated.ConnectionSchedulingMetadataRequestBody;
 import io.airbyte.api.model.generated.ConnectionSearch;
 import io.airbyte.api.model.generated.ConnectionUpdate;
 import io.airbyte.api.model.generated.InternalOperationResult;
@@ -138,6 +140,20 @@ class ConnectionApiTest extends BaseControllerTest {
         HttpStatus.NOT_FOUND);
   }
 
+  @Test
+  void testGetConnectionSchedulingMetadata() throws JsonValidationException, ConfigNotFoundException, IOException {
+    Mockito.when(connectionsHandler.getConnectionSchedulingMetadata(Mockito.any()))
+        .thenReturn(new ConnectionSchedulingMetadataRead())
+        .thenThrow(new ConfigNotFoundException("", ""));
+    final String path = "/api/v1/connections/get_scheduling_metadata";
+    testEndpointStatus(
+        HttpRequest.POST(path, Jsons.serialize(new ConnectionSchedulingMetadataRequestBody())),
+        HttpStatus.OK);
+    testErrorEndpointStatus(
+        HttpRequest.POST(path, Jsons.serialize(new ConnectionSchedulingMetadataRequestBody())),
+        HttpStatus.NOT_FOUND);
+  }
+
   @Test
   void testDeleteConnection() throws JsonValidationException, ConfigNotFoundException, IOException {
     Mockito.doNothing()
@@ -17,6 +17,7 @@ import io.airbyte.workers.temporal.scheduling.activities.FeatureFlagFetchActivit
 import io.airbyte.workers.temporal.scheduling.activities.GenerateInputActivity;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity;
 import io.airbyte.workers.temporal.scheduling.activities.NotifyActivity;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RecordMetricActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RetryStatePersistenceActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RouteToSyncTaskQueueActivity;
@@ -71,7 +72,8 @@ public class ActivityBeanFactory {
                                                   final FeatureFlagFetchActivity featureFlagFetchActivity,
                                                   final SubmitCheckConnectionActivity submitCheckConnectionActivity,
                                                   final CheckRunProgressActivity checkRunProgressActivity,
-                                                  final RetryStatePersistenceActivity retryStatePersistenceActivity) {
+                                                  final RetryStatePersistenceActivity retryStatePersistenceActivity,
+                                                  final PrepareSyncActivity prepareSyncActivity) {
     return List.of(generateInputActivity,
         jobCreationAndStatusUpdateActivity,
         configFetchActivity,
@@ -84,7 +86,8 @@ public class ActivityBeanFactory {
         featureFlagFetchActivity,
         submitCheckConnectionActivity,
         checkRunProgressActivity,
-        retryStatePersistenceActivity);
+        retryStatePersistenceActivity,
+        prepareSyncActivity);
   }
 
   @Singleton
@@ -11,6 +11,7 @@ import io.airbyte.config.Configs.WorkerEnvironment;
 import io.airbyte.config.EnvConfigs;
 import io.airbyte.config.storage.CloudStorageConfigs;
 import io.airbyte.workers.ContainerOrchestratorConfig;
+import io.airbyte.workers.process.KubePodStatusCache;
 import io.airbyte.workers.storage.DocumentStoreClient;
 import io.airbyte.workers.storage.StateClients;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
@@ -62,6 +63,7 @@ public class ContainerOrchestratorConfigBeanFactory {
   @Named("containerOrchestratorConfig")
   public ContainerOrchestratorConfig kubernetesContainerOrchestratorConfig(
                                                                            @Named("stateStorageConfigs") final Optional<CloudStorageConfigs> cloudStateStorageConfiguration,
+                                                                           final KubePodStatusCache podStatusCache,
                                                                            @Value("${airbyte.version}") final String airbyteVersion,
                                                                            @Value("${airbyte.container.orchestrator.image}") final String containerOrchestratorImage,
                                                                            @Value("${airbyte.worker.job.kube.main.container.image-pull-policy}") final String containerOrchestratorImagePullPolicy,
@@ -151,6 +153,7 @@ public class ContainerOrchestratorConfigBeanFactory {
         documentStoreClient,
         environmentVariables,
         kubernetesClient,
+        podStatusCache,
         containerOrchestratorSecretName,
         containerOrchestratorSecretMountPath,
         containerOrchestratorDataPlaneCredsSecretName,
@@ -6,6 +6,7 @@ package io.airbyte.workers.config;
 
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.workers.process.DockerProcessFactory;
+import io.airbyte.workers.process.KubePodStatusCache;
 import io.airbyte.workers.process.KubeProcessFactory;
 import io.airbyte.workers.process.ProcessFactory;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
@@ -47,6 +48,7 @@ public class ProcessFactoryBeanFactory {
   @Requires(env = Environment.KUBERNETES)
   public ProcessFactory createKubernetesProcessFactory(final WorkerConfigsProvider workerConfigsProvider,
                                                        final FeatureFlagClient featureFlagClient,
+                                                       final KubePodStatusCache podStatusCache,
                                                        @Value("${airbyte.worker.job.kube.namespace}") final String kubernetesNamespace,
                                                        @Value("${airbyte.worker.job.kube.serviceAccount}") final String serviceAccount,
                                                        @Value("${micronaut.server.port}") final Integer serverPort)
@@ -59,6 +61,7 @@ public class ProcessFactoryBeanFactory {
         kubernetesNamespace,
         serviceAccount,
         fabricClient,
+        podStatusCache,
         kubeHeartbeatUrl);
   }
 
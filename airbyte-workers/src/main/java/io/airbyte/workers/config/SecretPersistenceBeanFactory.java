@@ -6,6 +6,7 @@ package io.airbyte.workers.config;
 
 import io.airbyte.commons.temporal.config.WorkerMode;
 import io.airbyte.config.persistence.split_secrets.AWSSecretManagerPersistence;
+import io.airbyte.config.persistence.split_secrets.CachingSecretPersistence;
 import io.airbyte.config.persistence.split_secrets.GoogleSecretManagerPersistence;
 import io.airbyte.config.persistence.split_secrets.LocalTestingSecretPersistence;
 import io.airbyte.config.persistence.split_secrets.RealSecretsHydrator;
@@ -81,7 +82,7 @@ public class SecretPersistenceBeanFactory {
 
   @Singleton
   public SecretsHydrator secretsHydrator(@Named("secretPersistence") final SecretPersistence secretPersistence) {
-    return new RealSecretsHydrator(secretPersistence);
+    return new RealSecretsHydrator(new CachingSecretPersistence(secretPersistence));
   }
 
 }
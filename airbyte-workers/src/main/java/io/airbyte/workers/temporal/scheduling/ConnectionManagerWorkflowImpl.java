@@ -70,6 +70,9 @@ import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpd
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobFailureInput;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobSuccessInputWithAttemptNumber;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.ReportJobStartInput;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity.PrepareSyncInput;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity.PrepareSyncOutput;
 import io.airbyte.workers.temporal.scheduling.activities.RecordMetricActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RecordMetricActivity.FailureCause;
 import io.airbyte.workers.temporal.scheduling.activities.RecordMetricActivity.RecordMetricInput;
@@ -116,11 +119,13 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
   private static final String SYNC_TASK_QUEUE_ROUTE_RENAME_TAG = "sync_task_queue_route_rename";
   private static final String CHECK_RUN_PROGRESS_TAG = "check_run_progress";
   private static final String NEW_RETRIES_TAG = "new_retries";
+  private static final String PREPARE_SYNC_TAG = "prepare_sync";
   private static final int GENERATE_CHECK_INPUT_CURRENT_VERSION = 1;
   private static final int CHECK_WITH_CHILD_WORKFLOW_CURRENT_VERSION = 1;
   private static final int SYNC_TASK_QUEUE_ROUTE_RENAME_CURRENT_VERSION = 1;
   private static final int CHECK_RUN_PROGRESS_VERSION = 1;
   private static final int NEW_RETRIES_VERSION = 1;
+  private static final int PREPARE_SYNC_CURRENT_VERSION = 1;
 
   private final WorkflowState workflowState = new WorkflowState(UUID.randomUUID(), new NoopStateListener());
 
@@ -156,6 +161,8 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
   private CheckRunProgressActivity checkRunProgressActivity;
   @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
   private RetryStatePersistenceActivity retryStatePersistenceActivity;
+  @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
+  private PrepareSyncActivity prepareSyncActivity;
 
   private CancellationScope cancellableSyncWorkflow;
 
@@ -165,6 +172,10 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
 
   private RetryManager retryManager;
 
+  // Only set if the current run was prepared by the PrepareSyncActivity.
+  @Nullable
+  private PrepareSyncOutput preparedSync;
+
   @Trace(operationName = WORKFLOW_TRACE_OPERATION_NAME)
   @Override
   public void run(final ConnectionUpdaterInput connectionUpdaterInput) throws RetryableException {
@@ -272,20 +283,36 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
       // re-hydrate retry manager on run-start because FFs may have changed
       retryManager = hydrateRetryManager();
 
-      // This var is unused since not feature flags are currently required in this workflow
-      // We keep the activity around to get any feature flags that might be needed in the future
-      final Map<String, Boolean> featureFlags = getFeatureFlags(connectionUpdaterInput.getConnectionId());
+      final Map<String, Boolean> featureFlags;
+      JobInput jobInputs = null;
+      final boolean shouldRunCheckInputGeneration;
+      if (shouldPrepareSyncInOneActivity()) {
+        preparedSync = prepareSync(connectionUpdaterInput);
+        featureFlags = preparedSync.getFeatureFlags();
 
-      workflowInternalState.setJobId(getOrCreateJobId(connectionUpdaterInput));
-      workflowInternalState.setAttemptNumber(createAttempt(workflowInternalState.getJobId()));
+        connectionUpdaterInput.setJobId(preparedSync.getJobId());
+        workflowInternalState.setJobId(preparedSync.getJobId());
+        workflowInternalState.setAttemptNumber(preparedSync.getAttemptNumber());
+        jobInputs = preparedSync.getSyncInput();
 
-      JobInput jobInputs = null;
-      final boolean shouldRunCheckInputGeneration = shouldRunCheckInputGeneration();
-      if (!shouldRunCheckInputGeneration) {
-        jobInputs = getJobInput();
-      }
+        // The checks only run after a failure and may update the connector configurations, so the
+        // inputs are generated again after them.
+        shouldRunCheckInputGeneration = preparedSync.isLastJobOrAttemptFailure();
+
+        workflowState.setRunning(true);
+      } else {
+        featureFlags = getFeatureFlags(connectionUpdaterInput.getConnectionId());
+
+        workflowInternalState.setJobId(getOrCreateJobId(connectionUpdaterInput));
+        workflowInternalState.setAttemptNumber(createAttempt(workflowInternalState.getJobId()));
+
+        shouldRunCheckInputGeneration = shouldRunCheckInputGeneration();
+        if (!shouldRunCheckInputGeneration) {
+          jobInputs = getJobInput();
+        }
 
-      reportJobStarting(connectionUpdaterInput.getConnectionId());
+        reportJobStarting(connectionUpdaterInput.getConnectionId());
+      }
       StandardSyncOutput standardSyncOutput = null;
 
       try {
@@ -537,8 +564,9 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
 
     final JobCheckFailureInput jobStateInput =
         new JobCheckFailureInput(Long.parseLong(jobRunConfig.getJobId()), jobRunConfig.getAttemptId().intValue(), connectionId);
-    final boolean isLastJobOrAttemptFailure =
-        runMandatoryActivityWithOutput(jobCreationAndStatusUpdateActivity::isLastJobOrAttemptFailure, jobStateInput);
+    final boolean isLastJobOrAttemptFailure = preparedSync != null
+        ? preparedSync.isLastJobOrAttemptFailure()
+        : runMandatoryActivityWithOutput(jobCreationAndStatusUpdateActivity::isLastJobOrAttemptFailure, jobStateInput);
 
     if (!isLastJobOrAttemptFailure) {
       log.info("SOURCE CHECK: Skipped, last attempt was not a failure");
@@ -893,6 +921,26 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
     return getFlagsOutput.getFeatureFlags();
   }
 
+  /**
+   * Returns whether the steps that happen before a sync should be done by the
+   * {@link PrepareSyncActivity} rather than by one activity per step. Keeping the number of
+   * activities per run low matters for connections that sync often, since every activity adds latency
+   * and events to the workflow history.
+   */
+  private boolean shouldPrepareSyncInOneActivity() {
+    final int prepareSyncVersion = Workflow.getVersion(PREPARE_SYNC_TAG, Workflow.DEFAULT_VERSION, PREPARE_SYNC_CURRENT_VERSION);
+    return prepareSyncVersion >= PREPARE_SYNC_CURRENT_VERSION;
+  }
+
+  /**
+   * Get or create the job and its attempt, report the job start and generate the sync input in a
+   * single activity.
+   */
+  private PrepareSyncOutput prepareSync(final ConnectionUpdaterInput connectionUpdaterInput) {
+    return runMandatoryActivityWithOutput(prepareSyncActivity::prepareSync,
+        new PrepareSyncInput(connectionUpdaterInput.getConnectionId(), connectionUpdaterInput.getJobId()));
+  }
+
   /**
    * Create a new attempt for a given jobId.
    *
@@ -959,6 +1007,9 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
   }
 
   private String getSyncTaskQueue() {
+    if (preparedSync != null) {
+      return preparedSync.getSyncTaskQueue();
+    }
 
     final RouteToSyncTaskQueueInput RouteToSyncTaskQueueInput = new RouteToSyncTaskQueueInput(connectionId);
     final int checkWithApiVersion =
@@ -11,19 +11,15 @@ import com.google.common.annotations.VisibleForTesting;
 import datadog.trace.api.Trace;
 import io.airbyte.api.client.AirbyteApiClient;
 import io.airbyte.api.client.generated.ConnectionApi;
-import io.airbyte.api.client.generated.JobsApi;
-import io.airbyte.api.client.generated.WorkspaceApi;
 import io.airbyte.api.client.invoker.generated.ApiException;
-import io.airbyte.api.client.model.generated.ConnectionIdRequestBody;
-import io.airbyte.api.client.model.generated.ConnectionRead;
 import io.airbyte.api.client.model.generated.ConnectionSchedule;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataBasicSchedule;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataBasicSchedule.TimeUnitEnum;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataCron;
 import io.airbyte.api.client.model.generated.ConnectionScheduleType;
+import io.airbyte.api.client.model.generated.ConnectionSchedulingMetadataRead;
+import io.airbyte.api.client.model.generated.ConnectionSchedulingMetadataRequestBody;
 import io.airbyte.api.client.model.generated.ConnectionStatus;
-import io.airbyte.api.client.model.generated.JobOptionalRead;
-import io.airbyte.api.client.model.generated.JobRead;
 import io.airbyte.commons.temporal.exception.RetryableException;
 import io.airbyte.featureflag.Connection;
 import io.airbyte.featureflag.FeatureFlagClient;
@@ -35,7 +31,6 @@ import io.airbyte.workers.helpers.ScheduleJitterHelper;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
-import java.io.IOException;
 import java.text.ParseException;
 import java.time.DateTimeException;
 import java.time.Duration;
@@ -55,7 +50,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * ConfigFetchActivityImpl.
+ * ConfigFetchActivityImpl. Every lookup goes through the connection scheduling metadata endpoint,
+ * which leaves out the catalog and already includes the workspace and the timing of the last
+ * replication job, so that computing the time to wait of a connection only takes one API call.
  */
 @Slf4j
 @Singleton
@@ -72,8 +69,6 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
       UUID.fromString("226edbc1-4a9c-4401-95a9-90435d667d9d"));
   private static final long SCHEDULING_NOISE_CONSTANT = 15;
 
-  private final JobsApi jobsApi;
-  private final WorkspaceApi workspaceApi;
   private final Integer syncJobMaxAttempts;
   private final Supplier<Long> currentSecondsSupplier;
   private final ConnectionApi connectionApi;
@@ -81,15 +76,11 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
   private final ScheduleJitterHelper scheduleJitterHelper;
 
   @VisibleForTesting
-  protected ConfigFetchActivityImpl(final JobsApi jobsApi,
-                                    final WorkspaceApi workspaceApi,
-                                    @Value("${airbyte.worker.sync.max-attempts}") final Integer syncJobMaxAttempts,
+  protected ConfigFetchActivityImpl(@Value("${airbyte.worker.sync.max-attempts}") final Integer syncJobMaxAttempts,
                                     @Named("currentSecondsSupplier") final Supplier<Long> currentSecondsSupplier,
                                     final ConnectionApi connectionApi,
                                     final FeatureFlagClient featureFlagClient,
                                     final ScheduleJitterHelper scheduleJitterHelper) {
-    this.jobsApi = jobsApi;
-    this.workspaceApi = workspaceApi;
     this.syncJobMaxAttempts = syncJobMaxAttempts;
     this.currentSecondsSupplier = currentSecondsSupplier;
     this.connectionApi = connectionApi;
@@ -102,66 +93,65 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
   public ScheduleRetrieverOutput getTimeToWait(final ScheduleRetrieverInput input) {
     try {
       ApmTraceUtils.addTagsToTrace(Map.of(CONNECTION_ID_KEY, input.getConnectionId()));
-      final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody().connectionId(input.getConnectionId());
-      final ConnectionRead connectionRead = connectionApi.getConnection(connectionIdRequestBody);
-      final Duration timeToWait = connectionRead.getScheduleType() != null
-          ? getTimeToWaitFromScheduleType(connectionRead, input.getConnectionId())
-          : getTimeToWaitFromLegacy(connectionRead, input.getConnectionId());
-      final Duration timeToWaitWithSchedulingJitter = applyJitterRules(timeToWait, input.getConnectionId(), connectionRead.getScheduleType());
+      final ConnectionSchedulingMetadataRequestBody requestBody = new ConnectionSchedulingMetadataRequestBody()
+          .connectionId(input.getConnectionId())
+          .includeWorkspaceId(true)
+          .includeLastReplicationJob(true);
+      final ConnectionSchedulingMetadataRead connection = connectionApi.getConnectionSchedulingMetadata(requestBody);
+      final Duration timeToWait = connection.getScheduleType() != null
+          ? getTimeToWaitFromScheduleType(connection)
+          : getTimeToWaitFromLegacy(connection);
+      final Duration timeToWaitWithSchedulingJitter = applyJitterRules(timeToWait, connection);
       return new ScheduleRetrieverOutput(timeToWaitWithSchedulingJitter);
-    } catch (final IOException | ApiException e) {
+    } catch (final ApiException e) {
       throw new RetryableException(e);
     }
   }
 
-  private Duration applyJitterRules(final Duration timeToWait, final UUID connectionId, final ConnectionScheduleType scheduleType) {
-    try {
-      final UUID workspaceId = workspaceApi.getWorkspaceByConnectionId(new ConnectionIdRequestBody().connectionId(connectionId)).getWorkspaceId();
-      if (featureFlagClient.boolVariation(AddSchedulingJitter.INSTANCE, new Multi(List.of(
-          new Workspace(workspaceId),
-          new Connection(connectionId))))) {
-        return scheduleJitterHelper.addJitterBasedOnWaitTime(timeToWait, scheduleType);
-      } else {
-        return addSchedulingNoiseForAllowListedWorkspace(timeToWait, scheduleType, workspaceId);
-      }
-    } catch (final ApiException e) {
-      log.warn("Failed to get workspace for connection: {}, proceeding anyways...", connectionId, e);
-      // We tolerate exceptions and fail open by doing nothing
+  private Duration applyJitterRules(final Duration timeToWait, final ConnectionSchedulingMetadataRead connection) {
+    final UUID connectionId = connection.getConnectionId();
+    final UUID workspaceId = connection.getWorkspaceId();
+    final ConnectionScheduleType scheduleType = connection.getScheduleType();
+    if (workspaceId == null) {
+      log.warn("Failed to get workspace for connection: {}, proceeding anyways...", connectionId);
+      // We tolerate missing workspaces and fail open by doing nothing
+      return timeToWait;
+    }
+    if (featureFlagClient.boolVariation(AddSchedulingJitter.INSTANCE, new Multi(List.of(
+        new Workspace(workspaceId),
+        new Connection(connectionId))))) {
+      return scheduleJitterHelper.addJitterBasedOnWaitTime(timeToWait, scheduleType);
+    } else {
+      return addSchedulingNoiseForAllowListedWorkspace(timeToWait, scheduleType, workspaceId);
     }
-    return timeToWait;
   }
 
   /**
    * Get time to wait from new schedule. This method consumes the `scheduleType` and `scheduleData`
    * fields.
    *
-   * @param connectionRead connection read
-   * @param connectionId connection id
+   * @param connection connection scheduling metadata
    * @return time to wait
-   * @throws IOException exception while interacting with db
    */
-  private Duration getTimeToWaitFromScheduleType(final ConnectionRead connectionRead, final UUID connectionId)
-      throws IOException, ApiException {
-    if (connectionRead.getScheduleType() == ConnectionScheduleType.MANUAL || connectionRead.getStatus() != ConnectionStatus.ACTIVE) {
+  private Duration getTimeToWaitFromScheduleType(final ConnectionSchedulingMetadataRead connection) {
+    if (connection.getScheduleType() == ConnectionScheduleType.MANUAL || connection.getStatus() != ConnectionStatus.ACTIVE) {
       // Manual syncs wait for their first run
       return Duration.ofDays(100 * 365);
     }
 
-    final JobOptionalRead previousJobOptional = jobsApi.getLastReplicationJob(new ConnectionIdRequestBody().connectionId(connectionId));
+    final Optional<Long> prevRunStart = getPreviousRunStart(connection);
 
-    if (connectionRead.getScheduleType() == ConnectionScheduleType.BASIC) {
-      if (previousJobOptional.getJob() == null) {
+    if (connection.getScheduleType() == ConnectionScheduleType.BASIC) {
+      if (prevRunStart.isEmpty()) {
         // Basic schedules don't wait for their first run.
         return Duration.ZERO;
       }
-      final long prevRunStart = previousJobOptional.getJob().getStartedAt() != null ? previousJobOptional.getJob().getStartedAt()
-          : previousJobOptional.getJob().getCreatedAt();
-      final long nextRunStart = prevRunStart + getIntervalInSecond(connectionRead.getScheduleData().getBasicSchedule());
+      final long nextRunStart = prevRunStart.get() + getIntervalInSecond(connection.getScheduleData().getBasicSchedule());
       final Duration timeToWait = Duration.ofSeconds(
           Math.max(0, nextRunStart - currentSecondsSupplier.get()));
       return timeToWait;
-    } else { // connectionRead.getScheduleType() == ConnectionScheduleType.CRON
-      final ConnectionScheduleDataCron scheduleCron = connectionRead.getScheduleData().getCron();
+    } else { // connection.getScheduleType() == ConnectionScheduleType.CRON
+      final ConnectionScheduleDataCron scheduleCron = connection.getScheduleData().getCron();
       final TimeZone timeZone = DateTimeZone.forID(scheduleCron.getCronTimeZone()).toTimeZone();
       try {
         final CronExpression cronExpression = new CronExpression(scheduleCron.getCronExpression());
@@ -170,11 +160,7 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
         // us from multiple executions for the same scheduled time, since cron only has a 1-minute
         // resolution.
         final long earliestNextRun = Math.max(currentSecondsSupplier.get() * MS_PER_SECOND,
-            (previousJobOptional.getJob() != null
-                ? previousJobOptional.getJob().getStartedAt() != null ? previousJobOptional.getJob().getStartedAt() + MIN_CRON_INTERVAL_SECONDS
-                    : previousJobOptional.getJob().getCreatedAt()
-                        + MIN_CRON_INTERVAL_SECONDS
-                : currentSecondsSupplier.get()) * MS_PER_SECOND);
+            prevRunStart.map(start -> start + MIN_CRON_INTERVAL_SECONDS).orElse(currentSecondsSupplier.get()) * MS_PER_SECOND);
         final Date nextRunStart = cronExpression.getNextValidTimeAfter(new Date(earliestNextRun));
         return Duration.ofSeconds(
             Math.max(0, nextRunStart.getTime() / MS_PER_SECOND - currentSecondsSupplier.get()));
@@ -206,35 +192,43 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
   /**
    * Get wait time from legacy schedule. This method consumes the `schedule` field.
    *
-   * @param connectionRead connection read
-   * @param connectionId connection id
+   * @param connection connection scheduling metadata
    * @return time to wait
-   * @throws IOException exception when interacting with the db
    */
-  private Duration getTimeToWaitFromLegacy(final ConnectionRead connectionRead, final UUID connectionId)
-      throws IOException, ApiException {
-    if (connectionRead.getSchedule() == null || connectionRead.getStatus() != ConnectionStatus.ACTIVE) {
+  private Duration getTimeToWaitFromLegacy(final ConnectionSchedulingMetadataRead connection) {
+    if (connection.getSchedule() == null || connection.getStatus() != ConnectionStatus.ACTIVE) {
       // Manual syncs wait for their first run
       return Duration.ofDays(100 * 365);
     }
 
-    final JobOptionalRead previousJobOptional = jobsApi.getLastReplicationJob(new ConnectionIdRequestBody().connectionId(connectionId));
+    final Optional<Long> prevRunStart = getPreviousRunStart(connection);
 
-    if (previousJobOptional.getJob() == null && connectionRead.getSchedule() != null) {
+    if (prevRunStart.isEmpty()) {
       // Non-manual syncs don't wait for their first run
       return Duration.ZERO;
     }
 
-    final JobRead previousJob = previousJobOptional.getJob();
-    final long prevRunStart = previousJob.getStartedAt() != null ? previousJob.getStartedAt() : previousJob.getCreatedAt();
-
-    final long nextRunStart = prevRunStart + getIntervalInSecond(connectionRead.getSchedule());
+    final long nextRunStart = prevRunStart.get() + getIntervalInSecond(connection.getSchedule());
 
     return Duration.ofSeconds(
         Math.max(0, nextRunStart - currentSecondsSupplier.get()));
 
   }
 
+  /**
+   * Get when the last replication job of a connection started, falling back to when it was created
+   * if it never started.
+   *
+   * @param connection connection scheduling metadata
+   * @return epoch second of the previous run start, empty if the connection never ran
+   */
+  private static Optional<Long> getPreviousRunStart(final ConnectionSchedulingMetadataRead connection) {
+    if (connection.getLastReplicationJobStartedAt() != null) {
+      return Optional.of(connection.getLastReplicationJobStartedAt());
+    }
+    return Optional.ofNullable(connection.getLastReplicationJobCreatedAt());
+  }
+
   @Trace(operationName = ACTIVITY_TRACE_OPERATION_NAME)
   @Override
   public GetMaxAttemptOutput getMaxAttempt() {
@@ -244,12 +238,11 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
   @Override
   public Optional<UUID> getSourceId(final UUID connectionId) {
     try {
-      final io.airbyte.api.client.model.generated.ConnectionIdRequestBody requestBody =
-          new io.airbyte.api.client.model.generated.ConnectionIdRequestBody().connectionId(connectionId);
-      final ConnectionRead connectionRead = AirbyteApiClient.retryWithJitter(
-          () -> connectionApi.getConnection(requestBody),
-          "Get a connection by connection Id");
-      return Optional.ofNullable(connectionRead.getSourceId());
+      final ConnectionSchedulingMetadataRequestBody requestBody = new ConnectionSchedulingMetadataRequestBody().connectionId(connectionId);
+      final ConnectionSchedulingMetadataRead connection = AirbyteApiClient.retryWithJitter(
+          () -> connectionApi.getConnectionSchedulingMetadata(requestBody),
+          "Get the scheduling metadata of a connection by connection Id");
+      return Optional.ofNullable(connection.getSourceId());
     } catch (final Exception e) {
       log.info("Encountered an error fetching the connection's Source ID: ", e);
       return Optional.empty();
@@ -259,12 +252,11 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
   @Override
   public Optional<ConnectionStatus> getStatus(final UUID connectionId) {
     try {
-      final io.airbyte.api.client.model.generated.ConnectionIdRequestBody requestBody =
-          new io.airbyte.api.client.model.generated.ConnectionIdRequestBody().connectionId(connectionId);
-      final ConnectionRead connectionRead = AirbyteApiClient.retryWithJitter(
-          () -> connectionApi.getConnection(requestBody),
-          "Get a connection by connection Id");
-      return Optional.ofNullable(connectionRead.getStatus());
+      final ConnectionSchedulingMetadataRequestBody requestBody = new ConnectionSchedulingMetadataRequestBody().connectionId(connectionId);
+      final ConnectionSchedulingMetadataRead connection = AirbyteApiClient.retryWithJitter(
+          () -> connectionApi.getConnectionSchedulingMetadata(requestBody),
+          "Get the scheduling metadata of a connection by connection Id");
+      return Optional.ofNullable(connection.getStatus());
     } catch (final Exception e) {
       log.info("Encountered an error fetching the connection's status: ", e);
       return Optional.empty();
@@ -274,12 +266,11 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
   @Override
   public Optional<Boolean> getBreakingChange(final UUID connectionId) {
     try {
-      final io.airbyte.api.client.model.generated.ConnectionIdRequestBody requestBody =
-          new io.airbyte.api.client.model.generated.ConnectionIdRequestBody().connectionId(connectionId);
-      final ConnectionRead connectionRead = AirbyteApiClient.retryWithJitter(
-          () -> connectionApi.getConnection(requestBody),
-          "Get a connection by connection Id");
-      return Optional.ofNullable(connectionRead.getBreakingChange());
+      final ConnectionSchedulingMetadataRequestBody requestBody = new ConnectionSchedulingMetadataRequestBody().connectionId(connectionId);
+      final ConnectionSchedulingMetadataRead connection = AirbyteApiClient.retryWithJitter(
+          () -> connectionApi.getConnectionSchedulingMetadata(requestBody),
+          "Get the scheduling metadata of a connection by connection Id");
+      return Optional.ofNullable(connection.getBreakingChange());
     } catch (final Exception e) {
       log.info("Encountered an error fetching the connection's breaking change status: ", e);
       return Optional.empty();
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.temporal.scheduling.activities;
+
+import io.airbyte.workers.models.JobInput;
+import io.temporal.activity.ActivityInterface;
+import io.temporal.activity.ActivityMethod;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Activity that does all the steps needed before a sync can start in a single activity execution,
+ * instead of scheduling one activity per step from the ConnectionManagerWorkflow. It is idempotent,
+ * so it can be retried as a whole.
+ */
+@ActivityInterface
+public interface PrepareSyncActivity {
+
+  /**
+   * PrepareSyncInput.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  class PrepareSyncInput {
+
+    private UUID connectionId;
+    private Long jobId;
+
+  }
+
+  /**
+   * PrepareSyncOutput.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  class PrepareSyncOutput {
+
+    private Long jobId;
+    private Integer attemptNumber;
+    private Map<String, Boolean> featureFlags;
+    private boolean lastJobOrAttemptFailure;
+    private JobInput syncInput;
+    private String syncTaskQueue;
+
+  }
+
+  /**
+   * Get or create the job and its attempt, report the job start and generate the sync input.
+   *
+   * @param input - POJO that contains the connection and the job of the workflow, if any
+   * @return everything the workflow needs to run the checks and the sync
+   */
+  @ActivityMethod
+  PrepareSyncOutput prepareSync(PrepareSyncInput input);
+
+}
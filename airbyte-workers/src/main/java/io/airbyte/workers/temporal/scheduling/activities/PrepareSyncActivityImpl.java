@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.temporal.scheduling.activities;
+
+import static io.airbyte.metrics.lib.ApmTraceConstants.ACTIVITY_TRACE_OPERATION_NAME;
+
+import datadog.trace.api.Trace;
+import io.airbyte.commons.temporal.config.WorkerMode;
+import io.airbyte.commons.temporal.exception.RetryableException;
+import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.models.Attempt;
+import io.airbyte.persistence.job.models.Job;
+import io.airbyte.persistence.job.models.JobStatus;
+import io.airbyte.workers.context.AttemptContext;
+import io.airbyte.workers.models.JobInput;
+import io.airbyte.workers.temporal.scheduling.activities.FeatureFlagFetchActivity.FeatureFlagFetchInput;
+import io.airbyte.workers.temporal.scheduling.activities.GenerateInputActivity.SyncInputWithAttemptNumber;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.AttemptCreationInput;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCheckFailureInput;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCreationInput;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.ReportJobStartInput;
+import io.airbyte.workers.temporal.scheduling.activities.RouteToSyncTaskQueueActivity.RouteToSyncTaskQueueInput;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PrepareSyncActivityImpl. Delegates to the activities the workflow used to call one by one, so
+ * that their behavior stays the same while only one activity is scheduled and recorded in the
+ * workflow history.
+ * <p>
+ * Creating the job and its attempt is made idempotent, so that retrying this activity never creates
+ * a second job or attempt: the job and the attempt left running by a previous execution of this
+ * activity are reused. The workflow fails all the non-terminal jobs of the connection before it
+ * prepares a new job, so a non-terminal job found here can only come from a previous execution.
+ * Reporting the job start only sends a tracking event, which a retry may send again.
+ */
+@Slf4j
+@Singleton
+@Requires(env = WorkerMode.CONTROL_PLANE)
+public class PrepareSyncActivityImpl implements PrepareSyncActivity {
+
+  private final FeatureFlagFetchActivity featureFlagFetchActivity;
+  private final RouteToSyncTaskQueueActivity routeToSyncTaskQueueActivity;
+  private final JobCreationAndStatusUpdateActivity jobCreationAndStatusUpdateActivity;
+  private final GenerateInputActivity generateInputActivity;
+  private final JobPersistence jobPersistence;
+
+  public PrepareSyncActivityImpl(final FeatureFlagFetchActivity featureFlagFetchActivity,
+                                 final RouteToSyncTaskQueueActivity routeToSyncTaskQueueActivity,
+                                 final JobCreationAndStatusUpdateActivity jobCreationAndStatusUpdateActivity,
+                                 final GenerateInputActivity generateInputActivity,
+                                 final JobPersistence jobPersistence) {
+    this.featureFlagFetchActivity = featureFlagFetchActivity;
+    this.routeToSyncTaskQueueActivity = routeToSyncTaskQueueActivity;
+    this.jobCreationAndStatusUpdateActivity = jobCreationAndStatusUpdateActivity;
+    this.generateInputActivity = generateInputActivity;
+    this.jobPersistence = jobPersistence;
+  }
+
+  @Trace(operationName = ACTIVITY_TRACE_OPERATION_NAME)
+  @Override
+  public PrepareSyncOutput prepareSync(final PrepareSyncInput input) {
+    new AttemptContext(input.getConnectionId(), input.getJobId(), null).addTagsToTrace();
+
+    final Map<String, Boolean> featureFlags =
+        featureFlagFetchActivity.getFeatureFlags(new FeatureFlagFetchInput(input.getConnectionId())).getFeatureFlags();
+    final String syncTaskQueue =
+        routeToSyncTaskQueueActivity.routeToSync(new RouteToSyncTaskQueueInput(input.getConnectionId())).getTaskQueue();
+
+    final Optional<Job> existingJob = findExistingJob(input);
+    final long jobId = input.getJobId() != null
+        ? input.getJobId()
+        : existingJob.map(Job::getId)
+            .orElseGet(() -> jobCreationAndStatusUpdateActivity.createNewJob(new JobCreationInput(input.getConnectionId())).getJobId());
+    final int attemptNumber = existingJob.flatMap(PrepareSyncActivityImpl::getRunningAttempt)
+        .map(Attempt::getAttemptNumber)
+        .orElseGet(() -> jobCreationAndStatusUpdateActivity.createNewAttemptNumber(new AttemptCreationInput(jobId)).getAttemptNumber());
+
+    jobCreationAndStatusUpdateActivity.reportJobStart(new ReportJobStartInput(jobId, input.getConnectionId()));
+
+    final boolean lastJobOrAttemptFailure =
+        jobCreationAndStatusUpdateActivity.isLastJobOrAttemptFailure(new JobCheckFailureInput(jobId, attemptNumber, input.getConnectionId()));
+
+    final JobInput syncInput;
+    try {
+      syncInput = generateInputActivity.getSyncWorkflowInputWithAttemptNumber(new SyncInputWithAttemptNumber(attemptNumber, jobId));
+    } catch (final Exception e) {
+      throw new RetryableException(e);
+    }
+
+    log.info("Prepared sync for connection {}: job {}, attempt {}, task queue {}", input.getConnectionId(), jobId, attemptNumber, syncTaskQueue);
+    return new PrepareSyncOutput(jobId, attemptNumber, featureFlags, lastJobOrAttemptFailure, syncInput, syncTaskQueue);
+  }
+
+  /**
+   * Find the non-terminal job a previous execution of this activity may have left: the job of the
+   * workflow if it has one, otherwise the latest non-terminal job of the connection.
+   */
+  private Optional<Job> findExistingJob(final PrepareSyncInput input) {
+    final List<Job> nonTerminalJobs;
+    try {
+      nonTerminalJobs = jobPersistence.listJobsForConnectionWithStatuses(input.getConnectionId(), Job.REPLICATION_TYPES,
+          JobStatus.NON_TERMINAL_STATUSES);
+    } catch (final IOException e) {
+      throw new RetryableException(e);
+    }
+
+    if (input.getJobId() != null) {
+      return nonTerminalJobs.stream().filter(job -> job.getId() == input.getJobId()).findFirst();
+    }
+    return nonTerminalJobs.stream().max(Comparator.comparingLong(Job::getId));
+  }
+
+  private static Optional<Attempt> getRunningAttempt(final Job job) {
+    return job.getAttempts().stream()
+        .filter(attempt -> !Attempt.isAttemptInTerminalState(attempt))
+        .findFirst();
+  }
+
+}
@@ -40,12 +40,14 @@ import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 class AsyncOrchestratorPodProcessIntegrationTest {
 
   private static KubernetesClient kubernetesClient;
+  private static KubePodStatusCache podStatusCache;
   private static DocumentStoreClient documentStoreClient;
   private static Process portForwardProcess;
 
   @BeforeAll
   static void init() throws Exception {
     kubernetesClient = new DefaultKubernetesClient();
+    podStatusCache = new KubePodStatusCache("default");
 
     final var podName = "test-minio-" + RandomStringUtils.randomAlphabetic(10).toLowerCase();
 
@@ -111,6 +113,7 @@ class AsyncOrchestratorPodProcessIntegrationTest {
         kubePodInfo,
         documentStoreClient,
         kubernetesClient,
+        podStatusCache,
         null,
         null,
         null,
@@ -135,7 +138,9 @@ class AsyncOrchestratorPodProcessIntegrationTest {
 
     final WorkerConfigs workerConfigs = new WorkerConfigs(new EnvConfigs());
 
-    asyncProcess.create(Map.of(), new WorkerConfigs(new EnvConfigs()).getResourceRequirements(), Map.of(
+    // the pod status cache only follows pods carrying the job pod label
+    final Map<String, String> labels = Map.of(Metadata.WORKER_POD_LABEL_KEY, Metadata.WORKER_POD_LABEL_VALUE);
+    asyncProcess.create(labels, new WorkerConfigs(new EnvConfigs()).getResourceRequirements(), Map.of(
         OrchestratorConstants.INIT_FILE_APPLICATION, AsyncOrchestratorPodProcess.NO_OP,
         OrchestratorConstants.INIT_FILE_ENV_MAP, Jsons.serialize(envMap)), portMap, workerConfigs.getworkerKubeNodeSelectors());
 
@@ -154,6 +159,7 @@ class AsyncOrchestratorPodProcessIntegrationTest {
   @AfterAll
   public static void teardown() throws KubernetesClientException {
     portForwardProcess.destroyForcibly();
+    podStatusCache.close();
     kubernetesClient.pods().delete();
   }
 
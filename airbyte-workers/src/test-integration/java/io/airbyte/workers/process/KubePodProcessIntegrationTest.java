@@ -51,6 +51,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
@@ -87,6 +88,7 @@ class KubePodProcessIntegrationTest {
   private static final UUID CONNECTION_ID = UUID.randomUUID();
   private static final UUID WORKSPACE_ID = UUID.randomUUID();
   private static List<Integer> openPorts;
+  private static KubePodStatusCache podStatusCache;
   @Value("${micronaut.server.port}")
   private Integer heartbeatPort;
   private String heartbeatUrl;
@@ -99,6 +101,12 @@ class KubePodProcessIntegrationTest {
     // todo: should we offer port pairs to prevent deadlock? can create test here with fewer to get this
     openPorts = new ArrayList<>(getOpenPorts(30));
     KubePortManagerSingleton.init(new HashSet<>(openPorts.subList(1, openPorts.size() - 1)));
+    podStatusCache = new KubePodStatusCache("default");
+  }
+
+  @AfterAll
+  static void teardown() {
+    podStatusCache.close();
   }
 
   @BeforeEach
@@ -108,7 +116,7 @@ class KubePodProcessIntegrationTest {
     fabricClient = new DefaultKubernetesClient();
 
     processFactory = new KubeProcessFactory(getWorkerConfigProviderStub(), new TestClient(), "default", "airbyte-admin", fabricClient,
-        heartbeatUrl, getHost());
+        podStatusCache, heartbeatUrl, getHost());
   }
 
   @RetryingTest(3)
@@ -355,7 +363,7 @@ class KubePodProcessIntegrationTest {
     fabricClient = new DefaultKubernetesClient();
 
     processFactory = new KubeProcessFactory(getWorkerConfigProviderStub(), new TestClient(), "default", "airbyte-admin", fabricClient,
-        heartbeatUrl, getHost());
+        podStatusCache, heartbeatUrl, getHost());
 
     // start an infinite process
     final var availablePortsBefore = KubePortManagerSingleton.getInstance().getNumAvailablePorts();
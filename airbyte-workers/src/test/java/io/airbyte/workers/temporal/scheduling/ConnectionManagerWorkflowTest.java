@@ -33,6 +33,7 @@ import io.airbyte.config.StandardCheckConnectionOutput.Status;
 import io.airbyte.config.StandardSyncInput;
 import io.airbyte.featureflag.CheckConnectionUseApiEnabled;
 import io.airbyte.featureflag.CheckConnectionUseChildWorkflowEnabled;
+import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
 import io.airbyte.workers.models.JobInput;
@@ -55,6 +56,8 @@ import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpd
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCancelledInputWithAttemptNumber;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCreationOutput;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobSuccessInputWithAttemptNumber;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivityImpl;
 import io.airbyte.workers.temporal.scheduling.activities.RecordMetricActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RetryStatePersistenceActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RetryStatePersistenceActivity.HydrateInput;
@@ -160,6 +163,10 @@ class ConnectionManagerWorkflowTest {
       mock(CheckRunProgressActivity.class, Mockito.withSettings().withoutAnnotations());
   private static final RetryStatePersistenceActivity mRetryStatePersistenceActivity =
       mock(RetryStatePersistenceActivity.class, Mockito.withSettings().withoutAnnotations());
+  // Not a mock: it delegates to the mocks above so that each step can still be stubbed and verified.
+  private static final PrepareSyncActivity prepareSyncActivity =
+      new PrepareSyncActivityImpl(mFeatureFlagFetchActivity, mRouteToSyncTaskQueueActivity, mJobCreationAndStatusUpdateActivity,
+          mGenerateInputActivityImpl, mock(JobPersistence.class));
   private static final String EVENT = "event = ";
   private static final String FAILED_CHECK_MESSAGE = "nope";
 
@@ -1512,6 +1519,7 @@ class ConnectionManagerWorkflowTest {
               () -> when(mGenerateInputActivityImpl.getCheckConnectionInputs(Mockito.any(SyncInputWithAttemptNumber.class)))
                   .thenThrow(ApplicationFailure.newNonRetryableFailure("", ""))),
               1),
+          // the sync input is generated while the sync is prepared, before the job is reported as running
           Arguments.of(new Thread(
               () -> {
                 try {
@@ -1521,7 +1529,7 @@ class ConnectionManagerWorkflowTest {
                   throw new RuntimeException(e);
                 }
               }),
-              1));
+              0));
     }
 
   }
@@ -1988,7 +1996,8 @@ class ConnectionManagerWorkflowTest {
     managerWorker.registerWorkflowImplementationTypes(temporalProxyHelper.proxyWorkflowClass(ConnectionManagerWorkflowImpl.class));
     managerWorker.registerActivitiesImplementations(mConfigFetchActivity, mSubmitCheckConnectionActivity, mGenerateInputActivityImpl,
         mJobCreationAndStatusUpdateActivity, mAutoDisableConnectionActivity, mRecordMetricActivity, mWorkflowConfigActivity,
-        mRouteToSyncTaskQueueActivity, mFeatureFlagFetchActivity, mCheckRunProgressActivity, mRetryStatePersistenceActivity);
+        mRouteToSyncTaskQueueActivity, mFeatureFlagFetchActivity, mCheckRunProgressActivity, mRetryStatePersistenceActivity,
+        prepareSyncActivity);
 
     client = testEnv.getWorkflowClient();
     testEnv.start();
@@ -2087,7 +2096,8 @@ class ConnectionManagerWorkflowTest {
     managerWorker.registerWorkflowImplementationTypes(temporalProxyHelper.proxyWorkflowClass(ConnectionManagerWorkflowImpl.class));
     managerWorker.registerActivitiesImplementations(mConfigFetchActivity, mSubmitCheckConnectionActivity, mGenerateInputActivityImpl,
         mJobCreationAndStatusUpdateActivity, mAutoDisableConnectionActivity, mRecordMetricActivity, mWorkflowConfigActivity,
-        mRouteToSyncTaskQueueActivity, mFeatureFlagFetchActivity, mCheckRunProgressActivity, mRetryStatePersistenceActivity);
+        mRouteToSyncTaskQueueActivity, mFeatureFlagFetchActivity, mCheckRunProgressActivity, mRetryStatePersistenceActivity,
+        prepareSyncActivity);
 
     client = testEnv.getWorkflowClient();
     workflow = client.newWorkflowStub(ConnectionManagerWorkflow.class,
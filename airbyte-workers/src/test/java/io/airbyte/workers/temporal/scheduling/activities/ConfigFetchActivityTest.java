@@ -6,31 +6,25 @@ package io.airbyte.workers.temporal.scheduling.activities;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.airbyte.api.client.generated.ConnectionApi;
-import io.airbyte.api.client.generated.JobsApi;
-import io.airbyte.api.client.generated.WorkspaceApi;
 import io.airbyte.api.client.invoker.generated.ApiException;
-import io.airbyte.api.client.model.generated.ConnectionRead;
 import io.airbyte.api.client.model.generated.ConnectionSchedule;
 import io.airbyte.api.client.model.generated.ConnectionScheduleData;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataBasicSchedule;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataBasicSchedule.TimeUnitEnum;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataCron;
 import io.airbyte.api.client.model.generated.ConnectionScheduleType;
+import io.airbyte.api.client.model.generated.ConnectionSchedulingMetadataRead;
+import io.airbyte.api.client.model.generated.ConnectionSchedulingMetadataRequestBody;
 import io.airbyte.api.client.model.generated.ConnectionStatus;
-import io.airbyte.api.client.model.generated.JobOptionalRead;
-import io.airbyte.api.client.model.generated.JobRead;
-import io.airbyte.api.client.model.generated.WorkspaceRead;
-import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
-import io.airbyte.validation.json.JsonValidationException;
 import io.airbyte.workers.helpers.ScheduleJitterHelper;
 import io.airbyte.workers.temporal.scheduling.activities.ConfigFetchActivity.ScheduleRetrieverInput;
 import io.airbyte.workers.temporal.scheduling.activities.ConfigFetchActivity.ScheduleRetrieverOutput;
-import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Calendar;
@@ -50,14 +44,6 @@ class ConfigFetchActivityTest {
 
   private static final Integer SYNC_JOB_MAX_ATTEMPTS = 3;
 
-  @Mock
-  private JobsApi mJobsApi;
-
-  @Mock
-  private WorkspaceApi mWorkspaceApi;
-  @Mock
-  private JobRead mJobRead;
-
   @Mock
   private ConnectionApi mConnectionApi;
 
@@ -69,70 +55,81 @@ class ConfigFetchActivityTest {
   private ConfigFetchActivityImpl configFetchActivity;
 
   private static final UUID connectionId = UUID.randomUUID();
-  private static final ConnectionRead connectionReadWithLegacySchedule = new ConnectionRead()
-      .schedule(new ConnectionSchedule()
-          .timeUnit(ConnectionSchedule.TimeUnitEnum.MINUTES)
-          .units(5L))
-      .status(ConnectionStatus.ACTIVE);
-
-  private static final ConnectionRead connectionReadWithManualScheduleType = new ConnectionRead()
-      .scheduleType(ConnectionScheduleType.MANUAL)
-      .status(ConnectionStatus.ACTIVE);
-
-  private static final ConnectionRead connectionReadWithBasicScheduleType = new ConnectionRead()
-      .scheduleType(ConnectionScheduleType.BASIC)
-      .status(ConnectionStatus.ACTIVE)
-      .scheduleData(new ConnectionScheduleData()
-          .basicSchedule(new ConnectionScheduleDataBasicSchedule()
-              .timeUnit(TimeUnitEnum.MINUTES)
-              .units(5L)));
-
+  private static final UUID workspaceId = UUID.randomUUID();
   public static final String UTC = "UTC";
-  private static final ConnectionRead connectionReadWithCronScheduleType = new ConnectionRead()
-      .scheduleType(ConnectionScheduleType.CRON)
-      .status(ConnectionStatus.ACTIVE)
-      .scheduleData(new ConnectionScheduleData()
-          .cron(new ConnectionScheduleDataCron()
-              .cronExpression("0 0 12 * * ?")
-              .cronTimeZone(UTC)));
-
-  private static final ConnectionRead connectionReadWithScheduleDisable = new ConnectionRead()
-      .schedule(new ConnectionSchedule()
-          .timeUnit(ConnectionSchedule.TimeUnitEnum.MINUTES)
-          .units(5L))
-      .status(ConnectionStatus.INACTIVE);
-
-  private static final ConnectionRead connectionReadWithScheduleDeleted = new ConnectionRead()
-      .schedule(new ConnectionSchedule()
-          .timeUnit(ConnectionSchedule.TimeUnitEnum.MINUTES)
-          .units(5L))
-      .status(ConnectionStatus.DEPRECATED);
-  private static final ConnectionRead connectionReadWithoutSchedule = new ConnectionRead();
+
+  private static ConnectionSchedulingMetadataRead connectionWithLegacySchedule() {
+    return new ConnectionSchedulingMetadataRead()
+        .connectionId(connectionId)
+        .workspaceId(workspaceId)
+        .schedule(new ConnectionSchedule()
+            .timeUnit(ConnectionSchedule.TimeUnitEnum.MINUTES)
+            .units(5L))
+        .status(ConnectionStatus.ACTIVE);
+  }
+
+  private static ConnectionSchedulingMetadataRead connectionWithManualScheduleType() {
+    return new ConnectionSchedulingMetadataRead()
+        .connectionId(connectionId)
+        .workspaceId(workspaceId)
+        .scheduleType(ConnectionScheduleType.MANUAL)
+        .status(ConnectionStatus.ACTIVE);
+  }
+
+  private static ConnectionSchedulingMetadataRead connectionWithBasicScheduleType() {
+    return new ConnectionSchedulingMetadataRead()
+        .connectionId(connectionId)
+        .workspaceId(workspaceId)
+        .scheduleType(ConnectionScheduleType.BASIC)
+        .status(ConnectionStatus.ACTIVE)
+        .scheduleData(new ConnectionScheduleData()
+            .basicSchedule(new ConnectionScheduleDataBasicSchedule()
+                .timeUnit(TimeUnitEnum.MINUTES)
+                .units(5L)));
+  }
+
+  private static ConnectionSchedulingMetadataRead connectionWithCronScheduleType() {
+    return new ConnectionSchedulingMetadataRead()
+        .connectionId(connectionId)
+        .workspaceId(workspaceId)
+        .scheduleType(ConnectionScheduleType.CRON)
+        .status(ConnectionStatus.ACTIVE)
+        .scheduleData(new ConnectionScheduleData()
+            .cron(new ConnectionScheduleDataCron()
+                .cronExpression("0 0 12 * * ?")
+                .cronTimeZone(UTC)));
+  }
+
+  private static ConnectionSchedulingMetadataRead connectionWithScheduleDisable() {
+    return connectionWithLegacySchedule().status(ConnectionStatus.INACTIVE);
+  }
+
+  private static ConnectionSchedulingMetadataRead connectionWithScheduleDeleted() {
+    return connectionWithLegacySchedule().status(ConnectionStatus.DEPRECATED);
+  }
+
+  private static ConnectionSchedulingMetadataRead connectionWithoutSchedule() {
+    return new ConnectionSchedulingMetadataRead()
+        .connectionId(connectionId)
+        .workspaceId(workspaceId);
+  }
 
   @BeforeEach
   void setup() {
     mFeatureFlagClient = mock(TestClient.class);
     configFetchActivity =
-        new ConfigFetchActivityImpl(mJobsApi, mWorkspaceApi, SYNC_JOB_MAX_ATTEMPTS,
+        new ConfigFetchActivityImpl(SYNC_JOB_MAX_ATTEMPTS,
             () -> Instant.now().getEpochSecond(), mConnectionApi, mFeatureFlagClient, mScheduleJitterHelper);
   }
 
   @Nested
   class TimeToWaitTest {
 
-    @BeforeEach
-    void setupTimeToWait() throws ApiException {
-      when(mWorkspaceApi.getWorkspaceByConnectionId(any())).thenReturn(new WorkspaceRead().workspaceId(UUID.randomUUID()));
-    }
-
     @Test
     @DisplayName("Test that the job gets scheduled if it is not manual and if it is the first run with legacy schedule schema")
-    void testFirstJobNonManual() throws IOException, JsonValidationException, ConfigNotFoundException, ApiException {
-      when(mJobsApi.getLastReplicationJob(any()))
-          .thenReturn(new JobOptionalRead());
-
-      when(mConnectionApi.getConnection(any()))
-          .thenReturn(connectionReadWithLegacySchedule);
+    void testFirstJobNonManual() throws ApiException {
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithLegacySchedule());
 
       final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -140,13 +137,17 @@ class ConfigFetchActivityTest {
 
       Assertions.assertThat(output.getTimeToWait())
           .isZero();
+      verify(mConnectionApi).getConnectionSchedulingMetadata(new ConnectionSchedulingMetadataRequestBody()
+          .connectionId(connectionId)
+          .includeWorkspaceId(true)
+          .includeLastReplicationJob(true));
     }
 
     @Test
     @DisplayName("Test that the job will wait for a long time if it is manual in the legacy schedule schema")
     void testManual() throws ApiException {
-      when(mConnectionApi.getConnection(any()))
-          .thenReturn(connectionReadWithoutSchedule);
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithoutSchedule());
 
       final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -159,8 +160,8 @@ class ConfigFetchActivityTest {
     @Test
     @DisplayName("Test that the job will wait for a long time if it is disabled")
     void testDisable() throws ApiException {
-      when(mConnectionApi.getConnection(any()))
-          .thenReturn(connectionReadWithScheduleDisable);
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithScheduleDisable());
 
       final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -173,8 +174,8 @@ class ConfigFetchActivityTest {
     @Test
     @DisplayName("Test that the connection will wait for a long time if it is deleted")
     void testDeleted() throws ApiException {
-      when(mConnectionApi.getConnection(any()))
-          .thenReturn(connectionReadWithScheduleDeleted);
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithScheduleDeleted());
 
       final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -186,19 +187,13 @@ class ConfigFetchActivityTest {
 
     @Test
     @DisplayName("Test we will wait the required amount of time with legacy config")
-    void testWait() throws IOException, JsonValidationException, ConfigNotFoundException, ApiException {
+    void testWait() throws ApiException {
       configFetchActivity =
-          new ConfigFetchActivityImpl(mJobsApi, mWorkspaceApi, SYNC_JOB_MAX_ATTEMPTS, () -> 60L * 3, mConnectionApi, mFeatureFlagClient,
+          new ConfigFetchActivityImpl(SYNC_JOB_MAX_ATTEMPTS, () -> 60L * 3, mConnectionApi, mFeatureFlagClient,
               mScheduleJitterHelper);
 
-      when(mJobRead.getStartedAt())
-          .thenReturn(60L);
-
-      when(mJobsApi.getLastReplicationJob(any()))
-          .thenReturn(new JobOptionalRead().job(mJobRead));
-
-      when(mConnectionApi.getConnection(any()))
-          .thenReturn(connectionReadWithLegacySchedule);
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithLegacySchedule().lastReplicationJobStartedAt(60L));
 
       final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -210,19 +205,13 @@ class ConfigFetchActivityTest {
 
     @Test
     @DisplayName("Test we will not wait if we are late in the legacy schedule schema")
-    void testNotWaitIfLate() throws IOException, ApiException {
+    void testNotWaitIfLate() throws ApiException {
       configFetchActivity =
-          new ConfigFetchActivityImpl(mJobsApi, mWorkspaceApi, SYNC_JOB_MAX_ATTEMPTS, () -> 60L * 10, mConnectionApi, mFeatureFlagClient,
+          new ConfigFetchActivityImpl(SYNC_JOB_MAX_ATTEMPTS, () -> 60L * 10, mConnectionApi, mFeatureFlagClient,
               mScheduleJitterHelper);
 
-      when(mJobRead.getStartedAt())
-          .thenReturn(60L);
-
-      when(mJobsApi.getLastReplicationJob(any()))
-          .thenReturn(new JobOptionalRead().job(mJobRead));
-
-      when(mConnectionApi.getConnection(any()))
-          .thenReturn(connectionReadWithLegacySchedule);
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithLegacySchedule().lastReplicationJobStartedAt(60L));
 
       final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -235,8 +224,8 @@ class ConfigFetchActivityTest {
     @Test
     @DisplayName("Test that the job will wait a long time if it is MANUAL scheduleType")
     void testManualScheduleType() throws ApiException {
-      when(mConnectionApi.getConnection(any()))
-          .thenReturn(connectionReadWithManualScheduleType);
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithManualScheduleType());
 
       final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -248,12 +237,9 @@ class ConfigFetchActivityTest {
 
     @Test
     @DisplayName("Test that the job will be immediately scheduled if it is a BASIC_SCHEDULE type on the first run")
-    void testBasicScheduleTypeFirstRun() throws IOException, ApiException {
-      when(mJobsApi.getLastReplicationJob(any()))
-          .thenReturn(new JobOptionalRead());
-
-      when(mConnectionApi.getConnection(any()))
-          .thenReturn(connectionReadWithBasicScheduleType);
+    void testBasicScheduleTypeFirstRun() throws ApiException {
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithBasicScheduleType());
 
       final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -265,18 +251,12 @@ class ConfigFetchActivityTest {
 
     @Test
     @DisplayName("Test that we will wait the required amount of time with a BASIC_SCHEDULE type on a subsequent run")
-    void testBasicScheduleSubsequentRun() throws IOException, ApiException {
-      configFetchActivity = new ConfigFetchActivityImpl(mJobsApi, mWorkspaceApi, SYNC_JOB_MAX_ATTEMPTS, () -> 60L * 3, mConnectionApi,
+    void testBasicScheduleSubsequentRun() throws ApiException {
+      configFetchActivity = new ConfigFetchActivityImpl(SYNC_JOB_MAX_ATTEMPTS, () -> 60L * 3, mConnectionApi,
           mFeatureFlagClient, mScheduleJitterHelper);
 
-      when(mJobRead.getStartedAt())
-          .thenReturn(60L);
-
-      when(mJobsApi.getLastReplicationJob(any()))
-          .thenReturn(new JobOptionalRead().job(mJobRead));
-
-      when(mConnectionApi.getConnection(any()))
-          .thenReturn(connectionReadWithBasicScheduleType);
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithBasicScheduleType().lastReplicationJobStartedAt(60L));
 
       final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -288,7 +268,7 @@ class ConfigFetchActivityTest {
 
     @Test
     @DisplayName("Test that the job will wait to be scheduled if it is a CRON type")
-    void testCronScheduleSubsequentRun() throws IOException, JsonValidationException, ConfigNotFoundException, ApiException {
+    void testCronScheduleSubsequentRun() throws ApiException {
       final Calendar mockRightNow = Calendar.getInstance(TimeZone.getTimeZone(UTC));
       mockRightNow.set(Calendar.HOUR_OF_DAY, 0);
       mockRightNow.set(Calendar.MINUTE, 0);
@@ -296,14 +276,11 @@ class ConfigFetchActivityTest {
       mockRightNow.set(Calendar.MILLISECOND, 0);
 
       configFetchActivity =
-          new ConfigFetchActivityImpl(mJobsApi, mWorkspaceApi, SYNC_JOB_MAX_ATTEMPTS,
+          new ConfigFetchActivityImpl(SYNC_JOB_MAX_ATTEMPTS,
               () -> mockRightNow.getTimeInMillis() / 1000L, mConnectionApi, mFeatureFlagClient, mScheduleJitterHelper);
 
-      when(mJobsApi.getLastReplicationJob(any()))
-          .thenReturn(new JobOptionalRead().job(mJobRead));
-
-      when(mConnectionApi.getConnection(any()))
-          .thenReturn(connectionReadWithCronScheduleType);
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithCronScheduleType().lastReplicationJobCreatedAt(0L));
 
       final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -315,7 +292,7 @@ class ConfigFetchActivityTest {
 
     @Test
     @DisplayName("Test that the job will only be scheduled once per minimum cron interval")
-    void testCronScheduleMinimumInterval() throws IOException, JsonValidationException, ConfigNotFoundException, ApiException {
+    void testCronScheduleMinimumInterval() throws ApiException {
       final Calendar mockRightNow = Calendar.getInstance(TimeZone.getTimeZone(UTC));
       mockRightNow.set(Calendar.HOUR_OF_DAY, 12);
       mockRightNow.set(Calendar.MINUTE, 0);
@@ -323,15 +300,11 @@ class ConfigFetchActivityTest {
       mockRightNow.set(Calendar.MILLISECOND, 0);
 
       configFetchActivity =
-          new ConfigFetchActivityImpl(mJobsApi, mWorkspaceApi, SYNC_JOB_MAX_ATTEMPTS,
+          new ConfigFetchActivityImpl(SYNC_JOB_MAX_ATTEMPTS,
               () -> mockRightNow.getTimeInMillis() / 1000L, mConnectionApi, mFeatureFlagClient, mScheduleJitterHelper);
 
-      when(mJobRead.getStartedAt()).thenReturn(mockRightNow.getTimeInMillis() / 1000L);
-      when(mJobsApi.getLastReplicationJob(any()))
-          .thenReturn(new JobOptionalRead().job(mJobRead));
-
-      when(mConnectionApi.getConnection(any()))
-          .thenReturn(connectionReadWithCronScheduleType);
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithCronScheduleType().lastReplicationJobStartedAt(mockRightNow.getTimeInMillis() / 1000L));
 
       final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -343,26 +316,21 @@ class ConfigFetchActivityTest {
 
     @Test
     @DisplayName("Test that for specific workspace ids, we add some noise in the cron scheduling")
-    void testCronSchedulingNoise() throws IOException, JsonValidationException, ConfigNotFoundException, ApiException {
+    void testCronSchedulingNoise() throws ApiException {
       final Calendar mockRightNow = Calendar.getInstance(TimeZone.getTimeZone(UTC));
       mockRightNow.set(Calendar.HOUR_OF_DAY, 0);
       mockRightNow.set(Calendar.MINUTE, 0);
       mockRightNow.set(Calendar.SECOND, 0);
       mockRightNow.set(Calendar.MILLISECOND, 0);
 
-      when(mWorkspaceApi.getWorkspaceByConnectionId(any()))
-          .thenReturn(new WorkspaceRead().workspaceId(UUID.fromString("226edbc1-4a9c-4401-95a9-90435d667d9d")));
-
       configFetchActivity =
-          new ConfigFetchActivityImpl(mJobsApi, mWorkspaceApi, SYNC_JOB_MAX_ATTEMPTS,
+          new ConfigFetchActivityImpl(SYNC_JOB_MAX_ATTEMPTS,
               () -> mockRightNow.getTimeInMillis() / 1000L, mConnectionApi, mFeatureFlagClient, mScheduleJitterHelper);
 
-      when(mJobRead.getStartedAt()).thenReturn(mockRightNow.getTimeInMillis() / 1000L);
-      when(mJobsApi.getLastReplicationJob(any()))
-          .thenReturn(new JobOptionalRead().job(mJobRead));
-
-      when(mConnectionApi.getConnection(any()))
-          .thenReturn(connectionReadWithCronScheduleType);
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithCronScheduleType()
+              .workspaceId(UUID.fromString("226edbc1-4a9c-4401-95a9-90435d667d9d"))
+              .lastReplicationJobStartedAt(mockRightNow.getTimeInMillis() / 1000L));
 
       final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -372,6 +340,24 @@ class ConfigFetchActivityTest {
       Assertions.assertThat(output.getTimeToWait().compareTo(Duration.ofHours(12)) > 0).isTrue();
     }
 
+    @Test
+    @DisplayName("Test that the time to wait is still computed if the workspace of the connection is unknown")
+    void testMissingWorkspace() throws ApiException {
+      configFetchActivity =
+          new ConfigFetchActivityImpl(SYNC_JOB_MAX_ATTEMPTS, () -> 60L * 3, mConnectionApi, mFeatureFlagClient,
+              mScheduleJitterHelper);
+
+      when(mConnectionApi.getConnectionSchedulingMetadata(any()))
+          .thenReturn(connectionWithBasicScheduleType().workspaceId(null).lastReplicationJobStartedAt(60L));
+
+      final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
+
+      final ScheduleRetrieverOutput output = configFetchActivity.getTimeToWait(input);
+
+      Assertions.assertThat(output.getTimeToWait())
+          .hasMinutes(3);
+    }
+
   }
 
   @Nested
@@ -382,7 +368,7 @@ class ConfigFetchActivityTest {
     void testGetMaxAttempt() {
       final int maxAttempt = 15031990;
       configFetchActivity =
-          new ConfigFetchActivityImpl(mJobsApi, mWorkspaceApi, maxAttempt, () -> Instant.now().getEpochSecond(), mConnectionApi, mFeatureFlagClient,
+          new ConfigFetchActivityImpl(maxAttempt, () -> Instant.now().getEpochSecond(), mConnectionApi, mFeatureFlagClient,
               mScheduleJitterHelper);
       Assertions.assertThat(configFetchActivity.getMaxAttempt().getMaxAttempt())
           .isEqualTo(maxAttempt);
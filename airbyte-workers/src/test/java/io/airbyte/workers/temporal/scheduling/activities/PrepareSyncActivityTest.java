@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.temporal.scheduling.activities;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.models.Attempt;
+import io.airbyte.persistence.job.models.AttemptStatus;
+import io.airbyte.persistence.job.models.Job;
+import io.airbyte.persistence.job.models.JobStatus;
+import io.airbyte.workers.models.JobInput;
+import io.airbyte.workers.temporal.scheduling.activities.FeatureFlagFetchActivity.FeatureFlagFetchInput;
+import io.airbyte.workers.temporal.scheduling.activities.FeatureFlagFetchActivity.FeatureFlagFetchOutput;
+import io.airbyte.workers.temporal.scheduling.activities.GenerateInputActivity.SyncInputWithAttemptNumber;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.AttemptCreationInput;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.AttemptNumberCreationOutput;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCheckFailureInput;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCreationInput;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCreationOutput;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.ReportJobStartInput;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity.PrepareSyncInput;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity.PrepareSyncOutput;
+import io.airbyte.workers.temporal.scheduling.activities.RouteToSyncTaskQueueActivity.RouteToSyncTaskQueueInput;
+import io.airbyte.workers.temporal.scheduling.activities.RouteToSyncTaskQueueActivity.RouteToSyncTaskQueueOutput;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrepareSyncActivityTest {
+
+  private static final UUID CONNECTION_ID = UUID.randomUUID();
+  private static final long JOB_ID = 12L;
+  private static final int ATTEMPT_NUMBER = 1;
+  private static final String TASK_QUEUE = "SYNC";
+  private static final Map<String, Boolean> FEATURE_FLAGS = Map.of("flag", true);
+  private static final JobInput SYNC_INPUT = new JobInput();
+
+  private JobCreationAndStatusUpdateActivity jobCreationAndStatusUpdateActivity;
+  private JobPersistence jobPersistence;
+  private PrepareSyncActivity prepareSyncActivity;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    final FeatureFlagFetchActivity featureFlagFetchActivity = mock(FeatureFlagFetchActivity.class);
+    final RouteToSyncTaskQueueActivity routeToSyncTaskQueueActivity = mock(RouteToSyncTaskQueueActivity.class);
+    final GenerateInputActivity generateInputActivity = mock(GenerateInputActivity.class);
+    jobCreationAndStatusUpdateActivity = mock(JobCreationAndStatusUpdateActivity.class);
+    jobPersistence = mock(JobPersistence.class);
+    prepareSyncActivity = new PrepareSyncActivityImpl(featureFlagFetchActivity, routeToSyncTaskQueueActivity, jobCreationAndStatusUpdateActivity,
+        generateInputActivity, jobPersistence);
+
+    when(featureFlagFetchActivity.getFeatureFlags(new FeatureFlagFetchInput(CONNECTION_ID)))
+        .thenReturn(new FeatureFlagFetchOutput(FEATURE_FLAGS));
+    when(routeToSyncTaskQueueActivity.routeToSync(new RouteToSyncTaskQueueInput(CONNECTION_ID)))
+        .thenReturn(new RouteToSyncTaskQueueOutput(TASK_QUEUE));
+    when(jobCreationAndStatusUpdateActivity.createNewJob(new JobCreationInput(CONNECTION_ID)))
+        .thenReturn(new JobCreationOutput(JOB_ID));
+    when(jobCreationAndStatusUpdateActivity.createNewAttemptNumber(new AttemptCreationInput(JOB_ID)))
+        .thenReturn(new AttemptNumberCreationOutput(ATTEMPT_NUMBER));
+    when(jobCreationAndStatusUpdateActivity.isLastJobOrAttemptFailure(new JobCheckFailureInput(JOB_ID, ATTEMPT_NUMBER, CONNECTION_ID)))
+        .thenReturn(true);
+    when(generateInputActivity.getSyncWorkflowInputWithAttemptNumber(new SyncInputWithAttemptNumber(ATTEMPT_NUMBER, JOB_ID)))
+        .thenReturn(SYNC_INPUT);
+  }
+
+  @Test
+  void testPrepareSyncCreatesJobAndAttempt() {
+    final PrepareSyncOutput output = prepareSyncActivity.prepareSync(new PrepareSyncInput(CONNECTION_ID, null));
+
+    Assertions.assertEquals(new PrepareSyncOutput(JOB_ID, ATTEMPT_NUMBER, FEATURE_FLAGS, true, SYNC_INPUT, TASK_QUEUE), output);
+    verify(jobCreationAndStatusUpdateActivity).reportJobStart(new ReportJobStartInput(JOB_ID, CONNECTION_ID));
+  }
+
+  @Test
+  void testPrepareSyncCreatesAttemptForExistingJob() throws Exception {
+    when(jobPersistence.listJobsForConnectionWithStatuses(CONNECTION_ID, Job.REPLICATION_TYPES, JobStatus.NON_TERMINAL_STATUSES))
+        .thenReturn(List.of(job(attempt(AttemptStatus.FAILED))));
+
+    final PrepareSyncOutput output = prepareSyncActivity.prepareSync(new PrepareSyncInput(CONNECTION_ID, JOB_ID));
+
+    Assertions.assertEquals(new PrepareSyncOutput(JOB_ID, ATTEMPT_NUMBER, FEATURE_FLAGS, true, SYNC_INPUT, TASK_QUEUE), output);
+    verify(jobCreationAndStatusUpdateActivity, never()).createNewJob(any());
+    verify(jobCreationAndStatusUpdateActivity).createNewAttemptNumber(new AttemptCreationInput(JOB_ID));
+  }
+
+  @Test
+  void testPrepareSyncReusesJobAndAttemptOfPreviousExecution() throws Exception {
+    when(jobPersistence.listJobsForConnectionWithStatuses(CONNECTION_ID, Job.REPLICATION_TYPES, JobStatus.NON_TERMINAL_STATUSES))
+        .thenReturn(List.of(job(attempt(AttemptStatus.RUNNING))));
+
+    final PrepareSyncOutput output = prepareSyncActivity.prepareSync(new PrepareSyncInput(CONNECTION_ID, null));
+
+    Assertions.assertEquals(new PrepareSyncOutput(JOB_ID, ATTEMPT_NUMBER, FEATURE_FLAGS, true, SYNC_INPUT, TASK_QUEUE), output);
+    verify(jobCreationAndStatusUpdateActivity, never()).createNewJob(any());
+    verify(jobCreationAndStatusUpdateActivity, never()).createNewAttemptNumber(any());
+  }
+
+  private static Job job(final Attempt attempt) {
+    return new Job(JOB_ID, ConfigType.SYNC, CONNECTION_ID.toString(), null, List.of(attempt), JobStatus.RUNNING, null, 0L, 0L);
+  }
+
+  private static Attempt attempt(final AttemptStatus status) {
+    final int attemptNumber = status == AttemptStatus.RUNNING ? ATTEMPT_NUMBER : ATTEMPT_NUMBER - 1;
+    return new Attempt(attemptNumber, JOB_ID, Path.of(""), null, null, status, null, null, 0L, 0L, null);
+  }
+
+}